@@ -0,0 +1,152 @@
+package com.kopo_team4.kbbank_backend.domain.account.service;
+
+import com.kopo_team4.kbbank_backend.domain.account.dto.AccountListResponse;
+import com.kopo_team4.kbbank_backend.domain.account.dto.AccountResponse;
+import com.kopo_team4.kbbank_backend.domain.account.entity.Account;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 계좌 목록 응답 매핑 비용 (-prof gc 로 계좌당 할당량 비교)
+ *
+ * - entityThenRebuild: 변경 전 (엔티티 -> AccountResponse 빌더, listNum 부여를 위해 빌더로 다시 생성)
+ * - projection: 변경 후 (조회 행 값으로 AccountResponse 생성자 한 번, listNum은 쿼리에서 부여)
+ *   Hibernate가 생성자 표현식에 넘기는 행 값 배열(Object[])을 그대로 재현
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccountListMappingBenchmark {
+
+    @Param({"5", "50"})
+    private int accounts;
+
+    private List<Account> entities;
+    private List<Object[]> rows;
+
+    @Setup
+    public void setUp() {
+        entities = new ArrayList<>();
+        rows = new ArrayList<>();
+        for (int i = 0; i < accounts; i++) {
+            Account account = Account.builder()
+                    .accountId((long) i)
+                    .accountNum("110-" + (100000000 + i))
+                    .userId("USER_1")
+                    .bankCodeStd("081")
+                    .activityType("1")
+                    .accountType("1")
+                    .accountNumMasked("110-****" + i)
+                    .accountSeq("01")
+                    .accountLocalCode("0000001")
+                    .accountIssueDate("20240101")
+                    .lastTranDate("20240101")
+                    .productName("KB 입출금")
+                    .dormancyYn("N")
+                    .balanceAmt(new BigDecimal("1000000"))
+                    .productId(1L)
+                    .build();
+            entities.add(account);
+            rows.add(new Object[]{
+                    i + 1, account.getBankCodeStd(), account.getActivityType(), account.getAccountType(),
+                    account.getAccountNum(), account.getAccountNumMasked(), account.getAccountSeq(),
+                    account.getAccountLocalCode(), account.getAccountIssueDate(), account.getMaturityDate(),
+                    account.getLastTranDate(), account.getProductName(), account.getProductSubName(),
+                    account.getDormancyYn(), account.getBalanceAmt(), account.getDepositAmt(),
+                    account.getBalanceCalcBasis1(), account.getBalanceCalcBasis2(), account.getInvestmentLinkedYn(),
+                    account.getBankLinkedYn(), account.getBalanceAfterCancelYn(), account.getSavingsBankCode()});
+        }
+    }
+
+    @Benchmark
+    public AccountListResponse entityThenRebuild() {
+        List<AccountResponse> responses = entities.stream()
+                .map(AccountListMappingBenchmark::convertToResponse)
+                .collect(Collectors.toList());
+        for (int i = 0; i < responses.size(); i++) {
+            AccountResponse response = responses.get(i);
+            responses.set(i, AccountResponse.builder()
+                    .listNum(i + 1)
+                    .bankCodeStd(response.getBankCodeStd())
+                    .activityType(response.getActivityType())
+                    .accountType(response.getAccountType())
+                    .accountNum(response.getAccountNum())
+                    .accountNumMasked(response.getAccountNumMasked())
+                    .accountSeq(response.getAccountSeq())
+                    .accountLocalCode(response.getAccountLocalCode())
+                    .accountIssueDate(response.getAccountIssueDate())
+                    .maturityDate(response.getMaturityDate())
+                    .lastTranDate(response.getLastTranDate())
+                    .productName(response.getProductName())
+                    .productSubName(response.getProductSubName())
+                    .dormancyYn(response.getDormancyYn())
+                    .balanceAmt(response.getBalanceAmt())
+                    .depositAmt(response.getDepositAmt())
+                    .balanceCalcBasis1(response.getBalanceCalcBasis1())
+                    .balanceCalcBasis2(response.getBalanceCalcBasis2())
+                    .investmentLinkedYn(response.getInvestmentLinkedYn())
+                    .bankLinkedYn(response.getBankLinkedYn())
+                    .balanceAfterCancelYn(response.getBalanceAfterCancelYn())
+                    .savingsBankCode(response.getSavingsBankCode())
+                    .build());
+        }
+        return AccountListResponse.builder()
+                .accounts(responses)
+                .totalCount(responses.size())
+                .build();
+    }
+
+    @Benchmark
+    public AccountListResponse projection() {
+        List<AccountResponse> responses = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            responses.add(new AccountResponse((Integer) row[0], (String) row[1], (String) row[2], (String) row[3],
+                    (String) row[4], (String) row[5], (String) row[6], (String) row[7], (String) row[8],
+                    (String) row[9], (String) row[10], (String) row[11], (String) row[12], (String) row[13],
+                    (BigDecimal) row[14], (BigDecimal) row[15], (String) row[16], (String) row[17],
+                    (String) row[18], (String) row[19], (String) row[20], (String) row[21]));
+        }
+        return AccountListResponse.builder()
+                .accounts(responses)
+                .totalCount(responses.size())
+                .build();
+    }
+
+    private static AccountResponse convertToResponse(Account account) {
+        return AccountResponse.builder()
+                .bankCodeStd(account.getBankCodeStd())
+                .activityType(account.getActivityType())
+                .accountType(account.getAccountType())
+                .accountNum(account.getAccountNum())
+                .accountNumMasked(account.getAccountNumMasked())
+                .accountSeq(account.getAccountSeq())
+                .accountLocalCode(account.getAccountLocalCode())
+                .accountIssueDate(account.getAccountIssueDate())
+                .maturityDate(account.getMaturityDate())
+                .lastTranDate(account.getLastTranDate())
+                .productName(account.getProductName())
+                .productSubName(account.getProductSubName())
+                .dormancyYn(account.getDormancyYn())
+                .balanceAmt(account.getBalanceAmt())
+                .depositAmt(account.getDepositAmt())
+                .balanceCalcBasis1(account.getBalanceCalcBasis1())
+                .balanceCalcBasis2(account.getBalanceCalcBasis2())
+                .investmentLinkedYn(account.getInvestmentLinkedYn())
+                .bankLinkedYn(account.getBankLinkedYn())
+                .balanceAfterCancelYn(account.getBalanceAfterCancelYn())
+                .savingsBankCode(account.getSavingsBankCode())
+                .build();
+    }
+}
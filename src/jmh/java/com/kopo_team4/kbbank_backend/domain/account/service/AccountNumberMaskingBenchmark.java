@@ -0,0 +1,28 @@
+package com.kopo_team4.kbbank_backend.domain.account.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌번호 마스킹 비용 (하이픈 포함 신규 형식 / 하이픈 없는 기존 형식)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccountNumberMaskingBenchmark {
+
+    @Param({"110-0000001234567", "1101234567890"})
+    private String accountNumber;
+
+    @Benchmark
+    public String mask() {
+        return AccountService.maskAccountNumber(accountNumber);
+    }
+}
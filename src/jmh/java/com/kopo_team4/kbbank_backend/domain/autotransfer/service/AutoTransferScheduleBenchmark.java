@@ -0,0 +1,55 @@
+package com.kopo_team4.kbbank_backend.domain.autotransfer.service;
+
+import com.kopo_team4.kbbank_backend.domain.autotransfer.entity.AutoTransfer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동이체 실행 1건당 일정 계산 비용 (스케줄러가 이체마다 호출)
+ *
+ * - nextTransferDate: 다음 이체 예정일 계산 (다음 달로 넘어가는 매월 / 이번 달 매월 / 매주 스케줄)
+ * - updateInstallmentInfo: 회차/남은 회차 갱신
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AutoTransferScheduleBenchmark {
+
+    @Param({"매월 25일", "매월 31일", "매주 수요일"})
+    private String schedule;
+
+    private final ScheduleParser scheduleParser = new ScheduleParser();
+    private final InstallmentManager installmentManager = new InstallmentManager();
+    private final LocalDate today = LocalDate.of(2024, 1, 26);
+    private AutoTransfer autoTransfer;
+
+    @Setup
+    public void setUp() {
+        autoTransfer = AutoTransfer.builder()
+                .schedule(schedule)
+                .contractDate(LocalDate.of(2023, 3, 25))
+                .lastExecutionDate(LocalDate.of(2023, 12, 25))
+                .totalInstallments(24)
+                .build();
+    }
+
+    @Benchmark
+    public LocalDate nextTransferDate() {
+        return scheduleParser.calculateNextTransferDate(schedule, today);
+    }
+
+    @Benchmark
+    public int updateInstallmentInfo() {
+        installmentManager.updateInstallmentInfo(autoTransfer);
+        return autoTransfer.getRemainingInstallments();
+    }
+}
@@ -0,0 +1,95 @@
+package com.kopo_team4.kbbank_backend.domain.product.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.kopo_team4.kbbank_backend.domain.product.dto.ProductCategoryResponse;
+import com.kopo_team4.kbbank_backend.domain.product.dto.ProductListResponse;
+import com.kopo_team4.kbbank_backend.domain.product.dto.ProductResponse;
+import com.kopo_team4.kbbank_backend.global.dto.ApiResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 목록 응답 처리량: 요청마다 직렬화 vs 응답 바이트 캐시
+ *
+ * - serializePerRequest: 변경 전 (ApiResponse 봉투 생성 + Jackson 직렬화)
+ * - serializeAndGzipPerRequest: 변경 전 + 서버 압축을 켰을 때의 gzip 비용
+ * - cachedBytes: CatalogResponseCache 적중 경로 (초기 세대 ETag "" 로 조회하여 카탈로그 없이 측정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CatalogResponseCacheBenchmark {
+
+    @Param({"50", "500"})
+    private int products;
+
+    private ObjectMapper objectMapper;
+    private List<ProductResponse> catalog;
+    private CatalogResponseCache responseCache;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ProductCategoryResponse category = ProductCategoryResponse.builder()
+                .categoryId(1L)
+                .categoryCode("FUND")
+                .categoryName("펀드")
+                .riskLevel("MEDIUM")
+                .build();
+        catalog = new ArrayList<>();
+        for (long i = 1; i <= products; i++) {
+            catalog.add(ProductResponse.builder()
+                    .productId(i)
+                    .externalProductId("EXT_" + i)
+                    .productCode("P" + i)
+                    .productName("KB 테스트 펀드 " + i)
+                    .category(category)
+                    .productType("FUND")
+                    .expectedReturnRate(new BigDecimal("4.25"))
+                    .minInvestmentAmount(new BigDecimal("100000"))
+                    .maxInvestmentAmount(new BigDecimal("100000000"))
+                    .riskLevel("MEDIUM")
+                    .productStatus("ACTIVE")
+                    .salesStartDate(LocalDate.of(2024, 1, 1))
+                    .productDescription("국내외 채권과 주식에 분산 투자하는 혼합형 펀드입니다.")
+                    .build());
+        }
+        responseCache = new CatalogResponseCache(objectMapper, null);
+        responseCache.get("", "products/active", this::envelope);
+    }
+
+    @Benchmark
+    public byte[] serializePerRequest() {
+        return CatalogResponseCache.EncodedBody.encode(objectMapper, envelope()).identity();
+    }
+
+    @Benchmark
+    public byte[] serializeAndGzipPerRequest() {
+        return CatalogResponseCache.EncodedBody.encode(objectMapper, envelope()).gzip();
+    }
+
+    @Benchmark
+    public byte[] cachedBytes() {
+        return responseCache.get("", "products/active", this::envelope).gzip();
+    }
+
+    private Object envelope() {
+        return ApiResponse.success(ProductListResponse.from(catalog));
+    }
+}
@@ -0,0 +1,67 @@
+package com.kopo_team4.kbbank_backend.domain.product.dto;
+
+import com.kopo_team4.kbbank_backend.domain.product.entity.Product;
+import com.kopo_team4.kbbank_backend.domain.product.entity.ProductCategory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 1건의 응답 매핑 비용 (Product -> ProductResponse, 카테고리 포함)
+ *
+ * 카탈로그 스냅샷 재적재 시 전체 상품에 대해 수행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductResponseMappingBenchmark {
+
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        ProductCategory category = ProductCategory.builder()
+                .categoryId(1L)
+                .categoryCode("SAVINGS")
+                .categoryName("적금")
+                .riskLevel("LOW")
+                .build();
+        product = Product.builder()
+                .productId(1L)
+                .externalProductId("EXT-0001")
+                .productCode("SAV-001")
+                .productName("KB 스타 정기적금")
+                .productSubName("월 적립식")
+                .category(category)
+                .productType("SAVINGS")
+                .baseRate(new BigDecimal("3.10"))
+                .maxRate(new BigDecimal("4.50"))
+                .minInvestmentAmount(new BigDecimal("10000"))
+                .maxInvestmentAmount(new BigDecimal("3000000"))
+                .minPeriodMonths(6)
+                .maxPeriodMonths(36)
+                .riskLevel("LOW")
+                .riskScore(1)
+                .isTaxFree(false)
+                .isGuaranteed(true)
+                .isCompoundInterest(false)
+                .isMonthlyInterest(false)
+                .productStatus("ACTIVE")
+                .salesStartDate(LocalDate.of(2024, 1, 1))
+                .productDescription("매월 일정 금액을 적립하는 정기적금입니다.")
+                .build();
+    }
+
+    @Benchmark
+    public ProductResponse from() {
+        return ProductResponse.from(product);
+    }
+}
@@ -0,0 +1,85 @@
+package com.kopo_team4.kbbank_backend.domain.product.service;
+
+import com.kopo_team4.kbbank_backend.domain.product.dto.ProductCategoryResponse;
+import com.kopo_team4.kbbank_backend.domain.product.dto.ProductResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 전문 검색 지연시간: 2-gram 역색인 vs 전체 상품 문자열 포함 검사
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSearchIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "안정형", "채권", "글로벌", "혼합형", "성장주", "배당", "인덱스", "적립식", "국공채", "회사채",
+            "해외", "국내", "주식", "분산", "투자", "리츠", "원자재", "달러", "단기", "장기"
+    };
+
+    @Param({"1000", "10000"})
+    private int products;
+
+    @Param({"채권", "글로벌 배당"})
+    private String query;
+
+    private List<ProductResponse> catalog;
+    private ProductSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        ProductCategoryResponse category = ProductCategoryResponse.builder()
+                .categoryId(1L)
+                .categoryCode("FUND")
+                .build();
+        catalog = new ArrayList<>();
+        for (int i = 0; i < products; i++) {
+            catalog.add(ProductResponse.builder()
+                    .productId((long) i)
+                    .productName(WORDS[i % WORDS.length] + " " + WORDS[(i / 7) % WORDS.length] + " 펀드 " + i)
+                    .productDescription(WORDS[(i / 3) % WORDS.length] + "에 " + WORDS[(i / 11) % WORDS.length] + "하는 상품입니다.")
+                    .investmentStrategy(WORDS[(i / 13) % WORDS.length] + " 중심 운용")
+                    .category(category)
+                    .riskLevel("MEDIUM")
+                    .productType("FUND")
+                    .productStatus("ACTIVE")
+                    .build());
+        }
+        index = new ProductSearchIndex(catalog, null);
+    }
+
+    @Benchmark
+    public int invertedIndex() {
+        return index.search(query).size();
+    }
+
+    @Benchmark
+    public int linearScan() {
+        String[] terms = query.toLowerCase(Locale.ROOT).split(" ");
+        int matched = 0;
+        for (ProductResponse product : catalog) {
+            String text = (product.getProductName() + " " + product.getProductDescription() + " "
+                    + product.getInvestmentStrategy()).toLowerCase(Locale.ROOT);
+            boolean all = true;
+            for (String term : terms) {
+                all &= text.contains(term);
+            }
+            if (all) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+}
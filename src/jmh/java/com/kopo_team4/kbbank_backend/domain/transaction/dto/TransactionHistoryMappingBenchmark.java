@@ -0,0 +1,65 @@
+package com.kopo_team4.kbbank_backend.domain.transaction.dto;
+
+import com.kopo_team4.kbbank_backend.domain.transaction.entity.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래내역 한 페이지의 응답 매핑 비용 (Transaction -> TransactionHistoryItem)
+ *
+ * 정렬은 조회 쿼리(키셋 페이지)에서 수행하므로 매핑만 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransactionHistoryMappingBenchmark {
+
+    private static final String[] INOUT_TYPES = {"DP", "WD"};
+    private static final String[] TRAN_TYPES = {"TRANSFER", "CASH", "CARD", "ONLINE"};
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private List<Transaction> transactions;
+
+    @Setup
+    public void setUp() {
+        transactions = new ArrayList<>(pageSize);
+        LocalDate day = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < pageSize; i++) {
+            transactions.add(Transaction.builder()
+                    .tranId((long) i)
+                    .accountId(1L)
+                    .tranDate(day.plusDays(i % 28))
+                    .tranTime(String.format("%02d%02d%02d", i % 24, i % 60, (i * 7) % 60))
+                    .inoutType(INOUT_TYPES[i % INOUT_TYPES.length])
+                    .tranType(TRAN_TYPES[i % TRAN_TYPES.length])
+                    .printContent("거래 " + i)
+                    .tranAmt(BigDecimal.valueOf(10_000L + i * 100L))
+                    .afterBalanceAmt(BigDecimal.valueOf(1_000_000L - i * 100L))
+                    .branchName("국민은행")
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<TransactionHistoryItem> page() {
+        List<TransactionHistoryItem> items = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            items.add(TransactionHistoryItem.from(transaction));
+        }
+        return items;
+    }
+}
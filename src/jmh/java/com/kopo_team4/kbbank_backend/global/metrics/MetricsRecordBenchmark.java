@@ -0,0 +1,58 @@
+package com.kopo_team4.kbbank_backend.global.metrics;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건당 지표 기록 비용 (8개 스레드, 경로 20개)
+ *
+ * - histogram: 히스토그램 기록만
+ * - recordRequest: 경로 키 조회 + 히스토그램 기록 (인터셉터가 요청마다 수행하는 작업)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class MetricsRecordBenchmark {
+
+    private static final int ROUTES = 20;
+
+    private LatencyHistogram histogram;
+    private MetricsRegistry metricsRegistry;
+    private String[] routes;
+
+    @Setup
+    public void setUp() {
+        histogram = new LatencyHistogram(TimeUnit.SECONDS.toNanos(60));
+        metricsRegistry = new MetricsRegistry(60);
+        routes = new String[ROUTES];
+        for (int i = 0; i < ROUTES; i++) {
+            routes[i] = "/api/v1/route" + i + "/{id}";
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Benchmark
+    public void histogram(ThreadState state) {
+        histogram.record(state.random.nextLong(100_000, 50_000_000));
+    }
+
+    @Benchmark
+    public void recordRequest(ThreadState state) {
+        metricsRegistry.recordRequest("GET", routes[state.random.nextInt(ROUTES)], "SUCCESS",
+                state.random.nextLong(100_000, 50_000_000));
+    }
+}
@@ -0,0 +1,76 @@
+package com.kopo_team4.kbbank_backend.global.time;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 날짜/시각 변환 비용 (요청마다 포맷터 생성 / 공유 포맷터 / DateCodec)
+ *
+ * 할당량 비교: -prof gc (gc.alloc.rate.norm)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateCodecBenchmark {
+
+    private LocalDate date = LocalDate.of(2024, 1, 31);
+    private LocalDateTime dateTime = LocalDateTime.of(2024, 1, 31, 13, 45, 30);
+    private String text = "20240131";
+
+    @Benchmark
+    public String formatDateInlineFormatter() {
+        return date.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+    }
+
+    @Benchmark
+    public String formatDateSharedFormatter() {
+        return date.format(DateCodec.YYYYMMDD);
+    }
+
+    @Benchmark
+    public String formatDateCodec() {
+        return DateCodec.formatDate(date);
+    }
+
+    @Benchmark
+    public String formatDateTimeInlineFormatter() {
+        return dateTime.format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+    }
+
+    @Benchmark
+    public String formatDateTimeCodec() {
+        return DateCodec.formatDateTime(dateTime);
+    }
+
+    @Benchmark
+    public LocalDate parseDateInlineFormatter() {
+        return LocalDate.parse(text, DateTimeFormatter.ofPattern("yyyyMMdd"));
+    }
+
+    @Benchmark
+    public LocalDate parseDateCodec() {
+        return DateCodec.parseDate(text);
+    }
+
+    /**
+     * 주거래 계좌 비교 키 (기존: LocalDate 생성 후 비교 / 변경: 정수 키)
+     */
+    @Benchmark
+    public int compareKeyLocalDate() {
+        return LocalDate.parse(text, DateCodec.YYYYMMDD).compareTo(LocalDate.MIN);
+    }
+
+    @Benchmark
+    public int compareKeyInt() {
+        return Integer.compare(DateCodec.parseInt(text), DateCodec.INVALID);
+    }
+}
@@ -0,0 +1,85 @@
+package com.kopo_team4.kbbank_backend.scheduler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 계좌 락 비교: 기존 계좌별 ReentrantLock 맵 vs 스트라이프 락 테이블
+ *
+ * 8개 스레드가 accounts 개 계좌 중 임의 계좌의 락을 잡고 짧은 작업을 수행
+ * - accounts=16: 소수 계좌에 경합이 몰리는 경우
+ * - accounts=1000000: 계좌 수가 많아 맵이 계속 커지는 경우
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class AccountLockManagerBenchmark {
+
+    @Param({"16", "1000000"})
+    private int accounts;
+
+    private MapOfLocks mapOfLocks;
+    private AccountLockManager stripedLocks;
+
+    @Setup
+    public void setUp() {
+        mapOfLocks = new MapOfLocks();
+        stripedLocks = new AccountLockManager(1024);
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Benchmark
+    public void mapOfLocks(ThreadState state) {
+        long accountId = state.random.nextInt(accounts);
+        mapOfLocks.executeWithAccountLock(accountId, () -> Blackhole.consumeCPU(64));
+    }
+
+    @Benchmark
+    public void stripedLocks(ThreadState state) {
+        long accountId = state.random.nextInt(accounts);
+        stripedLocks.executeWithAccountLock(accountId, () -> Blackhole.consumeCPU(64));
+    }
+
+    /**
+     * 변경 전 AccountLockManager 구현 (계좌마다 락을 만들고 제거하지 않음)
+     */
+    static class MapOfLocks {
+        private final ConcurrentHashMap<Long, ReentrantLock> accountLocks = new ConcurrentHashMap<>();
+
+        void executeWithAccountLock(Long accountId, Runnable task) {
+            ReentrantLock lock = accountLocks.computeIfAbsent(accountId, k -> new ReentrantLock());
+            try {
+                if (lock.tryLock(30, TimeUnit.SECONDS)) {
+                    try {
+                        task.run();
+                    } finally {
+                        lock.unlock();
+                    }
+                } else {
+                    throw new RuntimeException("계좌 잠금 획득 실패: " + accountId);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("계좌 잠금 대기 중 인터럽트", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.kopo_team4.kbbank_backend.scheduler;
+
+import com.kopo_team4.kbbank_backend.domain.autotransfer.entity.AutoTransfer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * 자동이체 분배기 순차/병렬 실행 비교
+ *
+ * 10만 건의 합성 자동이체(계좌당 4건)를 실행하며, 1건 처리는 DB 왕복을 대신해
+ * ioMicros 만큼 대기하는 것으로 가정
+ * parallelism=1 이 기존 스케줄러와 같은 순차 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AutoTransferDispatcherBenchmark {
+
+    private static final int TRANSFERS = 100_000;
+    private static final int TRANSFERS_PER_ACCOUNT = 4;
+
+    @Param({"1", "4", "8"})
+    private int parallelism;
+
+    @Param({"50"})
+    private int ioMicros;
+
+    private Map<Long, List<AutoTransfer>> transfersByAccount;
+    private AutoTransferDispatcher dispatcher;
+
+    @Setup
+    public void setUp() {
+        List<AutoTransfer> transfers = new ArrayList<>(TRANSFERS);
+        LocalDate today = LocalDate.now();
+        for (long id = 0; id < TRANSFERS; id++) {
+            transfers.add(AutoTransfer.builder()
+                    .autoTransferId(id)
+                    .userId("USER_" + id / TRANSFERS_PER_ACCOUNT)
+                    .fromAccountId(id / TRANSFERS_PER_ACCOUNT)
+                    .fromAccountNumber("110-" + id / TRANSFERS_PER_ACCOUNT)
+                    .toAccountNumber("081-" + id)
+                    .toAccountName("적금")
+                    .toBankCode("081")
+                    .amount(BigDecimal.valueOf(10_000))
+                    .schedule("매월 1일")
+                    .nextTransferDate(today)
+                    .status("ACTIVE")
+                    .contractDate(today.minusMonths(1))
+                    .totalInstallments(12)
+                    .build());
+        }
+        transfersByAccount = transfers.stream()
+                .collect(Collectors.groupingBy(AutoTransfer::getFromAccountId));
+        dispatcher = new AutoTransferDispatcher(new AccountLockManager(), parallelism);
+    }
+
+    @Benchmark
+    public AutoTransferRunSummary dispatch() {
+        long ioNanos = TimeUnit.MICROSECONDS.toNanos(ioMicros);
+        return dispatcher.dispatch(transfersByAccount, transfer -> {
+            LockSupport.parkNanos(ioNanos);
+            return AutoTransferOutcome.SUCCEEDED;
+        });
+    }
+
+    /**
+     * 파라미터 조합마다 만든 작업 스레드 풀 종료
+     */
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        dispatcher.destroy();
+    }
+}
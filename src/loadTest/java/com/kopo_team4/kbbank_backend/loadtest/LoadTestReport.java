@@ -0,0 +1,116 @@
+package com.kopo_team4.kbbank_backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kopo_team4.kbbank_backend.global.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 경로별 측정 결과 (측정 구간에 발송 예정이었던 요청만 집계)
+ *
+ * 지연 시간은 실제 발송 시각이 아닌 예정 발송 시각부터 측정 (서버가 밀려 발송이 늦어진 시간도 포함)
+ */
+final class LoadTestReport {
+
+    private static final double[] QUANTILES = {0.5, 0.99, 0.999};
+
+    private final Map<LoadTestRoute, RouteStats> routes = new EnumMap<>(LoadTestRoute.class);
+    private final Duration duration;
+
+    LoadTestReport(Iterable<LoadTestRoute> measuredRoutes, Duration duration) {
+        this.duration = duration;
+        for (LoadTestRoute route : measuredRoutes) {
+            routes.put(route, new RouteStats());
+        }
+    }
+
+    void success(LoadTestRoute route, long latencyNanos) {
+        routes.get(route).latency.record(latencyNanos);
+    }
+
+    void failure(LoadTestRoute route, long latencyNanos) {
+        RouteStats stats = routes.get(route);
+        stats.latency.record(latencyNanos);
+        stats.errors.increment();
+    }
+
+    void dropped(LoadTestRoute route) {
+        routes.get(route).dropped.increment();
+    }
+
+    /**
+     * 경로별 표 출력
+     */
+    String format() {
+        StringBuilder out = new StringBuilder();
+        String row = "%-38s %9s %8s %8s %10s %10s %10s %10s %10s%n";
+        out.append(String.format(row, "route", "requests", "errors", "dropped", "req/s", "p50(ms)", "p99(ms)",
+                "p999(ms)", "max(ms)"));
+        for (Map<String, Object> summary : summaries()) {
+            out.append(String.format(row, summary.get("route"), summary.get("requests"), summary.get("errors"),
+                    summary.get("dropped"), String.format("%.1f", (double) summary.get("throughput")),
+                    millis(summary.get("p50")), millis(summary.get("p99")), millis(summary.get("p999")),
+                    millis(summary.get("max"))));
+        }
+        return out.toString();
+    }
+
+    /**
+     * JSON 저장 (실행 간 비교용)
+     */
+    void write(Path file, LoadTestSettings settings) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("rate", settings.rate());
+        report.put("durationSeconds", duration.toSeconds());
+        report.put("users", settings.users());
+        report.put("accounts", settings.accounts());
+        report.put("transactionsPerAccount", settings.transactionsPerAccount());
+        report.put("routes", summaries());
+        Files.createDirectories(file.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+    }
+
+    private List<Map<String, Object>> summaries() {
+        List<Map<String, Object>> summaries = new ArrayList<>();
+        double seconds = duration.toNanos() / 1e9;
+        routes.forEach((route, stats) -> {
+            LatencyHistogram.Snapshot snapshot = stats.latency.snapshot();
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("route", route.label());
+            summary.put("requests", snapshot.count());
+            summary.put("errors", stats.errors.sum());
+            summary.put("dropped", stats.dropped.sum());
+            summary.put("throughput", (snapshot.count() - stats.errors.sum()) / seconds);
+            summary.put("p50", snapshot.valueAtQuantile(QUANTILES[0]));
+            summary.put("p99", snapshot.valueAtQuantile(QUANTILES[1]));
+            summary.put("p999", snapshot.valueAtQuantile(QUANTILES[2]));
+            summary.put("max", snapshot.maxNanos());
+            summaries.add(summary);
+        });
+        return summaries;
+    }
+
+    private static String millis(Object nanos) {
+        return String.format("%.2f", ((Number) nanos).longValue() / 1e6);
+    }
+
+    /**
+     * 측정 구간 전체가 한 집계 구간에 들어가도록 구간 길이를 하루로 둠
+     */
+    private static final class RouteStats {
+        private final LatencyHistogram latency = new LatencyHistogram(TimeUnit.DAYS.toNanos(1));
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+    }
+}
@@ -0,0 +1,35 @@
+package com.kopo_team4.kbbank_backend.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 부하 대상 경로
+ */
+enum LoadTestRoute {
+
+    WITHDRAW("withdraw", "POST /api/v1/transactions/withdraw"),
+    DEPOSIT("deposit", "POST /api/v1/transactions/deposit"),
+    HISTORY("history", "POST /api/v1/transactions/history"),
+    ACCOUNT_SEARCH("accountSearch", "POST /api/v1/accounts/search"),
+    PRODUCTS("products", "GET /api/v1/products");
+
+    private final String key;
+    private final String label;
+
+    LoadTestRoute(String key, String label) {
+        this.key = key;
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+
+    static LoadTestRoute of(String key) {
+        return Arrays.stream(values())
+                .filter(route -> route.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 경로입니다: " + key
+                        + " (withdraw, deposit, history, accountSearch, products)"));
+    }
+}
@@ -0,0 +1,67 @@
+package com.kopo_team4.kbbank_backend.loadtest;
+
+import com.kopo_team4.kbbank_backend.KbbankBackendApplication;
+import com.kopo_team4.kbbank_backend.domain.product.service.ProductCatalog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 부하 테스트 실행기 (./gradlew loadTest -PloadTest.rate=500 -PloadTest.durationSeconds=60 ...)
+ *
+ * 순서: 임베디드 H2(MySQL 모드)로 앱 기동 -> 시드 적재 -> 개방형 부하 -> 경로별 p50/p99/p999/처리량 출력
+ * 결과 JSON: build/reports/loadtest/loadtest-yyyyMMdd-HHmmss.json
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private static final DateTimeFormatter REPORT_NAME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        if (settings.users() == 0 || settings.accountsPerUser() == 0) {
+            throw new IllegalArgumentException("loadTest.users / loadTest.accountsPerUser는 1 이상이어야 합니다.");
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(KbbankBackendApplication.class)
+                .profiles("loadtest")
+                .run(args)) {
+            LoadTestSeeder.SeedData seed = new LoadTestSeeder(context.getBean(JdbcTemplate.class)).seed(settings);
+            context.getBean(ProductCatalog.class).refresh();
+
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            URI baseUri = URI.create("http://localhost:" + port);
+            ExecutorService clientExecutor = Executors.newFixedThreadPool(settings.clientThreads());
+            try {
+                HttpClient client = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .executor(clientExecutor)
+                        .build();
+                LoadTestWorkload workload = new LoadTestWorkload(baseUri, seed, settings.mix(), settings.seed());
+                LoadTestReport report = new OpenLoopDriver(client, workload, settings).run();
+
+                Path file = Path.of("build", "reports", "loadtest",
+                        "loadtest-" + LocalDateTime.now().format(REPORT_NAME) + ".json");
+                report.write(file, settings);
+                System.out.println();
+                System.out.print(report.format());
+                System.out.println("결과 저장: " + file.toAbsolutePath());
+            } finally {
+                clientExecutor.shutdownNow();
+            }
+        }
+    }
+}
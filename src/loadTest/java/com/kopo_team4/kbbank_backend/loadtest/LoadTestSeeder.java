@@ -0,0 +1,160 @@
+package com.kopo_team4.kbbank_backend.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시드 데이터 적재 (사용자, 계좌, 거래내역, 상품)
+ *
+ * 기능: JDBC 배치 INSERT로 대량 적재 (거래내역 tranId는 AUTO_INCREMENT로 생성)
+ * 기준: 계좌번호는 110-9xxxxxxxxxxxx (채번기가 발급하는 구간과 겹치지 않음), 잔액은 측정 중 소진되지 않을 만큼 크게
+ */
+@Slf4j
+final class LoadTestSeeder {
+
+    static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000000");
+    private static final int BATCH_SIZE = 1_000;
+    private static final String[] RISK_LEVELS = {"LOW", "MEDIUM", "HIGH"};
+    private static final String[] PRODUCT_TYPES = {"SAVINGS", "DEPOSIT", "FUND"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    LoadTestSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 시드 적재
+     *
+     * @return 부하 요청에 사용할 사용자 CI / 계좌번호
+     */
+    SeedData seed(LoadTestSettings settings) {
+        long startedAt = System.nanoTime();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        String[] userCis = new String[settings.users()];
+        List<Object[]> users = new ArrayList<>(settings.users());
+        for (int u = 0; u < settings.users(); u++) {
+            String suffix = String.format("%010d", u);
+            userCis[u] = "LTCI" + suffix;
+            users.add(new Object[]{"LTUSER" + suffix, userCis[u], "9" + suffix, "부하사용자" + u,
+                    "010-0000-0000", now, now});
+        }
+        batch("INSERT INTO kbbank_user (user_id, user_ci, user_num, username, phone_number, created_at, updated_at)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?)", users);
+
+        long productId = seedProducts(settings.products(), now);
+
+        String[] accountNums = new String[settings.accounts()];
+        List<Object[]> accounts = new ArrayList<>(settings.accounts());
+        for (int a = 0; a < settings.accounts(); a++) {
+            String digits = String.format("9%012d", a);
+            accountNums[a] = "110-" + digits;
+            accounts.add(new Object[]{accountNums[a], "LTUSER" + String.format("%010d", a / settings.accountsPerUser()),
+                    "081", "1", "1", "110-****" + digits.substring(digits.length() - 5),
+                    String.format("%02d", a % settings.accountsPerUser() + 1), "0000001", "20240101", "20240101",
+                    "부하테스트 입출금", "N", INITIAL_BALANCE, productId, now, now});
+        }
+        batch("INSERT INTO kbbank_account (account_num, user_id, bank_code_std, activity_type, account_type,"
+                + " account_num_masked, account_seq, account_local_code, account_issue_date, last_tran_date,"
+                + " product_name, dormancy_yn, balance_amt, product_id, created_at, updated_at)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", accounts);
+
+        long transactions = seedTransactions(settings, accountNums, now);
+
+        log.info("시드 적재 완료 - 사용자: {}, 계좌: {}, 거래내역: {}, 상품: {}, {}ms",
+                settings.users(), settings.accounts(), transactions, settings.products(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return new SeedData(userCis, accountNums, settings.accountsPerUser());
+    }
+
+    /**
+     * 계좌별 거래내역 (최근 일자부터 하루 간격, 입금/출금 교대)
+     *
+     * @return 적재한 거래내역 건수
+     */
+    private long seedTransactions(LoadTestSettings settings, String[] accountNums, Timestamp now) {
+        List<Long> accountIds = jdbcTemplate.queryForList(
+                "SELECT account_id FROM kbbank_account WHERE account_num LIKE '110-9%' ORDER BY account_num", Long.class);
+        LocalDate today = LocalDate.now();
+        long count = 0;
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int a = 0; a < accountIds.size(); a++) {
+            for (int t = 0; t < settings.transactionsPerAccount(); t++) {
+                boolean deposit = t % 2 == 0;
+                count++;
+                rows.add(new Object[]{accountIds.get(a), Date.valueOf(today.minusDays(t)),
+                        String.format("%02d%02d%02d", t % 24, (t * 7) % 60, (t * 13) % 60),
+                        deposit ? "DP" : "WD", "TRANSFER", deposit ? "시드입금" : "시드출금",
+                        BigDecimal.valueOf(10_000), INITIAL_BALANCE, "국민은행", "081", accountNums[a],
+                        "부하사용자", now, now});
+                if (rows.size() == BATCH_SIZE) {
+                    insertTransactions(rows);
+                    rows.clear();
+                }
+            }
+        }
+        insertTransactions(rows);
+        return count;
+    }
+
+    private void insertTransactions(List<Object[]> rows) {
+        batch("INSERT INTO kbbank_transaction (account_id, tran_date, tran_time, inout_type, tran_type,"
+                + " print_content, tran_amt, after_balance_amt, branch_name, wd_bank_code_std, wd_account_num,"
+                + " req_client_name, created_at, updated_at)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    /**
+     * 카테고리 3개와 상품 적재
+     *
+     * @return 시드 계좌에 연결할 상품 ID
+     */
+    private long seedProducts(int products, Timestamp now) {
+        List<Object[]> categories = new ArrayList<>();
+        for (int c = 0; c < PRODUCT_TYPES.length; c++) {
+            categories.add(new Object[]{PRODUCT_TYPES[c], PRODUCT_TYPES[c] + " 상품", RISK_LEVELS[c], now, now});
+        }
+        batch("INSERT INTO kb_bank_product_categories (category_code, category_name, risk_level, created_at, updated_at)"
+                + " VALUES (?, ?, ?, ?, ?)", categories);
+        List<Long> categoryIds = jdbcTemplate.queryForList(
+                "SELECT category_id FROM kb_bank_product_categories ORDER BY category_id", Long.class);
+
+        List<Object[]> rows = new ArrayList<>(Math.max(products, 1));
+        for (int p = 0; p < Math.max(products, 1); p++) {
+            int kind = p % PRODUCT_TYPES.length;
+            rows.add(new Object[]{"LT-" + p, "LT" + p, "부하테스트 상품 " + p, categoryIds.get(kind),
+                    PRODUCT_TYPES[kind], new BigDecimal("3.00"), new BigDecimal("4.00"), new BigDecimal("10000"),
+                    new BigDecimal("100000000"), RISK_LEVELS[kind], "ACTIVE", "부하테스트용 상품입니다.", now, now});
+        }
+        batch("INSERT INTO kb_bank_products (external_product_id, product_code, product_name, category_id,"
+                + " product_type, base_rate, max_rate, min_investment_amount, max_investment_amount, risk_level,"
+                + " product_status, product_description, created_at, updated_at)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        return jdbcTemplate.queryForObject("SELECT MIN(product_id) FROM kb_bank_products", Long.class);
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    /**
+     * 적재된 사용자 CI / 계좌번호 (계좌 a의 소유자는 사용자 a / accountsPerUser)
+     */
+    record SeedData(String[] userCis, String[] accountNums, int accountsPerUser) {
+
+        String userCiOf(int account) {
+            return userCis[account / accountsPerUser];
+        }
+    }
+}
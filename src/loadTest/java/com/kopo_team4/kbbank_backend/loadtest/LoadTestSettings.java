@@ -0,0 +1,75 @@
+package com.kopo_team4.kbbank_backend.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadTest.*, Gradle에서는 -PloadTest.* 로 전달)
+ *
+ * - users / accountsPerUser / transactionsPerAccount / products: 시드 데이터 규모
+ * - rate: 초당 요청 도착 수 (응답 대기와 무관하게 일정 간격으로 발송)
+ * - warmupSeconds / durationSeconds: 예열 구간(집계 제외)과 측정 구간
+ * - mix: 경로별 비중 (예: withdraw=20,deposit=20,history=30,accountSearch=20,products=10)
+ * - maxInFlight: 동시에 대기 중인 요청 상한 (넘으면 발송하지 않고 dropped로 집계)
+ */
+record LoadTestSettings(int users,
+                        int accountsPerUser,
+                        int transactionsPerAccount,
+                        int products,
+                        int rate,
+                        Duration warmup,
+                        Duration duration,
+                        int maxInFlight,
+                        int clientThreads,
+                        Map<LoadTestRoute, Integer> mix,
+                        long seed) {
+
+    private static final String PREFIX = "loadTest.";
+    private static final String DEFAULT_MIX = "withdraw=20,deposit=20,history=30,accountSearch=20,products=10";
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                intOf("users", 1_000),
+                intOf("accountsPerUser", 2),
+                intOf("transactionsPerAccount", 20),
+                intOf("products", 100),
+                intOf("rate", 200),
+                Duration.ofSeconds(intOf("warmupSeconds", 10)),
+                Duration.ofSeconds(intOf("durationSeconds", 30)),
+                intOf("maxInFlight", 2_000),
+                intOf("clientThreads", 8),
+                parseMix(System.getProperty(PREFIX + "mix", DEFAULT_MIX)),
+                Long.getLong(PREFIX + "seed", 42L));
+    }
+
+    int accounts() {
+        return users * accountsPerUser;
+    }
+
+    private static int intOf(String name, int defaultValue) {
+        int value = Integer.getInteger(PREFIX + name, defaultValue);
+        if (value < 0) {
+            throw new IllegalArgumentException(PREFIX + name + "는 0 이상이어야 합니다: " + value);
+        }
+        return value;
+    }
+
+    static Map<LoadTestRoute, Integer> parseMix(String mix) {
+        Map<LoadTestRoute, Integer> weights = new EnumMap<>(LoadTestRoute.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("잘못된 mix 항목입니다 (경로=비중): " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(LoadTestRoute.of(pair[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("mix에 비중이 0보다 큰 경로가 없습니다: " + mix);
+        }
+        return weights;
+    }
+}
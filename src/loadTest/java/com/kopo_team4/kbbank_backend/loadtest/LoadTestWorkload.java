@@ -0,0 +1,117 @@
+package com.kopo_team4.kbbank_backend.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 경로 비중에 따라 요청을 고르고 만드는 워크로드 (발송 스레드 전용)
+ *
+ * 대상 계좌는 시드 계좌 중 균등 선택, 출금/입금의 bankTranId는 요청마다 새로 부여 (멱등성 재응답 방지)
+ */
+final class LoadTestWorkload {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final DateTimeFormatter TRAN_DTIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final URI baseUri;
+    private final LoadTestSeeder.SeedData seed;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SplittableRandom random;
+    private final LoadTestRoute[] routes;
+    private final int[] cumulativeWeights;
+    private long sequence;
+
+    LoadTestWorkload(URI baseUri, LoadTestSeeder.SeedData seed, Map<LoadTestRoute, Integer> mix, long randomSeed) {
+        this.baseUri = baseUri;
+        this.seed = seed;
+        this.random = new SplittableRandom(randomSeed);
+        this.routes = mix.keySet().toArray(new LoadTestRoute[0]);
+        this.cumulativeWeights = new int[routes.length];
+        int total = 0;
+        for (int i = 0; i < routes.length; i++) {
+            total += mix.get(routes[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    LoadTestRoute nextRoute() {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < routes.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return routes[i];
+            }
+        }
+        return routes[routes.length - 1];
+    }
+
+    HttpRequest requestFor(LoadTestRoute route) {
+        int account = random.nextInt(seed.accountNums().length);
+        String accountNum = seed.accountNums()[account];
+        String userCi = seed.userCiOf(account);
+        return switch (route) {
+            case WITHDRAW -> post("/api/v1/transactions/withdraw", body(
+                    "bankTranId", nextBankTranId(),
+                    "userCI", userCi,
+                    "wdAccountNum", accountNum,
+                    "wdBankCodeStd", "081",
+                    "tranAmt", 1_000,
+                    "dpsPrintContent", "부하출금",
+                    "reqClientName", "부하사용자",
+                    "tranDtime", LocalDateTime.now().format(TRAN_DTIME)));
+            case DEPOSIT -> post("/api/v1/transactions/deposit", body(
+                    "bankTranId", nextBankTranId(),
+                    "tranNo", "1",
+                    "reqClientNum", accountNum,
+                    "bankCodeStd", "081",
+                    "tranAmt", 1_000,
+                    "printContent", "부하입금",
+                    "accountHolderName", "부하사용자",
+                    "tranDtime", LocalDateTime.now().format(TRAN_DTIME)));
+            case HISTORY -> post("/api/v1/transactions/history", body(
+                    "userCi", userCi,
+                    "accountNum", accountNum,
+                    "pageSize", 20));
+            case ACCOUNT_SEARCH -> post("/api/v1/accounts/search", body("userCi", userCi));
+            case PRODUCTS -> request("/api/v1/products?page=0&size=20").GET().build();
+        };
+    }
+
+    /**
+     * 오픈뱅킹 거래고유번호 형식 (이용기관코드 + U + 9자리)
+     */
+    private String nextBankTranId() {
+        return String.format("M202300001U%09d", ++sequence % 1_000_000_000L);
+    }
+
+    private HttpRequest post(String path, String json) {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private String body(Object... fields) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        for (int i = 0; i < fields.length; i += 2) {
+            body.put((String) fields[i], fields[i + 1]);
+        }
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.kopo_team4.kbbank_backend.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 개방형(open-loop) 부하 발생기
+ *
+ * 기능: 응답을 기다리지 않고 1/rate 간격의 예정 시각마다 요청을 비동기로 발송
+ * 기준: 발송이 밀리면 밀린 요청을 즉시 연달아 발송 (서버가 느려져도 도착률이 줄지 않음)
+ *       - 지연 시간은 예정 발송 시각부터 응답 수신까지 (coordinated omission 보정)
+ *       - 대기 중 요청이 maxInFlight에 도달하면 발송하지 않고 dropped로 집계
+ */
+@Slf4j
+final class OpenLoopDriver {
+
+    private static final long DRAIN_TIMEOUT_SECONDS = 60;
+
+    private final HttpClient client;
+    private final LoadTestWorkload workload;
+    private final LoadTestSettings settings;
+
+    OpenLoopDriver(HttpClient client, LoadTestWorkload workload, LoadTestSettings settings) {
+        this.client = client;
+        this.workload = workload;
+        this.settings = settings;
+    }
+
+    LoadTestReport run() throws InterruptedException {
+        LoadTestReport report = new LoadTestReport(settings.mix().keySet(), settings.duration());
+        Semaphore inFlight = new Semaphore(settings.maxInFlight());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(settings.rate(), 1);
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmup().toNanos();
+        long end = measureFrom + settings.duration().toNanos();
+
+        log.info("부하 시작 - rate: {}/s, 예열: {}s, 측정: {}s", settings.rate(),
+                settings.warmup().toSeconds(), settings.duration().toSeconds());
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended - end >= 0) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            LoadTestRoute route = workload.nextRoute();
+            boolean measured = intended - measureFrom >= 0;
+            if (!inFlight.tryAcquire()) {
+                if (measured) {
+                    report.dropped(route);
+                }
+                continue;
+            }
+            HttpRequest request = workload.requestFor(route);
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long latency = System.nanoTime() - intended;
+                        inFlight.release();
+                        if (!measured) {
+                            return;
+                        }
+                        if (error == null && response.statusCode() < 400) {
+                            report.success(route, latency);
+                        } else {
+                            report.failure(route, latency);
+                        }
+                    });
+        }
+
+        if (!inFlight.tryAcquire(settings.maxInFlight(), DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("응답 대기 시간 초과 - 미완료 요청: {}", settings.maxInFlight() - inFlight.availablePermits());
+        }
+        return report;
+    }
+}
@@ -14,6 +14,9 @@ import com.kopo_team4.kbbank_backend.domain.account.dto.AccountSubscriptionReque
 import com.kopo_team4.kbbank_backend.domain.account.dto.AccountSubscriptionResponse;
 import com.kopo_team4.kbbank_backend.domain.account.dto.AccountProfitInfoResponse;
 import com.kopo_team4.kbbank_backend.domain.account.service.AccountService;
+import com.kopo_team4.kbbank_backend.global.audit.AuditEventType;
+import com.kopo_team4.kbbank_backend.global.audit.AuditLog;
+import com.kopo_team4.kbbank_backend.global.audit.AuditOutcome;
 import com.kopo_team4.kbbank_backend.global.dto.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +31,7 @@ import jakarta.validation.Valid;
 public class AccountController {
     
     private final AccountService accountService;
+    private final AuditLog auditLog;
     
     /**
      * 사용자 CI로 계좌 목록 조회 API (POST 방식)
@@ -169,18 +173,19 @@ public class AccountController {
     public ResponseEntity<ApiResponse<AccountSubscriptionResponse>> subscribeProduct(
             @Valid @RequestBody AccountSubscriptionRequest request) {
         
-        log.info("상품 가입 요청 - 상품ID: {}, 사용자: {}, 금액: {}", 
-                request.getProductId(), request.getUserCi(), request.getAmount());
-        
+        long startedAt = System.nanoTime();
         try {
             AccountSubscriptionResponse response = accountService.subscribeProduct(request);
-            log.info("상품 가입 성공 - 계좌번호: {}", response.getAccountNumber());
+            auditLog.record(AuditEventType.SUBSCRIPTION, AuditOutcome.SUCCESS, response.getAccountNumber(),
+                    request.getAmount(), request.getProductId(), response.getSubscriptionId(), startedAt, null);
             return ResponseEntity.ok(ApiResponse.success(response));
         } catch (IllegalArgumentException e) {
+            auditSubscriptionFailure(request, startedAt, e);
             log.warn("상품 가입 실패 - 잘못된 요청: {}", e.getMessage());
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
+            auditSubscriptionFailure(request, startedAt, e);
             log.error("상품 가입 중 오류 발생", e);
             return ResponseEntity.internalServerError()
                     .body(ApiResponse.error("상품 가입 중 오류가 발생했습니다."));
@@ -211,4 +216,9 @@ public class AccountController {
                     .body(ApiResponse.error("계좌 수익 정보 조회 중 오류가 발생했습니다."));
         }
     }
-} 
\ No newline at end of file
+    
+    private void auditSubscriptionFailure(AccountSubscriptionRequest request, long startedAt, Exception e) {
+        auditLog.record(AuditEventType.SUBSCRIPTION, AuditOutcome.of(e), null,
+                request.getAmount(), request.getProductId(), null, startedAt, e.getMessage());
+    }
+}
@@ -0,0 +1,59 @@
+package com.kopo_team4.kbbank_backend.domain.account.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 주거래 계좌 (선택 결과를 유지하는 테이블)
+ *
+ * 기능: 주거래 계좌 ID와 선택 당시의 순위 키(계좌 유형, 최근 거래일, 잔액, 개설일)를 저장
+ * 기준: 순위 키는 다른 계좌와 비교할 때 계좌를 다시 읽지 않기 위해 보관 (MainAccountRank 참고)
+ */
+@Entity
+@Table(name = "kbbank_main_account")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MainAccount {
+    @Id
+    @Column(name = "user_id", length = 255)
+    private String userId;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "account_type", nullable = false, length = 1)
+    private String accountType;
+
+    @Column(name = "last_tran_date", length = 8)
+    private String lastTranDate;
+
+    @Column(name = "balance_amt", precision = 15, scale = 2)
+    private BigDecimal balanceAmt;
+
+    @Column(name = "account_issue_date", length = 8)
+    private String accountIssueDate;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * 주거래 계좌 변경 (또는 같은 계좌의 순위 키 갱신)
+     */
+    public void select(Account account) {
+        this.accountId = account.getAccountId();
+        this.accountType = account.getAccountType();
+        this.lastTranDate = account.getLastTranDate();
+        this.balanceAmt = account.getBalanceAmt();
+        this.accountIssueDate = account.getAccountIssueDate();
+    }
+}
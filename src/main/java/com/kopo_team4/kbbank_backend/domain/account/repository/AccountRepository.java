@@ -1,5 +1,6 @@
 package com.kopo_team4.kbbank_backend.domain.account.repository;
 
+import com.kopo_team4.kbbank_backend.domain.account.dto.AccountResponse;
 import com.kopo_team4.kbbank_backend.domain.account.entity.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
@@ -11,22 +12,46 @@ import org.springframework.stereotype.Repository;
 import jakarta.persistence.LockModeType;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
+    /**
+     * 계좌 목록 응답 프로젝션 (엔티티 없이 AccountResponse 생성자로 직접 조회)
+     * listNum은 ROW_NUMBER() 윈도 함수로 계좌 ID 순서대로 부여
+     */
+    String ACCOUNT_RESPONSE_SELECT = "SELECT new com.kopo_team4.kbbank_backend.domain.account.dto.AccountResponse(" +
+            "cast(row_number() over (order by a.accountId) as Integer), " +
+            "a.bankCodeStd, a.activityType, a.accountType, a.accountNum, a.accountNumMasked, a.accountSeq, " +
+            "a.accountLocalCode, a.accountIssueDate, a.maturityDate, a.lastTranDate, a.productName, " +
+            "a.productSubName, a.dormancyYn, a.balanceAmt, a.depositAmt, a.balanceCalcBasis1, " +
+            "a.balanceCalcBasis2, a.investmentLinkedYn, a.bankLinkedYn, a.balanceAfterCancelYn, " +
+            "a.savingsBankCode) " +
+            "FROM Account a " +
+            "JOIN com.kopo_team4.kbbank_backend.domain.user.entity.User u ON a.userId = u.userId ";
+
     List<Account> findByUserId(String userId);
 
-    Optional<Account> findByUserIdAndAccountNum(String userId, String accountNum);
+    List<Account> findByUserIdInOrderByAccountId(Collection<String> userIds);
 
-    Optional<Account> findByAccountNum(String accountNum);
+    /**
+     * 사용자 CI로 계좌 목록 응답 조회 (사용자 조인 + 프로젝션, 한 번의 쿼리)
+     */
+    @Query(ACCOUNT_RESPONSE_SELECT + "WHERE u.userCi = :userCi ORDER BY a.accountId")
+    List<AccountResponse> findAccountResponsesByUserCi(@Param("userCi") String userCi);
 
     /**
-     * 계좌번호 존재 여부 확인
+     * 사용자 번호로 계좌 목록 응답 조회 (사용자 조인 + 프로젝션, 한 번의 쿼리)
      */
-    boolean existsByAccountNum(String accountNum);
+    @Query(ACCOUNT_RESPONSE_SELECT + "WHERE u.userNum = :userNum ORDER BY a.accountId")
+    List<AccountResponse> findAccountResponsesByUserNum(@Param("userNum") String userNum);
+
+    Optional<Account> findByUserIdAndAccountNum(String userId, String accountNum);
+
+    Optional<Account> findByAccountNum(String accountNum);
 
     /**
      * 계좌 잔액 업데이트
@@ -35,6 +60,41 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     @Query("UPDATE Account a SET a.balanceAmt = :newBalance WHERE a.accountId = :accountId")
     int updateAccountBalance(@Param("accountId") Long accountId, @Param("newBalance") BigDecimal newBalance);
 
+    /**
+     * 출금 잔액 차감 (단일 조건부 UPDATE)
+     * 사용자 CI 소유 계좌이면서 잔액이 충분한 경우에만 차감하므로 동시 출금 시에도 갱신 유실이 없음
+     *
+     * @return 차감된 행 수 (0이면 사용자/계좌 불일치 또는 잔액 부족)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Account a SET a.balanceAmt = a.balanceAmt - :amount " +
+           "WHERE a.accountNum = :accountNum AND a.balanceAmt >= :amount " +
+           "AND a.userId IN (SELECT u.userId FROM com.kopo_team4.kbbank_backend.domain.user.entity.User u " +
+           "WHERE u.userCi = :userCi)")
+    int withdrawBalance(@Param("userCi") String userCi,
+                        @Param("accountNum") String accountNum,
+                        @Param("amount") BigDecimal amount);
+
+    /**
+     * 자동이체 출금 잔액 차감 (계좌 ID 기준 단일 UPDATE)
+     * 호출자 트랜잭션이 잠가 둔 자동이체 엔티티가 분리되지 않도록 영속성 컨텍스트는 비우지 않음
+     *
+     * @return 차감된 행 수 (0이면 존재하지 않는 계좌 또는 잔액 부족)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Account a SET a.balanceAmt = a.balanceAmt - :amount " +
+           "WHERE a.accountId = :accountId AND a.balanceAmt >= :amount")
+    int withdrawBalanceById(@Param("accountId") Long accountId, @Param("amount") BigDecimal amount);
+
+    /**
+     * 입금 잔액 증가 (단일 UPDATE)
+     *
+     * @return 증가된 행 수 (0이면 존재하지 않는 계좌)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Account a SET a.balanceAmt = a.balanceAmt + :amount WHERE a.accountNum = :accountNum")
+    int depositBalance(@Param("accountNum") String accountNum, @Param("amount") BigDecimal amount);
+
     /**
      * 계좌번호로 계좌 정보와 계좌주명(username) 조회 (오픈뱅킹용)
      * Account 엔티티와 User 엔티티를 조인하여 계좌주명을 함께 조회
@@ -45,13 +105,23 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     Optional<Object[]> findAccountWithUsernameByAccountNum(@Param("accountNum") String accountNum);
 
     /**
-     * 계좌번호와 은행코드로 계좌 정보와 계좌주명 조회 (추가 검증용)
+     * 계좌번호와 은행코드로 계좌 소유자 ID와 계좌주명 조회 (계좌주명 조회 API)
+     * 사용자가 없는 계좌도 구분할 수 있도록 LEFT JOIN (username이 null)
      */
-    @Query("SELECT a, u.username FROM Account a " +
-           "JOIN com.kopo_team4.kbbank_backend.domain.user.entity.User u ON a.userId = u.userId " +
+    @Query("SELECT a.userId AS userId, u.username AS username FROM Account a " +
+           "LEFT JOIN com.kopo_team4.kbbank_backend.domain.user.entity.User u ON a.userId = u.userId " +
            "WHERE a.accountNum = :accountNum AND a.bankCodeStd = :bankCode")
-    Optional<Object[]> findAccountWithUsernameByAccountNumAndBankCode(@Param("accountNum") String accountNum, 
-                                                                      @Param("bankCode") String bankCode);
+    Optional<AccountHolder> findAccountWithUsernameByAccountNumAndBankCode(@Param("accountNum") String accountNum,
+                                                                          @Param("bankCode") String bankCode);
+
+    /**
+     * 계좌 소유자 프로젝션
+     */
+    interface AccountHolder {
+        String getUserId();
+
+        String getUsername();
+    }
 
     /**
      * 계좌 수익률 업데이트 (펀드용)
@@ -0,0 +1,30 @@
+package com.kopo_team4.kbbank_backend.domain.account.repository;
+
+import com.kopo_team4.kbbank_backend.domain.account.entity.Account;
+import com.kopo_team4.kbbank_backend.domain.account.entity.MainAccount;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MainAccountRepository extends JpaRepository<MainAccount, String> {
+
+    /**
+     * 사용자의 주거래 계좌 조회 (주거래 계좌 PK + 계좌 PK 조인)
+     */
+    @Query("SELECT a FROM MainAccount m JOIN Account a ON a.accountId = m.accountId WHERE m.userId = :userId")
+    Optional<Account> findMainAccountByUserId(@Param("userId") String userId);
+
+    /**
+     * 계좌는 있지만 주거래 계좌가 정해지지 않은 사용자 ID (백필 대상)
+     */
+    @Query("SELECT DISTINCT a.userId FROM Account a " +
+           "WHERE NOT EXISTS (SELECT 1 FROM MainAccount m WHERE m.userId = a.userId) " +
+           "ORDER BY a.userId")
+    List<String> findUserIdsWithoutMainAccount(Pageable pageable);
+}
@@ -0,0 +1,107 @@
+package com.kopo_team4.kbbank_backend.domain.account.service;
+
+import com.kopo_team4.kbbank_backend.domain.account.entity.Account;
+import com.kopo_team4.kbbank_backend.domain.account.repository.AccountRepository;
+import com.kopo_team4.kbbank_backend.domain.user.entity.User;
+import com.kopo_team4.kbbank_backend.domain.user.service.UserCache;
+import com.kopo_team4.kbbank_backend.global.exception.InsufficientBalanceException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+/**
+ * 계좌 잔액 변경 컴포넌트
+ *
+ * 기능: 잔액을 Java에서 계산하지 않고 DB에서 증감(delta) UPDATE 한 번으로 반영한 뒤
+ *       변경 후 계좌 정보(사후 이미지)를 반환
+ * 기준: UPDATE가 행 잠금을 잡은 상태에서 같은 트랜잭션 안에서 다시 읽으므로
+ *       반환되는 잔액은 이번 요청이 반영된 값과 정확히 일치
+ *       - 변경 후 계좌로 주거래 계좌 선택을 같은 트랜잭션에서 갱신
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional
+public class AccountBalanceManager {
+
+    private final AccountRepository accountRepository;
+    private final UserCache userCache;
+    private final MainAccountService mainAccountService;
+
+    /**
+     * 출금 (잔액 차감)
+     *
+     * @param userCi 사용자 CI (계좌 소유권 검증용)
+     * @param accountNum 출금 계좌번호
+     * @param amount 출금 금액 (0보다 커야 함)
+     * @return 차감 후 계좌 정보
+     * @throws IllegalArgumentException 사용자/계좌가 없거나 잔액이 부족한 경우
+     */
+    public Account withdraw(String userCi, String accountNum, BigDecimal amount) {
+        int updatedRows = accountRepository.withdrawBalance(userCi, accountNum, amount);
+        if (updatedRows != 1) {
+            throw resolveWithdrawFailure(userCi, accountNum);
+        }
+        return loadPostImage(accountNum);
+    }
+
+    /**
+     * 자동이체 출금 (계좌 ID 기준 잔액 차감)
+     * 차감 후 계좌는 같은 트랜잭션에서 처음 읽으므로 반영된 잔액이 조회됨
+     * (호출자는 차감 전에 해당 계좌 엔티티를 읽어 두지 않아야 함)
+     *
+     * @param accountId 출금 계좌 ID
+     * @param amount 출금 금액 (0보다 커야 함)
+     * @return 차감 후 계좌 정보
+     * @throws IllegalArgumentException 계좌가 존재하지 않는 경우
+     * @throws InsufficientBalanceException 잔액이 부족한 경우
+     */
+    public Account withdrawById(Long accountId, BigDecimal amount) {
+        int updatedRows = accountRepository.withdrawBalanceById(accountId, amount);
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new IllegalArgumentException("계좌를 찾을 수 없습니다."));
+        if (updatedRows != 1) {
+            throw new InsufficientBalanceException("잔액이 부족합니다.");
+        }
+        mainAccountService.onAccountChanged(account);
+        return account;
+    }
+
+    /**
+     * 입금 (잔액 증가)
+     *
+     * @param accountNum 입금 계좌번호
+     * @param amount 입금 금액 (0보다 커야 함)
+     * @return 증가 후 계좌 정보
+     * @throws IllegalArgumentException 계좌가 존재하지 않는 경우
+     */
+    public Account deposit(String accountNum, BigDecimal amount) {
+        int updatedRows = accountRepository.depositBalance(accountNum, amount);
+        if (updatedRows != 1) {
+            throw new IllegalArgumentException("해당 계좌가 존재하지 않습니다.");
+        }
+        return loadPostImage(accountNum);
+    }
+
+    private Account loadPostImage(String accountNum) {
+        Account account = accountRepository.findByAccountNum(accountNum)
+                .orElseThrow(() -> new IllegalStateException("계좌 잔액 업데이트에 실패했습니다."));
+        mainAccountService.onAccountChanged(account);
+        return account;
+    }
+
+    /**
+     * 출금 실패 원인 판별 (실패 시에만 추가 조회)
+     */
+    private IllegalArgumentException resolveWithdrawFailure(String userCi, String accountNum) {
+        User user = userCache.findByUserCi(userCi).orElse(null);
+        if (user == null) {
+            return new IllegalArgumentException("존재하지 않는 사용자입니다.");
+        }
+        if (accountRepository.findByUserIdAndAccountNum(user.getUserId(), accountNum).isEmpty()) {
+            return new IllegalArgumentException("해당 계좌가 존재하지 않거나 권한이 없습니다.");
+        }
+        return new IllegalArgumentException("잔액이 부족합니다.");
+    }
+}
@@ -0,0 +1,138 @@
+package com.kopo_team4.kbbank_backend.domain.account.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kopo_team4.kbbank_backend.domain.account.repository.AccountRepository;
+import com.kopo_team4.kbbank_backend.global.cache.CacheStatsSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 계좌주명 조회 캐시 (은행코드 + 계좌번호)
+ *
+ * 기능: 계좌 + 사용자 조인 조회 결과를 인메모리에 보관하여 이체 전 계좌주 확인을 DB 조회 없이 처리
+ * 기준: 최대 건수와 만료 시간으로 제한 (cache.account-holder.*)
+ *       - 없는 계좌 / 계좌주명을 확인할 수 없는 계좌도 짧은 TTL로 캐시 (반복 오입력/대입 조회가 매번 DB로 가지 않도록)
+ *       - 부정 결과는 별도의 작은 캐시에 보관 (대입 조회가 몰려도 실제 계좌주명 항목이 밀려나지 않도록)
+ *       - 계좌 생성 시 해당 계좌번호, 사용자 수정/삭제 시 해당 사용자의 계좌를 무효화 (트랜잭션 커밋 후 한 번 더)
+ */
+@Component
+@Slf4j
+public class AccountHolderNameCache {
+
+    private final AccountRepository accountRepository;
+    private final Cache<Key, Holder> holders;
+    private final Cache<Key, Holder> negatives;
+
+    private record Key(String bankCode, String accountNum) {
+    }
+
+    /**
+     * 조회 결과 (계좌가 없으면 userId == null, 사용자가 없으면 username == null)
+     */
+    public record Holder(String userId, String username) {
+
+        static final Holder NOT_FOUND = new Holder(null, null);
+
+        public boolean accountExists() {
+            return userId != null;
+        }
+
+        public boolean hasUsername() {
+            return username != null && !username.isBlank();
+        }
+    }
+
+    public AccountHolderNameCache(AccountRepository accountRepository,
+                                  @Value("${cache.account-holder.maximum-size:50000}") long maximumSize,
+                                  @Value("${cache.account-holder.expire-after-write-seconds:300}") long expireSeconds,
+                                  @Value("${cache.account-holder.negative-maximum-size:5000}") long negativeMaximumSize,
+                                  @Value("${cache.account-holder.negative-expire-after-write-seconds:10}") long negativeExpireSeconds) {
+        this.accountRepository = accountRepository;
+        this.holders = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats()
+                .build();
+        this.negatives = Caffeine.newBuilder()
+                .maximumSize(negativeMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(negativeExpireSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public Holder find(String bankCode, String accountNum) {
+        Key key = new Key(bankCode, accountNum);
+        Holder holder = holders.getIfPresent(key);
+        if (holder == null) {
+            holder = negatives.getIfPresent(key);
+        }
+        if (holder != null) {
+            return holder;
+        }
+        holder = accountRepository.findAccountWithUsernameByAccountNumAndBankCode(accountNum, bankCode)
+                .map(row -> new Holder(row.getUserId(), row.getUsername()))
+                .orElse(Holder.NOT_FOUND);
+        (holder.hasUsername() ? holders : negatives).put(key, holder);
+        return holder;
+    }
+
+    /**
+     * 계좌번호 무효화 (계좌 생성 시 - 이전에 캐시된 "없는 계좌" 결과 제거)
+     */
+    public void invalidateAccount(String accountNum) {
+        invalidateIf(key -> key.accountNum().equals(accountNum), holder -> false);
+        log.debug("계좌주명 캐시 무효화 - accountNum: {}", accountNum);
+    }
+
+    /**
+     * 사용자 계좌 무효화 (계좌주명 변경 / 사용자 삭제 시)
+     */
+    public void invalidateUser(String userId) {
+        invalidateIf(key -> false, holder -> userId.equals(holder.userId()));
+        log.debug("계좌주명 캐시 무효화 - userId: {}", userId);
+    }
+
+    /**
+     * 계좌주명 캐시 통계 스냅샷
+     */
+    public CacheStatsSnapshot getStats() {
+        return CacheStatsSnapshot.of(holders);
+    }
+
+    /**
+     * 없는 계좌 / 계좌주명 미확인 캐시 통계 스냅샷
+     */
+    public CacheStatsSnapshot getNegativeStats() {
+        return CacheStatsSnapshot.of(negatives);
+    }
+
+    /**
+     * 즉시 + 진행 중인 트랜잭션이 있으면 커밋 후 한 번 더 무효화 (UserCache와 동일)
+     * 사용자 변경은 드물기 때문에 전체 항목을 확인하여 제거
+     */
+    private void invalidateIf(Predicate<Key> byKey, Predicate<Holder> byHolder) {
+        Runnable invalidation = () -> {
+            for (Cache<Key, Holder> cache : List.of(holders, negatives)) {
+                cache.asMap().entrySet()
+                        .removeIf(entry -> byKey.test(entry.getKey()) || byHolder.test(entry.getValue()));
+            }
+        };
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.kopo_team4.kbbank_backend.domain.account.service;
+
+import com.kopo_team4.kbbank_backend.global.sequence.SequenceBlockAllocator;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 계좌번호 채번기 (일반 계좌 / IRP 계좌 공용)
+ *
+ * 기능: kbbank_id_sequence에서 예약한 번호 구간으로 계좌번호를 발급 (존재 여부 조회 없음)
+ * 기준: 형식은 "접두 3자리-일련번호 12자리 + 검증 숫자 1자리" (예: 110-0000000000013)
+ *       - 일련번호는 접두와 무관하게 하나의 시퀀스에서 발급되므로 스레드/인스턴스 간 중복 없음
+ *       - 검증 숫자는 Damm 방식, 한 자리 오입력과 인접 숫자 뒤바뀜을 모두 검출
+ *         (Luhn은 09 <-> 90 뒤바뀜을 검출하지 못함)
+ *       - 기동 시 기존(타임스탬프 기반) 계좌번호의 앞 12자리 이후로 시퀀스를 보정
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccountNumberAllocator {
+
+    static final String SEQUENCE_NAME = "kbbank_account_number";
+
+    private static final int SERIAL_DIGITS = 12;
+    private static final long SERIAL_LIMIT = 1_000_000_000_000L;
+
+    /**
+     * Damm 연산표 (대각선이 0인 10차 전순환 준군)
+     */
+    private static final int[][] DAMM_TABLE = {
+            {0, 3, 1, 7, 5, 9, 8, 6, 4, 2},
+            {7, 0, 9, 2, 1, 5, 4, 8, 6, 3},
+            {4, 2, 0, 6, 8, 7, 1, 3, 5, 9},
+            {1, 7, 5, 0, 9, 8, 3, 4, 2, 6},
+            {6, 1, 2, 3, 0, 4, 5, 9, 7, 8},
+            {3, 6, 7, 4, 2, 0, 9, 5, 8, 1},
+            {5, 8, 6, 9, 7, 2, 0, 1, 3, 4},
+            {8, 9, 4, 5, 3, 6, 2, 0, 1, 7},
+            {9, 4, 3, 8, 6, 1, 7, 2, 0, 5},
+            {2, 5, 8, 1, 4, 3, 6, 7, 9, 0}
+    };
+
+    private final SequenceBlockAllocator sequenceBlockAllocator;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${account.number.block-size:100}")
+    private int blockSize;
+
+    /**
+     * 기동 시 채번 시퀀스를 기존 계좌번호의 일련번호 구간 이후로 보정
+     * "XXX-" 다음 13자리 숫자 형식의 계좌번호만 대상 (앞 12자리를 일련번호로 간주)
+     */
+    @PostConstruct
+    void alignSequence() {
+        String maxSerial = jdbcTemplate.queryForObject(
+                "SELECT MAX(SUBSTRING(account_num, 5, 12)) FROM kbbank_account"
+                        + " WHERE account_num LIKE '___-_____________'", String.class);
+        long floor = 1;
+        if (maxSerial != null && maxSerial.chars().allMatch(Character::isDigit)) {
+            floor = Long.parseLong(maxSerial) + 1;
+        }
+        sequenceBlockAllocator.ensureAtLeast(SEQUENCE_NAME, floor);
+    }
+
+    /**
+     * 계좌번호 발급
+     *
+     * @param prefix 계좌번호 앞 3자리 (예: 일반 계좌 110, IRP 계좌 081)
+     * @return 한 번도 발급되지 않은 계좌번호 (하이픈 포함 17자리)
+     */
+    public String allocate(String prefix) {
+        long serial = sequenceBlockAllocator.next(SEQUENCE_NAME, blockSize);
+        if (serial >= SERIAL_LIMIT) {
+            throw new IllegalStateException("계좌번호 일련번호가 모두 소진되었습니다.");
+        }
+        String digits = String.format("%0" + SERIAL_DIGITS + "d", serial);
+        return prefix + "-" + digits + checkDigit(digits);
+    }
+
+    /**
+     * 검증 숫자가 올바른 계좌번호인지 확인 (하이픈 뒤 13자리 기준)
+     */
+    static boolean isValid(String accountNum) {
+        int hyphen = accountNum.indexOf('-');
+        String body = accountNum.substring(hyphen + 1);
+        if (body.length() != SERIAL_DIGITS + 1 || !body.chars().allMatch(Character::isDigit)) {
+            return false;
+        }
+        return checkDigit(body.substring(0, SERIAL_DIGITS)) == body.charAt(SERIAL_DIGITS) - '0';
+    }
+
+    /**
+     * Damm 검증 숫자 (왼쪽 자리부터 연산표를 따라간 중간값, 검증 숫자까지 넣으면 0)
+     */
+    static int checkDigit(String digits) {
+        int interim = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            interim = DAMM_TABLE[interim][digits.charAt(i) - '0'];
+        }
+        return interim;
+    }
+}
@@ -17,9 +17,10 @@ import com.kopo_team4.kbbank_backend.domain.account.dto.AccountProfitInfoRespons
 import com.kopo_team4.kbbank_backend.domain.account.entity.Account;
 import com.kopo_team4.kbbank_backend.domain.account.repository.AccountRepository;
 import com.kopo_team4.kbbank_backend.domain.user.entity.User;
-import com.kopo_team4.kbbank_backend.domain.user.repository.UserRepository;
+import com.kopo_team4.kbbank_backend.domain.user.service.UserCache;
 import com.kopo_team4.kbbank_backend.domain.product.entity.Product;
 import com.kopo_team4.kbbank_backend.domain.product.repository.ProductRepository;
+import com.kopo_team4.kbbank_backend.global.time.DateCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -29,12 +30,8 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -42,102 +39,44 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class AccountService {
     
+    // 일반 계좌 계좌번호 앞 3자리
+    private static final String ACCOUNT_NUMBER_PREFIX = "110";
+    
     private final AccountRepository accountRepository;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
     private final ProductRepository productRepository;
+    private final MainAccountService mainAccountService;
+    private final AccountHolderNameCache accountHolderNameCache;
+    private final AccountNumberAllocator accountNumberAllocator;
     
+    /**
+     * 사용자 CI로 계좌 목록 조회
+     * 사용자 조인 + 응답 프로젝션 한 번의 쿼리로 조회 (계좌가 없을 때만 사용자 존재 여부 확인)
+     */
     public AccountListResponse getAccountsByUserCi(String userCi) {
-        // 1. CI로 사용자 조회
-        User user = userRepository.findByUserCi(userCi)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-        
-        // 2. 사용자 ID로 계좌 조회
-        List<Account> accounts = accountRepository.findByUserId(user.getUserId());
-        
-        List<AccountResponse> accountResponses = accounts.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
-        
-        // 목록 순번 설정
-        for (int i = 0; i < accountResponses.size(); i++) {
-            AccountResponse response = accountResponses.get(i);
-            accountResponses.set(i, AccountResponse.builder()
-                    .listNum(i + 1)
-                    .bankCodeStd(response.getBankCodeStd())
-                    .activityType(response.getActivityType())
-                    .accountType(response.getAccountType())
-                    .accountNum(response.getAccountNum())
-                    .accountNumMasked(response.getAccountNumMasked())
-                    .accountSeq(response.getAccountSeq())
-                    .accountLocalCode(response.getAccountLocalCode())
-                    .accountIssueDate(response.getAccountIssueDate())
-                    .maturityDate(response.getMaturityDate())
-                    .lastTranDate(response.getLastTranDate())
-                    .productName(response.getProductName())
-                    .productSubName(response.getProductSubName())
-                    .dormancyYn(response.getDormancyYn())
-                    .balanceAmt(response.getBalanceAmt())
-                    .depositAmt(response.getDepositAmt())
-                    .balanceCalcBasis1(response.getBalanceCalcBasis1())
-                    .balanceCalcBasis2(response.getBalanceCalcBasis2())
-                    .investmentLinkedYn(response.getInvestmentLinkedYn())
-                    .bankLinkedYn(response.getBankLinkedYn())
-                    .balanceAfterCancelYn(response.getBalanceAfterCancelYn())
-                    .savingsBankCode(response.getSavingsBankCode())
-                    .build());
+        List<AccountResponse> accountResponses = accountRepository.findAccountResponsesByUserCi(userCi);
+        if (accountResponses.isEmpty() && userCache.findByUserCi(userCi).isEmpty()) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
         }
-        
-        return AccountListResponse.builder()
-                .accounts(accountResponses)
-                .totalCount(accountResponses.size())
-                .build();
+        return toListResponse(accountResponses);
     }
     
     public AccountListResponse searchAccountsByUserCi(AccountSearchRequest request) {
         return getAccountsByUserCi(request.getUserCi());
     }
     
+    /**
+     * 사용자 번호로 계좌 목록 조회 (getAccountsByUserCi와 동일한 방식)
+     */
     public AccountListResponse searchAccountsByUserNum(AccountSearchByUserNumRequest request) {
-        // 1. userNum으로 사용자 조회
-        User user = userRepository.findByUserNum(request.getUserNum())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-        
-        // 2. 사용자 ID로 계좌 조회
-        List<Account> accounts = accountRepository.findByUserId(user.getUserId());
-        
-        List<AccountResponse> accountResponses = accounts.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
-        
-        // 목록 순번 설정
-        for (int i = 0; i < accountResponses.size(); i++) {
-            AccountResponse response = accountResponses.get(i);
-            accountResponses.set(i, AccountResponse.builder()
-                    .listNum(i + 1)
-                    .bankCodeStd(response.getBankCodeStd())
-                    .activityType(response.getActivityType())
-                    .accountType(response.getAccountType())
-                    .accountNum(response.getAccountNum())
-                    .accountNumMasked(response.getAccountNumMasked())
-                    .accountSeq(response.getAccountSeq())
-                    .accountLocalCode(response.getAccountLocalCode())
-                    .accountIssueDate(response.getAccountIssueDate())
-                    .maturityDate(response.getMaturityDate())
-                    .lastTranDate(response.getLastTranDate())
-                    .productName(response.getProductName())
-                    .productSubName(response.getProductSubName())
-                    .dormancyYn(response.getDormancyYn())
-                    .balanceAmt(response.getBalanceAmt())
-                    .depositAmt(response.getDepositAmt())
-                    .balanceCalcBasis1(response.getBalanceCalcBasis1())
-                    .balanceCalcBasis2(response.getBalanceCalcBasis2())
-                    .investmentLinkedYn(response.getInvestmentLinkedYn())
-                    .bankLinkedYn(response.getBankLinkedYn())
-                    .balanceAfterCancelYn(response.getBalanceAfterCancelYn())
-                    .savingsBankCode(response.getSavingsBankCode())
-                    .build());
+        List<AccountResponse> accountResponses = accountRepository.findAccountResponsesByUserNum(request.getUserNum());
+        if (accountResponses.isEmpty() && userCache.findByUserNum(request.getUserNum()).isEmpty()) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
         }
-        
+        return toListResponse(accountResponses);
+    }
+    
+    private AccountListResponse toListResponse(List<AccountResponse> accountResponses) {
         return AccountListResponse.builder()
                 .accounts(accountResponses)
                 .totalCount(accountResponses.size())
@@ -145,27 +84,25 @@ public class AccountService {
     }
     
     /**
-     * 사용자의 주거래 계좌를 추출하는 메서드
-     * 우선순위:
-     * 1. is_main_account가 true로 설정된 계좌
+     * 사용자의 주거래 계좌를 조회하는 메서드
+     * 우선순위 (MainAccountRank):
+     * 1. 계좌 유형이 당좌(2)인 계좌 (일반적으로 주거래용)
      * 2. 가장 최근에 거래한 계좌 (last_tran_date 기준)
-     * 3. 계좌 유형이 당좌(2)인 계좌 (일반적으로 주거래용)
-     * 4. 잔액이 가장 높은 계좌
-     * 5. 가장 먼저 개설된 계좌
+     * 3. 잔액이 가장 높은 계좌
+     * 4. 가장 먼저 개설된 계좌
+     * 선택 결과는 계좌 생성/잔액 변경 시 MainAccountService가 유지
      */
     public AccountMainResponse getMainAccountByUserCi(String userCi) {
         // 1. CI로 사용자 조회
-        User user = userRepository.findByUserCi(userCi)
+        User user = userCache.findByUserCi(userCi)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
         
-        // 2. 사용자 ID로 계좌 조회
-        List<Account> accounts = accountRepository.findByUserId(user.getUserId());
-        
-        if (accounts.isEmpty()) {
+        // 2. 유지된 주거래 계좌 조회 (백필 전이면 계좌 목록에서 선택)
+        Account mainAccount = mainAccountService.findMainAccount(user.getUserId())
+                .orElseGet(() -> MainAccountRank.best(accountRepository.findByUserId(user.getUserId())));
+        if (mainAccount == null) {
             throw new IllegalArgumentException("해당 사용자의 계좌가 존재하지 않습니다.");
         }
-        
-        Account mainAccount = findMainAccount(accounts);
         return convertToMainResponse(mainAccount);
     }
     
@@ -178,7 +115,7 @@ public class AccountService {
      */
     public AccountDetailResponse getAccountDetailByUserCi(AccountDetailRequest request) {
         // 1. CI로 사용자 조회
-        User user = userRepository.findByUserCi(request.getUserCi())
+        User user = userCache.findByUserCi(request.getUserCi())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
         
         // 2. 사용자 ID와 계좌번호로 특정 계좌 조회
@@ -193,7 +130,7 @@ public class AccountService {
      */
     public AccountBalanceResponse getAccountBalance(AccountBalanceRequest request) {
         // 1. CI로 사용자 조회
-        User user = userRepository.findByUserCi(request.getUserCi())
+        User user = userCache.findByUserCi(request.getUserCi())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
         
         // 2. 사용자 ID와 계좌번호로 특정 계좌 조회
@@ -203,63 +140,6 @@ public class AccountService {
         return convertToBalanceResponse(account);
     }
     
-    private Account findMainAccount(List<Account> accounts) {
-
-        // 1. 계좌 유형이 당좌(2)인 계좌 우선 (일반적으로 주거래용)
-        Optional<Account> checkingAccount = accounts.stream()
-                .filter(account -> "2".equals(account.getAccountType()))
-                .findFirst();
-
-        if (checkingAccount.isPresent()) {
-            log.info("당좌계좌로 선택: {}", checkingAccount.get().getAccountNum());
-            return checkingAccount.get();
-        }
-
-        // 2. 가장 최근에 거래한 계좌 (last_tran_date 기준)
-        Optional<Account> recentAccount = accounts.stream()
-                .filter(account -> account.getLastTranDate() != null)
-                .max(Comparator.comparing(account -> parseDate(account.getLastTranDate())));
-        
-        if (recentAccount.isPresent()) {
-            log.info("최근 거래일 기준으로 선택: {} (거래일: {})", 
-                    recentAccount.get().getAccountNum(), 
-                    recentAccount.get().getLastTranDate());
-            return recentAccount.get();
-        }
-        
-        // 3. 잔액이 가장 높은 계좌
-        Optional<Account> highestBalanceAccount = accounts.stream()
-                .filter(account -> account.getBalanceAmt() != null)
-                .max(Comparator.comparing(Account::getBalanceAmt));
-        
-        if (highestBalanceAccount.isPresent()) {
-            log.info("최고 잔액 기준으로 선택: {} (잔액: {})", 
-                    highestBalanceAccount.get().getAccountNum(), 
-                    highestBalanceAccount.get().getBalanceAmt());
-            return highestBalanceAccount.get();
-        }
-        
-        // 4. 가장 먼저 개설된 계좌
-        Account oldestAccount = accounts.stream()
-                .filter(account -> account.getAccountIssueDate() != null)
-                .min(Comparator.comparing(account -> parseDate(account.getAccountIssueDate())))
-                .orElse(accounts.get(0)); // 최후의 수단으로 첫 번째 계좌
-        
-        log.info("개설일 기준으로 선택: {} (개설일: {})", 
-                oldestAccount.getAccountNum(), 
-                oldestAccount.getAccountIssueDate());
-        return oldestAccount;
-    }
-    
-    private LocalDate parseDate(String dateString) {
-        try {
-            return LocalDate.parse(dateString, DateTimeFormatter.ofPattern("yyyyMMdd"));
-        } catch (Exception e) {
-            log.warn("날짜 파싱 실패: {}", dateString);
-            return LocalDate.MIN; // 파싱 실패시 최소값 반환
-        }
-    }
-    
     private AccountMainResponse convertToMainResponse(Account account) {
         return AccountMainResponse.builder()
                 .accountNum(account.getAccountNum())
@@ -273,32 +153,6 @@ public class AccountService {
                 .build();
     }
     
-    private AccountResponse convertToResponse(Account account) {
-        return AccountResponse.builder()
-                .bankCodeStd(account.getBankCodeStd())
-                .activityType(account.getActivityType())
-                .accountType(account.getAccountType())
-                .accountNum(account.getAccountNum())
-                .accountNumMasked(account.getAccountNumMasked())
-                .accountSeq(account.getAccountSeq())
-                .accountLocalCode(account.getAccountLocalCode())
-                .accountIssueDate(account.getAccountIssueDate())
-                .maturityDate(account.getMaturityDate())
-                .lastTranDate(account.getLastTranDate())
-                .productName(account.getProductName())
-                .productSubName(account.getProductSubName())
-                .dormancyYn(account.getDormancyYn())
-                .balanceAmt(account.getBalanceAmt())
-                .depositAmt(account.getDepositAmt())
-                .balanceCalcBasis1(account.getBalanceCalcBasis1())
-                .balanceCalcBasis2(account.getBalanceCalcBasis2())
-                .investmentLinkedYn(account.getInvestmentLinkedYn())
-                .bankLinkedYn(account.getBankLinkedYn())
-                .balanceAfterCancelYn(account.getBalanceAfterCancelYn())
-                .savingsBankCode(account.getSavingsBankCode())
-                .build();
-    }
-
     private AccountDetailResponse convertToDetailResponse(Account account, User user) {
         // 은행 코드를 기반으로 은행명 매핑
         String bankName = mapBankCodeToName(account.getBankCodeStd());
@@ -382,7 +236,7 @@ public class AccountService {
     
     private AccountBalanceResponse convertToBalanceResponse(Account account) {
         // 현재 날짜와 시간 생성
-        String currentDate = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        String currentDate = DateCodec.formatDate(LocalDate.now());
         String bankTranId = "F" + UUID.randomUUID().toString().replace("-", "").substring(0, 20);
         
         // 은행 코드를 기반으로 은행명 매핑
@@ -411,6 +265,7 @@ public class AccountService {
      * 계좌주명 조회
      * 
      * 계좌번호와 은행코드로 Account와 User를 조인하여 계좌주명(username)을 조회합니다.
+     * 조회 결과는 AccountHolderNameCache에 보관합니다 (존재하지 않는 계좌 포함).
      * 
      * @param request 계좌주명 조회 요청 (은행코드, 계좌번호)
      * @return 계좌주명 응답
@@ -420,37 +275,21 @@ public class AccountService {
         log.info("계좌주명 조회 시작 - 은행코드: {}, 계좌번호: {}", request.getBankCode(), request.getAccountNumber());
         
         try {
-            // 1. 먼저 계좌가 존재하는지 확인
-            Optional<Account> accountOpt = accountRepository.findByAccountNum(request.getAccountNumber());
-            if (accountOpt.isEmpty()) {
-                log.warn("계좌를 찾을 수 없음 - 계좌번호: {}", request.getAccountNumber());
-                throw new IllegalArgumentException("존재하지 않는 계좌입니다.");
-            }
-            
-            Account account = accountOpt.get();
-            
-            // 2. 은행코드 검증
-            if (!request.getBankCode().equals(account.getBankCodeStd())) {
-                log.warn("은행코드 불일치 - 요청: {}, 실제: {}", request.getBankCode(), account.getBankCodeStd());
+            // 1. 계좌 + 계좌주 조인 조회 (캐시, 없는 계좌도 짧게 캐시)
+            AccountHolderNameCache.Holder holder =
+                    accountHolderNameCache.find(request.getBankCode(), request.getAccountNumber());
+            if (!holder.accountExists()) {
+                log.warn("계좌를 찾을 수 없음 - 은행코드: {}, 계좌번호: {}", request.getBankCode(), request.getAccountNumber());
                 throw new IllegalArgumentException("존재하지 않는 계좌입니다.");
             }
             
-            // 3. userId로 User 조회하여 username 획득
-            Optional<User> userOpt =
-                    userRepository.findById(account.getUserId());
-            if (userOpt.isEmpty()) {
-                log.warn("사용자를 찾을 수 없음 - userId: {}", account.getUserId());
-                throw new IllegalArgumentException("계좌주명을 확인할 수 없습니다.");
-            }
-            
-            User user = userOpt.get();
-            String username = user.getUsername();
-            
-            if (username == null || username.trim().isEmpty()) {
-                log.warn("계좌주명이 비어있음 - userId: {}", account.getUserId());
+            // 2. 계좌주명 확인
+            if (!holder.hasUsername()) {
+                log.warn("계좌주명을 확인할 수 없음 - userId: {}", holder.userId());
                 throw new IllegalArgumentException("계좌주명을 확인할 수 없습니다.");
             }
             
+            String username = holder.username();
             log.info("계좌주명 조회 성공 - 계좌주명: {}", username);
             
             return AccountHolderNameResponse.builder()
@@ -475,15 +314,15 @@ public class AccountService {
                 request.getProductId(), request.getUserCi(), request.getAmount());
         
         // 1. 사용자 조회
-        User user = userRepository.findByUserCi(request.getUserCi())
+        User user = userCache.findByUserCi(request.getUserCi())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
         
         // 2. 상품 조회
         Product product = productRepository.findById(request.getProductId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다."));
         
-        // 3. 계좌번호 생성 (중복 체크 포함)
-        String accountNumber = generateUniqueAccountNumber();
+        // 3. 계좌번호 발급 (채번 구간에서 할당, 중복 조회 없음)
+        String accountNumber = accountNumberAllocator.allocate(ACCOUNT_NUMBER_PREFIX);
         
         // 4. 계좌 생성
         Account account = Account.builder()
@@ -495,10 +334,10 @@ public class AccountService {
                 .accountNumMasked(maskAccountNumber(accountNumber))
                 .accountSeq("01")
                 .accountLocalCode("0000001")
-                .accountIssueDate(LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")))
+                .accountIssueDate(DateCodec.formatDate(LocalDate.now()))
                 .maturityDate(request.getPeriodMonths() != null ? 
-                    LocalDate.now().plusMonths(request.getPeriodMonths()).format(DateTimeFormatter.ofPattern("yyyyMMdd")) : null)
-                .lastTranDate(LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")))
+                    DateCodec.formatDate(LocalDate.now().plusMonths(request.getPeriodMonths())) : null)
+                .lastTranDate(DateCodec.formatDate(LocalDate.now()))
                 .productName(product.getProductName())
                 .productSubName(product.getProductSubName())
                 .dormancyYn("N")
@@ -509,6 +348,8 @@ public class AccountService {
                 .build();
         
         Account savedAccount = accountRepository.save(account);
+        mainAccountService.onAccountCreated(savedAccount);
+        accountHolderNameCache.invalidateAccount(savedAccount.getAccountNum());
         
         log.info("계좌 생성 완료 - 계좌번호: {}, 상품명: {}", accountNumber, product.getProductName());
         
@@ -541,7 +382,7 @@ public class AccountService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 계좌입니다."));
         
         // 2. 사용자 검증
-        User user = userRepository.findByUserCi(userCi)
+        User user = userCache.findByUserCi(userCi)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
         
         if (!account.getUserId().equals(user.getUserId())) {
@@ -655,33 +496,11 @@ public class AccountService {
         }
     }
     
-    /**
-     * 고유한 계좌번호 생성 (중복 체크 포함)
-     * 형식: 110-1234567890123 (3-13자리, 총 17자리)
-     */
-    private String generateUniqueAccountNumber() {
-        String accountNumber;
-        int maxAttempts = 10;
-        int attempts = 0;
-        
-        do {
-            String baseNumber = "110" + String.format("%013d", System.currentTimeMillis() % 10000000000000L);
-            accountNumber = baseNumber.substring(0, 3) + "-" + baseNumber.substring(3);
-            attempts++;
-            
-            if (attempts >= maxAttempts) {
-                throw new RuntimeException("계좌번호 생성 중 중복이 계속 발생합니다.");
-            }
-        } while (accountRepository.existsByAccountNum(accountNumber));
-        
-        return accountNumber;
-    }
-    
     /**
      * 계좌번호 마스킹
      * 형식: 110-1234567890123 → 110-****90123
      */
-    private String maskAccountNumber(String accountNumber) {
+    static String maskAccountNumber(String accountNumber) {
         if (accountNumber == null || accountNumber.length() < 9) {
             return accountNumber;
         }
@@ -0,0 +1,89 @@
+package com.kopo_team4.kbbank_backend.domain.account.service;
+
+import com.kopo_team4.kbbank_backend.domain.account.entity.Account;
+import com.kopo_team4.kbbank_backend.domain.account.entity.MainAccount;
+import com.kopo_team4.kbbank_backend.global.time.DateCodec;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 주거래 계좌 선택 순위 (값이 클수록 우선)
+ *
+ * 기능: 기존 단계별 선택 규칙을 하나의 전순서로 표현하여 계좌 두 개만 비교해도 결과가 같도록 함
+ *       1. 당좌(2) 계좌 - 먼저 개설된(계좌 ID가 작은) 계좌
+ *       2. 최근 거래일이 있는 계좌 - 최근 거래일이 늦은 계좌
+ *       3. 잔액이 있는 계좌 - 잔액이 많은 계좌
+ *       4. 개설일이 있는 계좌 - 개설일이 이른 계좌
+ *       (같은 단계에서 키가 같으면 계좌 ID가 작은 계좌)
+ * 기준: 계좌가 속한 단계의 키만 보관 (다른 단계의 키는 순위에 영향이 없으므로 null / 0)
+ *       - 날짜는 yyyyMMdd 정수 키로 비교 (형식이 잘못된 경우 DateCodec.INVALID로 가장 이른 날짜 취급)
+ */
+record MainAccountRank(Long accountId, int tier, int date, BigDecimal balanceAmt)
+        implements Comparable<MainAccountRank> {
+
+    private static final int CHECKING = 0;
+    private static final int RECENT_TRANSACTION = 1;
+    private static final int BALANCE = 2;
+    private static final int ISSUE_DATE = 3;
+    private static final int FALLBACK = 4;
+
+    static MainAccountRank of(Account account) {
+        return of(account.getAccountId(), account.getAccountType(), account.getLastTranDate(),
+                account.getBalanceAmt(), account.getAccountIssueDate());
+    }
+
+    static MainAccountRank of(MainAccount mainAccount) {
+        return of(mainAccount.getAccountId(), mainAccount.getAccountType(), mainAccount.getLastTranDate(),
+                mainAccount.getBalanceAmt(), mainAccount.getAccountIssueDate());
+    }
+
+    private static MainAccountRank of(Long accountId, String accountType, String lastTranDate,
+                                      BigDecimal balanceAmt, String accountIssueDate) {
+        if ("2".equals(accountType)) {
+            return new MainAccountRank(accountId, CHECKING, 0, null);
+        }
+        if (lastTranDate != null) {
+            return new MainAccountRank(accountId, RECENT_TRANSACTION, DateCodec.parseInt(lastTranDate), null);
+        }
+        if (balanceAmt != null) {
+            return new MainAccountRank(accountId, BALANCE, 0, balanceAmt);
+        }
+        if (accountIssueDate != null) {
+            return new MainAccountRank(accountId, ISSUE_DATE, DateCodec.parseInt(accountIssueDate), null);
+        }
+        return new MainAccountRank(accountId, FALLBACK, 0, null);
+    }
+
+    /**
+     * 계좌 목록에서 주거래 계좌 선택 (목록이 비어 있으면 null)
+     *
+     * 계좌마다 순위를 한 번만 계산 (비교할 때마다 날짜를 다시 해석하지 않음)
+     */
+    static Account best(List<Account> accounts) {
+        Account best = null;
+        MainAccountRank bestRank = null;
+        for (Account account : accounts) {
+            MainAccountRank rank = of(account);
+            if (bestRank == null || rank.compareTo(bestRank) > 0) {
+                best = account;
+                bestRank = rank;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public int compareTo(MainAccountRank other) {
+        if (tier != other.tier) {
+            return Integer.compare(other.tier, tier);
+        }
+        int byKey = switch (tier) {
+            case RECENT_TRANSACTION -> Integer.compare(date, other.date);
+            case BALANCE -> balanceAmt.compareTo(other.balanceAmt);
+            case ISSUE_DATE -> Integer.compare(other.date, date);
+            default -> 0;
+        };
+        return byKey != 0 ? byKey : Long.compare(other.accountId, accountId);
+    }
+}
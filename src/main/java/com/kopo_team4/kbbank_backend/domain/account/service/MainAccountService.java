@@ -0,0 +1,148 @@
+package com.kopo_team4.kbbank_backend.domain.account.service;
+
+import com.kopo_team4.kbbank_backend.domain.account.entity.Account;
+import com.kopo_team4.kbbank_backend.domain.account.entity.MainAccount;
+import com.kopo_team4.kbbank_backend.domain.account.repository.AccountRepository;
+import com.kopo_team4.kbbank_backend.domain.account.repository.MainAccountRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 주거래 계좌 유지 서비스
+ *
+ * 기능: 사용자별 주거래 계좌를 kbbank_main_account에 유지하여 조회 시 정렬/비교 없이 바로 반환
+ * 기준: 계좌 생성/잔액 변경 시 호출자 트랜잭션 안에서 변경된 계좌 하나만 현재 주거래 계좌와 비교
+ *       - 순위가 그대로면 갱신하지 않음 (주거래 계좌 PK 조회 1회)
+ *       - 변경이 필요하면 행 잠금 후 다시 비교하여 동시 변경 시 갱신 유실 방지
+ *       - 주거래 계좌 자신의 순위가 내려간 경우에만 사용자의 전체 계좌로 다시 선택
+ *       - 주거래 계좌 행이 없는 사용자는 백필(MainAccountBackfillScheduler)에서 초기화
+ *       - 행 생성은 기본키 INSERT ... ON DUPLICATE KEY (조회 후 삽입하지 않음)
+ *         -> 첫 계좌 동시 개설/백필과 겹쳐도 PK 중복으로 롤백되지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class MainAccountService {
+
+    private static final String INSERT_IF_ABSENT_SQL =
+            "INSERT INTO kbbank_main_account"
+                    + " (user_id, account_id, account_type, last_tran_date, balance_amt, account_issue_date, updated_at)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)"
+                    + " ON DUPLICATE KEY UPDATE user_id = user_id";
+
+    private final MainAccountRepository mainAccountRepository;
+    private final AccountRepository accountRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 주거래 계좌 조회 (유지된 값이 없으면 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<Account> findMainAccount(String userId) {
+        return mainAccountRepository.findMainAccountByUserId(userId);
+    }
+
+    /**
+     * 계좌 생성 직후 호출 (첫 계좌면 주거래 계좌 행 생성)
+     */
+    public void onAccountCreated(Account account) {
+        jdbcTemplate.update(INSERT_IF_ABSENT_SQL, insertArgs(account));
+        MainAccount current = entityManager.find(MainAccount.class, account.getUserId(), LockModeType.PESSIMISTIC_WRITE);
+        if (current.getAccountId().equals(account.getAccountId())) {
+            // 이번에 생성한 행: 백필 전에 개설된 계좌가 있을 수 있으므로 전체 계좌로 다시 선택
+            current.select(MainAccountRank.best(accountRepository.findByUserId(account.getUserId())));
+            return;
+        }
+        if (affectsMainAccount(current, account)) {
+            select(current, account);
+        }
+    }
+
+    /**
+     * 계좌 변경(잔액 등) 직후 호출
+     */
+    public void onAccountChanged(Account account) {
+        mainAccountRepository.findById(account.getUserId())
+                .ifPresent(current -> apply(current, account));
+    }
+
+    /**
+     * 주거래 계좌가 없는 사용자를 batchSize 명까지 초기화
+     *
+     * @return 초기화한 사용자 수
+     */
+    public int backfill(int batchSize) {
+        List<String> userIds = mainAccountRepository.findUserIdsWithoutMainAccount(PageRequest.of(0, batchSize));
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        Map<String, List<Account>> accountsByUser = new LinkedHashMap<>();
+        for (Account account : accountRepository.findByUserIdInOrderByAccountId(userIds)) {
+            accountsByUser.computeIfAbsent(account.getUserId(), k -> new ArrayList<>()).add(account);
+        }
+        List<Object[]> rows = new ArrayList<>(accountsByUser.size());
+        accountsByUser.values().forEach(accounts -> rows.add(insertArgs(MainAccountRank.best(accounts))));
+        jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, rows);
+        return userIds.size();
+    }
+
+    private void apply(MainAccount current, Account account) {
+        if (!affectsMainAccount(current, account)) {
+            return;
+        }
+        entityManager.refresh(current, LockModeType.PESSIMISTIC_WRITE);
+        if (!affectsMainAccount(current, account)) {
+            return;
+        }
+        select(current, account);
+    }
+
+    /**
+     * 잠금을 잡은 주거래 계좌 행에 변경된 계좌를 반영
+     */
+    private void select(MainAccount current, Account account) {
+        MainAccountRank changed = MainAccountRank.of(account);
+        boolean isMainAccount = current.getAccountId().equals(account.getAccountId());
+        if (!isMainAccount || changed.compareTo(MainAccountRank.of(current)) > 0) {
+            current.select(account);
+        } else {
+            current.select(MainAccountRank.best(accountRepository.findByUserId(account.getUserId())));
+        }
+        log.debug("주거래 계좌 갱신 - userId: {}, accountId: {}", current.getUserId(), current.getAccountId());
+    }
+
+    private static Object[] insertArgs(Account account) {
+        return new Object[]{account.getUserId(), account.getAccountId(), account.getAccountType(),
+                account.getLastTranDate(), account.getBalanceAmt(), account.getAccountIssueDate()};
+    }
+
+    /**
+     * 변경된 계좌가 주거래 계좌 선택에 영향을 주는지
+     * (주거래 계좌 자신이면 순위 키가 바뀐 경우, 다른 계좌면 현재 주거래 계좌보다 앞서는 경우)
+     */
+    private static boolean affectsMainAccount(MainAccount current, Account account) {
+        MainAccountRank changed = MainAccountRank.of(account);
+        MainAccountRank stored = MainAccountRank.of(current);
+        if (current.getAccountId().equals(account.getAccountId())) {
+            return changed.compareTo(stored) != 0;
+        }
+        return changed.compareTo(stored) > 0;
+    }
+}
@@ -14,7 +14,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "kbbank_auto_transfer")
+@Table(name = "kbbank_auto_transfer", indexes = {
+        // 스케줄러 청크 조회 (실행 예정 자동이체를 출금 계좌 순으로 키셋 조회)
+        @Index(name = "idx_auto_transfer_due_account", columnList = "status, from_account_id, auto_transfer_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
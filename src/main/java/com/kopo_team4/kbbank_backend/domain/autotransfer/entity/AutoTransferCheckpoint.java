@@ -0,0 +1,75 @@
+package com.kopo_team4.kbbank_backend.domain.autotransfer.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 자동이체 스케줄러 파티션 체크포인트/리스 (실행일 x 파티션별 1건)
+ *
+ * 실행 예정 자동이체를 from_account_id % 파티션 수로 나누고, 각 파티션은 리스를 획득한
+ * 인스턴스 하나만 처리 (여러 인스턴스가 동시에 스케줄러를 실행해도 작업을 나눠 가짐)
+ * 청크 처리가 끝날 때마다 마지막 처리 키 (from_account_id, auto_transfer_id)를 기록하고 리스를 연장하며,
+ * 처리 도중 중단되면 리스 만료 후 다른 인스턴스가 해당 키 이후부터 이어서 처리
+ */
+@Entity
+@Table(name = "kbbank_auto_transfer_checkpoint")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@IdClass(AutoTransferCheckpointId.class)
+public class AutoTransferCheckpoint {
+
+    @Id
+    @Column(name = "run_date")
+    private LocalDate runDate;
+
+    @Id
+    @Column(name = "partition_no")
+    private Integer partitionNo;
+
+    @Column(name = "last_from_account_id", nullable = false)
+    private Long lastFromAccountId;
+
+    @Column(name = "last_auto_transfer_id", nullable = false)
+    private Long lastAutoTransferId;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status; // RUNNING, COMPLETED
+
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount;
+
+    @Column(name = "succeeded_count", nullable = false)
+    private Long succeededCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private Long failedCount;
+
+    @Column(name = "skipped_count", nullable = false)
+    private Long skippedCount;
+
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
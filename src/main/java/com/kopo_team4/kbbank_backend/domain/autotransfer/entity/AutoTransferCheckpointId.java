@@ -0,0 +1,22 @@
+package com.kopo_team4.kbbank_backend.domain.autotransfer.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 자동이체 스케줄러 체크포인트 복합키 (실행일, 파티션 번호)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class AutoTransferCheckpointId implements Serializable {
+
+    private LocalDate runDate;
+    private Integer partitionNo;
+}
@@ -0,0 +1,46 @@
+package com.kopo_team4.kbbank_backend.domain.autotransfer.repository;
+
+import com.kopo_team4.kbbank_backend.domain.autotransfer.entity.AutoTransferCheckpoint;
+import com.kopo_team4.kbbank_backend.domain.autotransfer.entity.AutoTransferCheckpointId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AutoTransferCheckpointRepository extends JpaRepository<AutoTransferCheckpoint, AutoTransferCheckpointId> {
+
+    List<AutoTransferCheckpoint> findByRunDate(LocalDate runDate);
+
+    /**
+     * 중단된 파티션 조회 - 진행 중인데 리스 보유자가 없거나 리스가 만료된 파티션
+     * (처리하던 인스턴스가 종료되어 더 이상 연장되지 않는 파티션)
+     */
+    @Query("SELECT c FROM AutoTransferCheckpoint c WHERE c.runDate BETWEEN :fromDate AND :toDate " +
+           "AND c.status = 'RUNNING' AND (c.leaseOwner IS NULL OR c.leaseExpiresAt < :now) " +
+           "ORDER BY c.runDate ASC, c.partitionNo ASC")
+    List<AutoTransferCheckpoint> findAbandoned(@Param("fromDate") LocalDate fromDate,
+                                               @Param("toDate") LocalDate toDate,
+                                               @Param("now") LocalDateTime now);
+
+    /**
+     * 파티션 리스 획득/연장 (단일 조건부 UPDATE)
+     * 진행 중인 파티션이 비어 있거나, 내가 보유 중이거나, 기존 리스가 만료된 경우에만 갱신
+     *
+     * @return 갱신된 행 수 (0이면 다른 인스턴스가 보유 중이거나 이미 완료됨)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AutoTransferCheckpoint c SET c.leaseOwner = :owner, c.leaseExpiresAt = :leaseExpiresAt " +
+           "WHERE c.runDate = :runDate AND c.partitionNo = :partitionNo AND c.status = 'RUNNING' " +
+           "AND (c.leaseOwner IS NULL OR c.leaseOwner = :owner OR c.leaseExpiresAt < :now)")
+    int claimLease(@Param("runDate") LocalDate runDate,
+                   @Param("partitionNo") Integer partitionNo,
+                   @Param("owner") String owner,
+                   @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+                   @Param("now") LocalDateTime now);
+}
@@ -1,13 +1,17 @@
 package com.kopo_team4.kbbank_backend.domain.autotransfer.repository;
 
 import com.kopo_team4.kbbank_backend.domain.autotransfer.entity.AutoTransfer;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AutoTransferRepository extends JpaRepository<AutoTransfer, Long> {
@@ -28,6 +32,33 @@ public interface AutoTransferRepository extends JpaRepository<AutoTransfer, Long
     @Query("SELECT at FROM AutoTransfer at WHERE at.status = :status AND at.nextTransferDate <= :date")
     List<AutoTransfer> findScheduledTransfers(@Param("status") String status, @Param("date") LocalDate date);
     
+    /**
+     * 실행 예정인 자동이체 청크 조회 (스케줄러용 키셋 페이지네이션)
+     * 파티션(from_account_id % partitions)에 속한 행을 (from_account_id, auto_transfer_id) 순으로
+     * 정렬하여 마지막 처리 키 이후만 조회
+     * 
+     * @param status 활성 상태
+     * @param date 실행 예정일
+     * @param partitions 파티션 수
+     * @param partitionNo 파티션 번호
+     * @param afterAccountId 마지막 처리 출금 계좌 ID (처음이면 0)
+     * @param afterTransferId 마지막 처리 자동이체 ID (처음이면 0)
+     * @param pageable 청크 크기
+     * @return 실행 예정인 자동이체 청크
+     */
+    @Query("SELECT at FROM AutoTransfer at WHERE at.status = :status AND at.nextTransferDate <= :date " +
+           "AND MOD(at.fromAccountId, :partitions) = :partitionNo " +
+           "AND (at.fromAccountId > :afterAccountId " +
+           "     OR (at.fromAccountId = :afterAccountId AND at.autoTransferId > :afterTransferId)) " +
+           "ORDER BY at.fromAccountId ASC, at.autoTransferId ASC")
+    List<AutoTransfer> findScheduledTransferChunk(@Param("status") String status,
+                                                  @Param("date") LocalDate date,
+                                                  @Param("partitions") int partitions,
+                                                  @Param("partitionNo") int partitionNo,
+                                                  @Param("afterAccountId") Long afterAccountId,
+                                                  @Param("afterTransferId") Long afterTransferId,
+                                                  Pageable pageable);
+    
     /**
      * 특정 계좌의 활성 자동이체 조회
      * 
@@ -44,6 +75,15 @@ public interface AutoTransferRepository extends JpaRepository<AutoTransfer, Long
      * @return 해당 계좌로 입금되는 자동이체 목록
      */
     List<AutoTransfer> findByToAccountNumber(String toAccountNumber);
+    
+    /**
+     * 자동이체 조회 (스케줄러 실행용 - Pessimistic Lock)
+     * 리스가 만료되어 두 인스턴스가 같은 행을 처리하게 되더라도 한쪽은 대기 후 처리 완료 상태를 읽음
+     * 
+     * @param autoTransferId 자동이체 ID
+     * @return 자동이체 정보 (락 적용)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT at FROM AutoTransfer at WHERE at.autoTransferId = :autoTransferId")
+    Optional<AutoTransfer> findByIdWithLock(@Param("autoTransferId") Long autoTransferId);
 }
-
-
@@ -6,14 +6,16 @@ import com.kopo_team4.kbbank_backend.domain.autotransfer.dto.AutoTransferDto;
 import com.kopo_team4.kbbank_backend.domain.autotransfer.entity.AutoTransfer;
 import com.kopo_team4.kbbank_backend.domain.autotransfer.repository.AutoTransferRepository;
 import com.kopo_team4.kbbank_backend.domain.user.entity.User;
-import com.kopo_team4.kbbank_backend.domain.user.repository.UserRepository;
+import com.kopo_team4.kbbank_backend.domain.user.service.UserCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -23,11 +25,11 @@ public class AutoTransferService {
 
     private final AutoTransferRepository autoTransferRepository;
     private final AccountRepository accountRepository;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
 
     public AutoTransferDto.Response create(AutoTransferDto.CreateRequest request) {
         // 1. userCi로 userId 조회
-        String userId = userRepository.findByUserCi(request.getUserCi())
+        String userId = userCache.findByUserCi(request.getUserCi())
                 .map(u -> u.getUserId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자(CI) 입니다."));
 
@@ -123,9 +125,13 @@ public class AutoTransferService {
                 .map(account -> account.getAccountId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 출금 계좌입니다."));
 
-        // 해당 계좌에서 출금되는 자동이체 목록 조회
-        return autoTransferRepository.findByFromAccountId(fromAccountId)
-                .stream().map(this::toResponse).toList();
+        // 해당 계좌에서 출금되는 자동이체 목록 조회 (사용자 CI는 한 번에 조회)
+        List<AutoTransfer> autoTransfers = autoTransferRepository.findByFromAccountId(fromAccountId);
+        Map<String, User> users = userCache.findAllByUserIds(
+                autoTransfers.stream().map(AutoTransfer::getUserId).toList());
+        return autoTransfers.stream()
+                .map(e -> toResponse(e, users))
+                .toList();
     }
 
     @Transactional(readOnly = true)
@@ -214,10 +220,17 @@ public class AutoTransferService {
     }
 
     private AutoTransferDto.Response toResponse(AutoTransfer e) {
-        // userId로 userCi 조회
-        String userCi = userRepository.findByUserId(e.getUserId())
-                .map(User::getUserCi)
-                .orElse(null);
+        return toResponse(e, userCache.findAllByUserIds(Collections.singletonList(e.getUserId())));
+    }
+
+    /**
+     * AutoTransfer 엔티티를 Response로 변환 (DB 조회 없음)
+     *
+     * @param users 미리 조회한 userId → User
+     */
+    private AutoTransferDto.Response toResponse(AutoTransfer e, Map<String, User> users) {
+        User user = users.get(e.getUserId());
+        String userCi = user != null ? user.getUserCi() : null;
         
         // remainingInstallments가 null인 경우 계산
         Integer remainingInstallments = e.getRemainingInstallments();
@@ -5,6 +5,9 @@ import com.kopo_team4.kbbank_backend.domain.irp.dto.IrpAccountCreateResponseDto;
 import com.kopo_team4.kbbank_backend.domain.irp.dto.IrpDepositRequestDto;
 import com.kopo_team4.kbbank_backend.domain.irp.dto.IrpDepositResponseDto;
 import com.kopo_team4.kbbank_backend.domain.irp.service.IrpAccountService;
+import com.kopo_team4.kbbank_backend.global.audit.AuditEventType;
+import com.kopo_team4.kbbank_backend.global.audit.AuditLog;
+import com.kopo_team4.kbbank_backend.global.audit.AuditOutcome;
 import com.kopo_team4.kbbank_backend.global.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -24,6 +27,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class IrpAccountController {
     
     private final IrpAccountService irpAccountService;
+    private final AuditLog auditLog;
     
     @PostMapping("/create")
     @Operation(summary = "IRP 계좌 생성", description = "IRP 계좌를 생성합니다")
@@ -50,17 +54,17 @@ public class IrpAccountController {
     public ResponseEntity<ApiResponse<IrpDepositResponseDto>> processIrpDeposit(
             @RequestBody IrpDepositRequestDto request) {
         
-        log.info("=== IRP 계좌 입금 API 호출 ===");
-        log.info("요청 데이터: userCI={}, rsvAccountNum={}, wdAccountNum={}, depositAmt={}, reqClientName={}",
-                request.getUserCI(), request.getRsvAccountNum(), request.getWdAccountNum(), 
-                request.getDepositAmt(), request.getReqClientName());
-        
-        IrpDepositResponseDto response = irpAccountService.processIrpDeposit(request);
-        
-        log.info("=== IRP 계좌 입금 완료 ===");
-        log.info("응답 데이터: rsvAccountNum={}, depositAmt={}, balanceAmt={}, irpType={}",
-                response.getRsvAccountNum(), response.getDepositAmt(), response.getBalanceAmt(), 
-                response.getIrpType());
+        long startedAt = System.nanoTime();
+        IrpDepositResponseDto response;
+        try {
+            response = irpAccountService.processIrpDeposit(request);
+        } catch (RuntimeException e) {
+            auditLog.record(AuditEventType.IRP_DEPOSIT, AuditOutcome.of(e), request.getRsvAccountNum(),
+                    request.getDepositAmt(), request.getBankTranId(), null, startedAt, e.getMessage());
+            throw e;
+        }
+        auditLog.record(AuditEventType.IRP_DEPOSIT, AuditOutcome.SUCCESS, response.getRsvAccountNum(),
+                response.getDepositAmt(), request.getBankTranId(), null, startedAt, null);
         
         return ResponseEntity.ok(ApiResponse.success("요청이 성공적으로 처리되었습니다.", response));
     }
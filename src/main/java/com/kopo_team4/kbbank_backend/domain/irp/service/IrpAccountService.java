@@ -10,10 +10,15 @@ import com.kopo_team4.kbbank_backend.domain.irp.repository.IrpAccountRepository;
 import com.kopo_team4.kbbank_backend.domain.irp.repository.IrpInvestmentProductRepository;
 import com.kopo_team4.kbbank_backend.domain.account.entity.Account;
 import com.kopo_team4.kbbank_backend.domain.account.repository.AccountRepository;
+import com.kopo_team4.kbbank_backend.domain.account.service.AccountBalanceManager;
+import com.kopo_team4.kbbank_backend.domain.account.service.AccountHolderNameCache;
+import com.kopo_team4.kbbank_backend.domain.account.service.AccountNumberAllocator;
+import com.kopo_team4.kbbank_backend.domain.account.service.MainAccountService;
 import com.kopo_team4.kbbank_backend.domain.user.entity.User;
-import com.kopo_team4.kbbank_backend.domain.user.repository.UserRepository;
+import com.kopo_team4.kbbank_backend.domain.user.service.UserCache;
 import com.kopo_team4.kbbank_backend.domain.transaction.entity.Transaction;
 import com.kopo_team4.kbbank_backend.domain.transaction.repository.TransactionRepository;
+import com.kopo_team4.kbbank_backend.global.time.DateCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,18 +27,24 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class IrpAccountService {
     
+    // IRP 계좌 계좌번호 앞 3자리
+    private static final String IRP_ACCOUNT_NUMBER_PREFIX = "081";
+    
     private final IrpAccountRepository irpAccountRepository;
     private final IrpInvestmentProductRepository irpInvestmentProductRepository;
     private final AccountRepository accountRepository;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
     private final TransactionRepository transactionRepository;
+    private final AccountBalanceManager accountBalanceManager;
+    private final MainAccountService mainAccountService;
+    private final AccountHolderNameCache accountHolderNameCache;
+    private final AccountNumberAllocator accountNumberAllocator;
     
     @Transactional
     public IrpAccountCreateResponseDto createIrpAccount(IrpAccountCreateRequestDto request) {
@@ -41,13 +52,13 @@ public class IrpAccountService {
         log.info(">>> IRP 계좌 생성 서비스 시작");
         
         // 1. 사용자 조회
-        User user = userRepository.findByUserCi(request.getUserCI())
+        User user = userCache.findByUserCi(request.getUserCI())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다: " + request.getUserCI()));
         
         log.info("1. 사용자 조회 완료 - userCi: {}, username: {}", request.getUserCI(), user.getUsername());
         
-        // 2. 계좌번호 생성 (ID는 AUTO_INCREMENT로 자동 생성)
-        String accountNum = generateUniqueAccountNumber();
+        // 2. 계좌번호 발급
+        String accountNum = accountNumberAllocator.allocate(IRP_ACCOUNT_NUMBER_PREFIX);
         
         log.info("2. 계좌번호 생성 완료 - accountNum: {}", accountNum);
         
@@ -65,9 +76,9 @@ public class IrpAccountService {
                 .accountNumMasked(maskedAccountNum)
                 .accountSeq("01")
                 .accountLocalCode("0810001")
-                .accountIssueDate(LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")))
-                .maturityDate(request.getMaturityDate().format(DateTimeFormatter.ofPattern("yyyyMMdd")))
-                .lastTranDate(LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")))
+                .accountIssueDate(DateCodec.formatDate(LocalDate.now()))
+                .maturityDate(DateCodec.formatDate(request.getMaturityDate()))
+                .lastTranDate(DateCodec.formatDate(LocalDate.now()))
                 .productName(request.getProductName())
                 .productSubName(request.getProductSubName())
                 .dormancyYn("N")
@@ -84,6 +95,8 @@ public class IrpAccountService {
         log.info("3-2. Account 엔티티 생성 완료 - 저장 시도 중...");
         
         Account savedAccount = accountRepository.save(account);
+        mainAccountService.onAccountCreated(savedAccount);
+        accountHolderNameCache.invalidateAccount(savedAccount.getAccountNum());
         log.info("3-3. Account 엔티티 저장 완료 - accountId: {}, accountNum: {}", 
                 savedAccount.getAccountId(), savedAccount.getAccountNum());
         
@@ -140,59 +153,40 @@ public class IrpAccountService {
     
     @Transactional
     public IrpDepositResponseDto processIrpDeposit(IrpDepositRequestDto request) {
-        log.info(">>> IRP 입금 처리 시작");
-        
         // 1. 사용자 조회
-        User user = userRepository.findByUserCi(request.getUserCI())
+        User user = userCache.findByUserCi(request.getUserCI())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다: " + request.getUserCI()));
         
-        log.info("1. 사용자 조회 완료 - userCi: {}", request.getUserCI());
-        
         // 2. 입금받을 계좌 조회 (rsvAccountNum)
         Account account = accountRepository.findByAccountNum(request.getRsvAccountNum())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 계좌입니다: " + request.getRsvAccountNum()));
         
-        log.info("2. 입금받을 계좌 조회 완료 - accountNum: {}, 현재 잔액: {}", 
-                account.getAccountNum(), account.getBalanceAmt());
-        
         // 3. IRP 계좌 정보 조회
         IrpAccount irpAccount = irpAccountRepository.findByAccountId(account.getAccountId().toString())
                 .stream()
                 .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("IRP 계좌 정보를 찾을 수 없습니다: " + account.getAccountId()));
         
-        log.info("3. IRP 계좌 정보 조회 완료 - irpType: {}, irpId: {}", 
-                irpAccount.getIrpType(), irpAccount.getIrpId());
-        
         // 4. IRP 투자상품 정보 조회
         IrpInvestmentProduct irpProduct = irpInvestmentProductRepository.findByIrpId(irpAccount.getIrpId())
                 .stream()
                 .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("IRP 투자상품 정보를 찾을 수 없습니다: " + irpAccount.getIrpId()));
         
-        log.info("4. IRP 투자상품 정보 조회 완료 - productName: {}", irpProduct.getProductName());
-        
         // 5. 입금 금액 검증
         if (request.getDepositAmt() == null || request.getDepositAmt().compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("입금 금액은 0원보다 커야 합니다.");
         }
         
-        // 6. 잔액 업데이트
-        BigDecimal newBalance = account.getBalanceAmt().add(request.getDepositAmt());
-        int updatedRows = accountRepository.updateAccountBalance(account.getAccountId(), newBalance);
-        
-        if (updatedRows != 1) {
-            throw new IllegalStateException("계좌 잔액 업데이트에 실패했습니다.");
-        }
-        
-        log.info("5. 계좌 잔액 업데이트 완료 - 이전 잔액: {}, 입금액: {}, 새 잔액: {}", 
-                account.getBalanceAmt(), request.getDepositAmt(), newBalance);
+        // 6. 잔액 업데이트 (증감 UPDATE 후 변경된 잔액 사용)
+        BigDecimal newBalance = accountBalanceManager.deposit(account.getAccountNum(), request.getDepositAmt())
+                .getBalanceAmt();
         
         // 7. 트랜잭션 로그 생성
         Transaction transaction = Transaction.builder()
                 .accountId(account.getAccountId())
                 .tranDate(LocalDate.now())
-                .tranTime(LocalDateTime.now().format(DateTimeFormatter.ofPattern("HHmmss")))
+                .tranTime(DateCodec.formatTime(LocalDateTime.now()))
                 .inoutType("입금")
                 .tranType("IRP입금")
                 .printContent("IRP계좌입금")
@@ -205,9 +199,8 @@ public class IrpAccountService {
                 .build();
         
         transactionRepository.save(transaction);
-        log.info("6. 트랜잭션 로그 생성 완료 - tranId: {}", request.getBankTranId());
         
-        // 8. 응답 DTO 생성
+        // 8. 응답 DTO 생성 (처리 결과는 컨트롤러에서 감사 로그로 1건 기록)
         IrpDepositResponseDto response = IrpDepositResponseDto.builder()
                 .wdAccountNum(request.getWdAccountNum())
                 .rsvAccountNum(request.getRsvAccountNum())
@@ -223,9 +216,6 @@ public class IrpAccountService {
                 .updatedAt(LocalDateTime.now())
                 .build();
         
-        log.info("7. 응답 DTO 생성 완료");
-        log.info(">>> IRP 입금 처리 완료 - 최종 잔액: {}", newBalance);
-        
         return response;
     }
     
@@ -236,7 +226,7 @@ public class IrpAccountService {
         }
         
         try {
-            LocalDate issue = LocalDate.parse(issueDate, DateTimeFormatter.ofPattern("yyyyMMdd"));
+            LocalDate issue = DateCodec.parseDate(issueDate);
             long months = java.time.temporal.ChronoUnit.MONTHS.between(issue, maturityDate);
             return months + "개월";
         } catch (Exception e) {
@@ -245,19 +235,6 @@ public class IrpAccountService {
         }
     }
     
-    private String generateUniqueAccountNumber() {
-        // 하나은행 코드 + 타임스탬프 기반 계좌번호 생성 (하이픈 포함)
-        long timestamp = System.currentTimeMillis();
-        String timestampStr = String.valueOf(timestamp);
-        
-        // 081 + 마지막 13자리를 하이픈으로 구분: 081-1234567890123
-        String baseNumber = "081" + timestampStr.substring(timestampStr.length() - 13);
-        String accountNum = baseNumber.substring(0, 3) + "-" + baseNumber.substring(3);
-        
-        log.debug("계좌번호 생성: {} (timestamp: {})", accountNum, timestamp);
-        return accountNum;
-    }
-    
     private String maskAccountNumber(String accountNum) {
         // 계좌번호 마스킹 (하이픈 포함 형식 지원)
         if (accountNum == null || accountNum.length() < 9) {
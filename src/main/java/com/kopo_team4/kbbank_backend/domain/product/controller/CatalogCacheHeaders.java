@@ -0,0 +1,123 @@
+package com.kopo_team4.kbbank_backend.domain.product.controller;
+
+import com.kopo_team4.kbbank_backend.domain.product.service.ProductCatalog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 상품/카테고리 조회 API 캐시 헤더
+ *
+ * 기능: 카탈로그 스냅샷 ETag와 Cache-Control(max-age)을 응답에 설정
+ * 기준: If-None-Match가 현재 ETag와 같으면 본문 없이 304 응답
+ *       - ETag는 카탈로그가 바뀔 때 한 번만 계산 (요청마다 직렬화/DB 조회 없음)
+ *       - 오류 응답에는 캐시 헤더를 붙이지 않음
+ *       - 바이트 캐시 응답은 인코딩(gzip/원본)별로 ETag를 구분하고 Vary: Accept-Encoding 설정
+ */
+@Component
+class CatalogCacheHeaders {
+
+    private final ProductCatalog productCatalog;
+    private final CatalogResponseCache responseCache;
+    private final CacheControl cacheControl;
+
+    CatalogCacheHeaders(ProductCatalog productCatalog,
+                        CatalogResponseCache responseCache,
+                        @Value("${product.catalog.max-age-seconds:60}") long maxAgeSeconds) {
+        this.productCatalog = productCatalog;
+        this.responseCache = responseCache;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+    }
+
+    String currentETag() {
+        return productCatalog.getETag();
+    }
+
+    /**
+     * If-None-Match가 ETag와 일치하는지 확인 (응답 헤더는 쓰지 않음)
+     *
+     * WebRequest.checkNotModified는 비교 시점에 ETag 헤더를 응답에 바로 기록하므로
+     * 이후 오류 응답에도 헤더가 남음 -> 헤더는 notModified/ok 응답에서만 설정
+     */
+    boolean isNotModified(WebRequest webRequest, String eTag) {
+        String[] values = webRequest.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (values == null) {
+            return false;
+        }
+        ETag current = ETag.create(eTag);
+        for (String value : values) {
+            for (ETag candidate : ETag.parse(value)) {
+                if (candidate.isWildcard() || candidate.compare(current, false)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .build();
+    }
+
+    <T> ResponseEntity<T> ok(String eTag, T body) {
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(body);
+    }
+
+    /**
+     * 직렬화된 바이트 캐시로 응답 (캐시 미스일 때만 body 호출)
+     *
+     * @param key 엔드포인트 + 파라미터
+     * @param body ApiResponse 응답 객체
+     */
+    ResponseEntity<?> cached(WebRequest webRequest, String key, Supplier<Object> body) {
+        String eTag = currentETag();
+        boolean gzip = acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String variantETag = gzip ? eTag.substring(0, eTag.length() - 1) + "-gzip\"" : eTag;
+        if (isNotModified(webRequest, variantETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(variantETag)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        CatalogResponseCache.EncodedBody encoded = responseCache.get(eTag, key, body);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(variantETag)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip && encoded.gzip() != null) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.gzip());
+        }
+        return builder.body(encoded.identity());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
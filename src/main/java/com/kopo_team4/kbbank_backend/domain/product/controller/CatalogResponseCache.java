@@ -0,0 +1,108 @@
+package com.kopo_team4.kbbank_backend.domain.product.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kopo_team4.kbbank_backend.domain.product.service.ProductCatalog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 상품/카테고리 조회 응답 바이트 캐시
+ *
+ * 기능: ApiResponse 봉투까지 직렬화한 JSON 바이트(원본 + gzip)를 엔드포인트/파라미터별로 보관
+ * 기준: 카탈로그 ETag가 바뀌면 세대를 교체하여 이전 응답을 모두 폐기
+ *       - 세대당 최대 MAX_ENTRIES 건 (경로 변수로 임의 키가 쌓이지 않도록), 초과분은 캐시하지 않고 직렬화
+ *       - GZIP_MIN_BYTES 미만 응답은 gzip 본문을 만들지 않음
+ *       - 이전 ETag로 들어온 요청은 캐시를 교체하지 않음 (현재 카탈로그 ETag 기준으로만 세대 생성)
+ */
+@Component
+@RequiredArgsConstructor
+class CatalogResponseCache {
+
+    static final int GZIP_MIN_BYTES = 2048;
+    private static final int MAX_ENTRIES = 256;
+
+    private final ObjectMapper objectMapper;
+    private final ProductCatalog productCatalog;
+
+    private final AtomicReference<Generation> generation =
+            new AtomicReference<>(new Generation("", new ConcurrentHashMap<>()));
+
+    private record Generation(String eTag, Map<String, EncodedBody> bodies) {
+    }
+
+    /**
+     * 직렬화된 응답 본문
+     *
+     * @param identity 원본 JSON 바이트
+     * @param gzip gzip 압축 바이트 (작은 응답이면 null)
+     */
+    record EncodedBody(byte[] identity, byte[] gzip) {
+
+        static EncodedBody encode(ObjectMapper objectMapper, Object body) {
+            try {
+                byte[] identity = objectMapper.writeValueAsBytes(body);
+                return new EncodedBody(identity, identity.length >= GZIP_MIN_BYTES ? gzip(identity) : null);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("응답 직렬화에 실패했습니다.", e);
+            }
+        }
+
+        private static byte[] gzip(byte[] identity) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(identity.length / 4);
+            try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+                out.write(identity);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return buffer.toByteArray();
+        }
+    }
+
+    /**
+     * 캐시된 응답 본문 조회 (없으면 직렬화 후 보관)
+     *
+     * @param eTag 요청 처리 시작 시 읽은 카탈로그 ETag
+     * @param key 엔드포인트 + 파라미터
+     * @param body 응답 객체 (캐시 미스일 때만 호출)
+     */
+    EncodedBody get(String eTag, String key, Supplier<Object> body) {
+        Generation current = generationFor(eTag);
+        if (current == null) {
+            return EncodedBody.encode(objectMapper, body.get());
+        }
+        EncodedBody cached = current.bodies().get(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (current.bodies().size() >= MAX_ENTRIES) {
+            return EncodedBody.encode(objectMapper, body.get());
+        }
+        return current.bodies().computeIfAbsent(key, k -> EncodedBody.encode(objectMapper, body.get()));
+    }
+
+    private Generation generationFor(String eTag) {
+        Generation current = generation.get();
+        if (current.eTag().equals(eTag)) {
+            return current;
+        }
+        if (!eTag.equals(productCatalog.getETag())) {
+            return null;
+        }
+        Generation next = new Generation(eTag, new ConcurrentHashMap<>());
+        if (generation.compareAndSet(current, next)) {
+            return next;
+        }
+        Generation raced = generation.get();
+        return raced.eTag().equals(eTag) ? raced : null;
+    }
+}
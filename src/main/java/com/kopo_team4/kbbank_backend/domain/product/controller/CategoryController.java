@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,19 +18,22 @@ import java.util.List;
 public class CategoryController {
 
     private final ProductService productService;
+    private final CatalogCacheHeaders catalogCacheHeaders;
 
     /**
      * 모든 카테고리 조회 API
      * GET /api/v1/categories
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<ProductCategoryResponse>>> getAllCategories() {
+    public ResponseEntity<?> getAllCategories(WebRequest webRequest) {
         log.info("모든 카테고리 조회 요청");
         
         try {
-            List<ProductCategoryResponse> response = productService.getAllCategories();
-            log.info("모든 카테고리 조회 성공 - 카테고리 수: {}", response.size());
-            return ResponseEntity.ok(ApiResponse.success(response));
+            return catalogCacheHeaders.cached(webRequest, "categories", () -> {
+                List<ProductCategoryResponse> response = productService.getAllCategories();
+                log.info("모든 카테고리 조회 응답 캐시 적재 - 카테고리 수: {}", response.size());
+                return ApiResponse.success(response);
+            });
         } catch (Exception e) {
             log.error("모든 카테고리 조회 중 오류 발생", e);
             return ResponseEntity.internalServerError()
@@ -42,13 +46,15 @@ public class CategoryController {
      * GET /api/v1/categories/risk/{riskLevel}
      */
     @GetMapping("/risk/{riskLevel}")
-    public ResponseEntity<ApiResponse<List<ProductCategoryResponse>>> getCategoriesByRiskLevel(@PathVariable String riskLevel) {
+    public ResponseEntity<?> getCategoriesByRiskLevel(@PathVariable String riskLevel, WebRequest webRequest) {
         log.info("위험도별 카테고리 조회 요청 - riskLevel: {}", riskLevel);
         
         try {
-            List<ProductCategoryResponse> response = productService.getCategoriesByRiskLevel(riskLevel);
-            log.info("위험도별 카테고리 조회 성공 - 카테고리 수: {}", response.size());
-            return ResponseEntity.ok(ApiResponse.success(response));
+            return catalogCacheHeaders.cached(webRequest, "categories/risk/" + riskLevel, () -> {
+                List<ProductCategoryResponse> response = productService.getCategoriesByRiskLevel(riskLevel);
+                log.info("위험도별 카테고리 조회 응답 캐시 적재 - 카테고리 수: {}", response.size());
+                return ApiResponse.success(response);
+            });
         } catch (Exception e) {
             log.error("위험도별 카테고리 조회 중 오류 발생", e);
             return ResponseEntity.internalServerError()
@@ -2,12 +2,14 @@ package com.kopo_team4.kbbank_backend.domain.product.controller;
 
 import com.kopo_team4.kbbank_backend.domain.product.dto.ProductListResponse;
 import com.kopo_team4.kbbank_backend.domain.product.dto.ProductResponse;
+import com.kopo_team4.kbbank_backend.domain.product.dto.ProductSearchResponse;
 import com.kopo_team4.kbbank_backend.domain.product.service.ProductService;
 import com.kopo_team4.kbbank_backend.global.dto.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 
@@ -18,6 +20,7 @@ import java.math.BigDecimal;
 public class ProductController {
 
     private final ProductService productService;
+    private final CatalogCacheHeaders catalogCacheHeaders;
 
     /**
      * 모든 상품 조회 API
@@ -31,16 +34,21 @@ public class ProductController {
             @RequestParam(required = false) BigDecimal minAmount,
             @RequestParam(required = false) BigDecimal maxAmount,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
         
         log.info("상품 목록 조회 요청 - category: {}, riskLevel: {}, productType: {}, page: {}, size: {}", 
                 category, riskLevel, productType, page, size);
         
         try {
+            String eTag = catalogCacheHeaders.currentETag();
+            if (catalogCacheHeaders.isNotModified(webRequest, eTag)) {
+                return catalogCacheHeaders.notModified(eTag);
+            }
             ProductListResponse response = productService.getAllProducts(
                     category, riskLevel, productType, minAmount, maxAmount, page, size);
             log.info("상품 목록 조회 성공 - 총 상품 수: {}", response.getTotalElements());
-            return ResponseEntity.ok(ApiResponse.success(response));
+            return catalogCacheHeaders.ok(eTag, ApiResponse.success(response));
         } catch (Exception e) {
             log.error("상품 목록 조회 중 오류 발생", e);
             return ResponseEntity.internalServerError()
@@ -48,18 +56,59 @@ public class ProductController {
         }
     }
 
+    /**
+     * 상품 검색 API (전문 검색 + 패싯)
+     * GET /api/v1/products/search?q=채권&riskLevel=LOW
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<ProductSearchResponse>> searchProducts(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String riskLevel,
+            @RequestParam(required = false) String productType,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+
+        log.info("상품 검색 요청 - q: {}, category: {}, riskLevel: {}, productType: {}, page: {}, size: {}",
+                q, category, riskLevel, productType, page, size);
+
+        try {
+            String eTag = catalogCacheHeaders.currentETag();
+            if (catalogCacheHeaders.isNotModified(webRequest, eTag)) {
+                return catalogCacheHeaders.notModified(eTag);
+            }
+            ProductSearchResponse response = productService.searchProducts(
+                    q, category, riskLevel, productType, page, size);
+            log.info("상품 검색 성공 - 검색 결과 수: {}", response.getTotalElements());
+            return catalogCacheHeaders.ok(eTag, ApiResponse.success(response));
+        } catch (IllegalArgumentException e) {
+            log.warn("상품 검색 실패 - {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("상품 검색 중 오류 발생", e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.error("상품 검색 중 오류가 발생했습니다."));
+        }
+    }
+
     /**
      * 특정 상품 상세 조회 API
      * GET /api/v1/products/{productId}
      */
     @GetMapping("/{productId}")
-    public ResponseEntity<ApiResponse<ProductResponse>> getProductById(@PathVariable Long productId) {
+    public ResponseEntity<ApiResponse<ProductResponse>> getProductById(@PathVariable Long productId, WebRequest webRequest) {
         log.info("상품 상세 조회 요청 - productId: {}", productId);
         
         try {
+            String eTag = catalogCacheHeaders.currentETag();
+            if (catalogCacheHeaders.isNotModified(webRequest, eTag)) {
+                return catalogCacheHeaders.notModified(eTag);
+            }
             ProductResponse response = productService.getProductById(productId);
             log.info("상품 상세 조회 성공 - 상품명: {}", response.getProductName());
-            return ResponseEntity.ok(ApiResponse.success(response));
+            return catalogCacheHeaders.ok(eTag, ApiResponse.success(response));
         } catch (IllegalArgumentException e) {
             log.warn("상품 상세 조회 실패 - 존재하지 않는 상품: {}", e.getMessage());
             return ResponseEntity.badRequest()
@@ -76,13 +125,17 @@ public class ProductController {
      * GET /api/v1/products/external/{externalProductId}
      */
     @GetMapping("/external/{externalProductId}")
-    public ResponseEntity<ApiResponse<ProductResponse>> getProductByExternalId(@PathVariable String externalProductId) {
+    public ResponseEntity<ApiResponse<ProductResponse>> getProductByExternalId(@PathVariable String externalProductId, WebRequest webRequest) {
         log.info("외부 상품 ID로 상품 조회 요청 - externalProductId: {}", externalProductId);
         
         try {
+            String eTag = catalogCacheHeaders.currentETag();
+            if (catalogCacheHeaders.isNotModified(webRequest, eTag)) {
+                return catalogCacheHeaders.notModified(eTag);
+            }
             ProductResponse response = productService.getProductByExternalId(externalProductId);
             log.info("외부 상품 ID로 상품 조회 성공 - 상품명: {}", response.getProductName());
-            return ResponseEntity.ok(ApiResponse.success(response));
+            return catalogCacheHeaders.ok(eTag, ApiResponse.success(response));
         } catch (IllegalArgumentException e) {
             log.warn("외부 상품 ID로 상품 조회 실패 - 존재하지 않는 상품: {}", e.getMessage());
             return ResponseEntity.badRequest()
@@ -99,13 +152,17 @@ public class ProductController {
      * GET /api/v1/products/category/{categoryCode}
      */
     @GetMapping("/category/{categoryCode}")
-    public ResponseEntity<ApiResponse<ProductListResponse>> getProductsByCategory(@PathVariable String categoryCode) {
+    public ResponseEntity<ApiResponse<ProductListResponse>> getProductsByCategory(@PathVariable String categoryCode, WebRequest webRequest) {
         log.info("카테고리별 상품 조회 요청 - categoryCode: {}", categoryCode);
         
         try {
+            String eTag = catalogCacheHeaders.currentETag();
+            if (catalogCacheHeaders.isNotModified(webRequest, eTag)) {
+                return catalogCacheHeaders.notModified(eTag);
+            }
             ProductListResponse response = productService.getProductsByCategory(categoryCode);
             log.info("카테고리별 상품 조회 성공 - 상품 수: {}", response.getTotalElements());
-            return ResponseEntity.ok(ApiResponse.success(response));
+            return catalogCacheHeaders.ok(eTag, ApiResponse.success(response));
         } catch (Exception e) {
             log.error("카테고리별 상품 조회 중 오류 발생", e);
             return ResponseEntity.internalServerError()
@@ -118,13 +175,17 @@ public class ProductController {
      * GET /api/v1/products/risk/{riskLevel}
      */
     @GetMapping("/risk/{riskLevel}")
-    public ResponseEntity<ApiResponse<ProductListResponse>> getProductsByRiskLevel(@PathVariable String riskLevel) {
+    public ResponseEntity<ApiResponse<ProductListResponse>> getProductsByRiskLevel(@PathVariable String riskLevel, WebRequest webRequest) {
         log.info("위험도별 상품 조회 요청 - riskLevel: {}", riskLevel);
         
         try {
+            String eTag = catalogCacheHeaders.currentETag();
+            if (catalogCacheHeaders.isNotModified(webRequest, eTag)) {
+                return catalogCacheHeaders.notModified(eTag);
+            }
             ProductListResponse response = productService.getProductsByRiskLevel(riskLevel);
             log.info("위험도별 상품 조회 성공 - 상품 수: {}", response.getTotalElements());
-            return ResponseEntity.ok(ApiResponse.success(response));
+            return catalogCacheHeaders.ok(eTag, ApiResponse.success(response));
         } catch (Exception e) {
             log.error("위험도별 상품 조회 중 오류 발생", e);
             return ResponseEntity.internalServerError()
@@ -137,13 +198,17 @@ public class ProductController {
      * GET /api/v1/products/type/{productType}
      */
     @GetMapping("/type/{productType}")
-    public ResponseEntity<ApiResponse<ProductListResponse>> getProductsByType(@PathVariable String productType) {
+    public ResponseEntity<ApiResponse<ProductListResponse>> getProductsByType(@PathVariable String productType, WebRequest webRequest) {
         log.info("상품 유형별 조회 요청 - productType: {}", productType);
         
         try {
+            String eTag = catalogCacheHeaders.currentETag();
+            if (catalogCacheHeaders.isNotModified(webRequest, eTag)) {
+                return catalogCacheHeaders.notModified(eTag);
+            }
             ProductListResponse response = productService.getProductsByType(productType);
             log.info("상품 유형별 조회 성공 - 상품 수: {}", response.getTotalElements());
-            return ResponseEntity.ok(ApiResponse.success(response));
+            return catalogCacheHeaders.ok(eTag, ApiResponse.success(response));
         } catch (Exception e) {
             log.error("상품 유형별 조회 중 오류 발생", e);
             return ResponseEntity.internalServerError()
@@ -156,13 +221,17 @@ public class ProductController {
      * GET /api/v1/products/return-rate/{minRate}
      */
     @GetMapping("/return-rate/{minRate}")
-    public ResponseEntity<ApiResponse<ProductListResponse>> getProductsByMinReturnRate(@PathVariable BigDecimal minRate) {
+    public ResponseEntity<ApiResponse<ProductListResponse>> getProductsByMinReturnRate(@PathVariable BigDecimal minRate, WebRequest webRequest) {
         log.info("최소 수익률 기준 상품 조회 요청 - minRate: {}", minRate);
         
         try {
+            String eTag = catalogCacheHeaders.currentETag();
+            if (catalogCacheHeaders.isNotModified(webRequest, eTag)) {
+                return catalogCacheHeaders.notModified(eTag);
+            }
             ProductListResponse response = productService.getProductsByMinReturnRate(minRate);
             log.info("최소 수익률 기준 상품 조회 성공 - 상품 수: {}", response.getTotalElements());
-            return ResponseEntity.ok(ApiResponse.success(response));
+            return catalogCacheHeaders.ok(eTag, ApiResponse.success(response));
         } catch (Exception e) {
             log.error("최소 수익률 기준 상품 조회 중 오류 발생", e);
             return ResponseEntity.internalServerError()
@@ -175,13 +244,17 @@ public class ProductController {
      * GET /api/v1/products/investment-amount/{amount}
      */
     @GetMapping("/investment-amount/{amount}")
-    public ResponseEntity<ApiResponse<ProductListResponse>> getProductsByInvestmentAmount(@PathVariable BigDecimal amount) {
+    public ResponseEntity<ApiResponse<ProductListResponse>> getProductsByInvestmentAmount(@PathVariable BigDecimal amount, WebRequest webRequest) {
         log.info("투자 금액 기준 상품 조회 요청 - amount: {}", amount);
         
         try {
+            String eTag = catalogCacheHeaders.currentETag();
+            if (catalogCacheHeaders.isNotModified(webRequest, eTag)) {
+                return catalogCacheHeaders.notModified(eTag);
+            }
             ProductListResponse response = productService.getProductsByInvestmentAmount(amount);
             log.info("투자 금액 기준 상품 조회 성공 - 상품 수: {}", response.getTotalElements());
-            return ResponseEntity.ok(ApiResponse.success(response));
+            return catalogCacheHeaders.ok(eTag, ApiResponse.success(response));
         } catch (Exception e) {
             log.error("투자 금액 기준 상품 조회 중 오류 발생", e);
             return ResponseEntity.internalServerError()
@@ -194,13 +267,15 @@ public class ProductController {
      * GET /api/v1/products/active
      */
     @GetMapping("/active")
-    public ResponseEntity<ApiResponse<ProductListResponse>> getAllActiveProducts() {
+    public ResponseEntity<?> getAllActiveProducts(WebRequest webRequest) {
         log.info("모든 활성 상품 조회 요청");
         
         try {
-            ProductListResponse response = productService.getAllActiveProducts();
-            log.info("모든 활성 상품 조회 성공 - 상품 수: {}", response.getTotalElements());
-            return ResponseEntity.ok(ApiResponse.success(response));
+            return catalogCacheHeaders.cached(webRequest, "products/active", () -> {
+                ProductListResponse response = productService.getAllActiveProducts();
+                log.info("모든 활성 상품 조회 응답 캐시 적재 - 상품 수: {}", response.getTotalElements());
+                return ApiResponse.success(response);
+            });
         } catch (Exception e) {
             log.error("모든 활성 상품 조회 중 오류 발생", e);
             return ResponseEntity.internalServerError()
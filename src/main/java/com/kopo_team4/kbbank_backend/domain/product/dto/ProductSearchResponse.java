@@ -0,0 +1,27 @@
+package com.kopo_team4.kbbank_backend.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductSearchResponse {
+    private String query;
+    private List<ProductResponse> products;
+    private long totalElements;
+    private int totalPages;
+    private int currentPage;
+    private int pageSize;
+
+    // 패싯 (값 -> 상품 수, 상품 수 내림차순)
+    private Map<String, Long> categoryFacets;
+    private Map<String, Long> riskLevelFacets;
+    private Map<String, Long> productTypeFacets;
+}
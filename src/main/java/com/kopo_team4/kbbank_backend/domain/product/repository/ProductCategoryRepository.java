@@ -2,8 +2,10 @@ package com.kopo_team4.kbbank_backend.domain.product.repository;
 
 import com.kopo_team4.kbbank_backend.domain.product.entity.ProductCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +17,7 @@ public interface ProductCategoryRepository extends JpaRepository<ProductCategory
     List<ProductCategory> findByRiskLevel(String riskLevel);
     
     List<ProductCategory> findAllByOrderByCategoryCode();
+    
+    @Query("SELECT MAX(c.updatedAt) FROM ProductCategory c")
+    LocalDateTime findLatestUpdatedAt();
 }
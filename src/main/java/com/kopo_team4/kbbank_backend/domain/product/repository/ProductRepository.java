@@ -3,15 +3,21 @@ package com.kopo_team4.kbbank_backend.domain.product.repository;
 import com.kopo_team4.kbbank_backend.domain.product.entity.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * 상품 저장소
+ * 목록 조회는 모두 카테고리를 함께 조회 (ProductResponse 변환 시 행마다 카테고리 지연 로딩 방지)
+ */
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
     
@@ -21,34 +27,67 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     
     Optional<Product> findByProductName(String productName);
     
+    @EntityGraph(attributePaths = "category")
     List<Product> findByCategoryCategoryCode(String categoryCode);
     
+    @EntityGraph(attributePaths = "category")
     List<Product> findByProductType(String productType);
     
+    @EntityGraph(attributePaths = "category")
     List<Product> findByRiskLevel(String riskLevel);
     
+    @EntityGraph(attributePaths = "category")
     List<Product> findByProductStatus(String productStatus);
     
+    @EntityGraph(attributePaths = "category")
     @Query("SELECT p FROM Product p WHERE p.productStatus = 'ACTIVE'")
     List<Product> findAllActiveProducts();
     
+    /**
+     * 전체 상품 조회 (카탈로그 스냅샷 적재용, 카테고리 함께 조회)
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.category ORDER BY p.productId")
+    List<Product> findAllWithCategory();
+    
+    /**
+     * 카탈로그 변경 감지용 최종 수정/동기화 시각
+     */
+    @Query("SELECT MAX(p.updatedAt) FROM Product p")
+    LocalDateTime findLatestUpdatedAt();
+    
+    @Query("SELECT MAX(p.lastSyncAt) FROM Product p")
+    LocalDateTime findLatestSyncedAt();
+    
+    @EntityGraph(attributePaths = "category")
     @Query("SELECT p FROM Product p WHERE p.category.categoryCode = :categoryCode AND p.productStatus = 'ACTIVE'")
     List<Product> findActiveProductsByCategory(@Param("categoryCode") String categoryCode);
     
+    @EntityGraph(attributePaths = "category")
     @Query("SELECT p FROM Product p WHERE p.riskLevel = :riskLevel AND p.productStatus = 'ACTIVE'")
     List<Product> findActiveProductsByRiskLevel(@Param("riskLevel") String riskLevel);
     
+    @EntityGraph(attributePaths = "category")
     @Query("SELECT p FROM Product p WHERE p.productType = :productType AND p.productStatus = 'ACTIVE'")
     List<Product> findActiveProductsByType(@Param("productType") String productType);
     
+    @EntityGraph(attributePaths = "category")
     @Query("SELECT p FROM Product p WHERE p.expectedReturnRate >= :minRate AND p.productStatus = 'ACTIVE'")
     List<Product> findActiveProductsByMinReturnRate(@Param("minRate") BigDecimal minRate);
     
+    @EntityGraph(attributePaths = "category")
     @Query("SELECT p FROM Product p WHERE p.minInvestmentAmount <= :amount AND p.maxInvestmentAmount >= :amount AND p.productStatus = 'ACTIVE'")
     List<Product> findActiveProductsByInvestmentAmount(@Param("amount") BigDecimal amount);
     
-    // 복합 조건 검색
-    @Query("SELECT p FROM Product p WHERE " +
+    // 복합 조건 검색 (카테고리 함께 조회, 건수는 별도 count 쿼리)
+    @EntityGraph(attributePaths = "category")
+    @Query(value = "SELECT p FROM Product p WHERE " +
+           "(:categoryCode IS NULL OR p.category.categoryCode = :categoryCode) AND " +
+           "(:riskLevel IS NULL OR p.riskLevel = :riskLevel) AND " +
+           "(:productType IS NULL OR p.productType = :productType) AND " +
+           "(:minAmount IS NULL OR p.minInvestmentAmount >= :minAmount) AND " +
+           "(:maxAmount IS NULL OR p.maxInvestmentAmount <= :maxAmount) AND " +
+           "p.productStatus = 'ACTIVE'",
+           countQuery = "SELECT COUNT(p) FROM Product p WHERE " +
            "(:categoryCode IS NULL OR p.category.categoryCode = :categoryCode) AND " +
            "(:riskLevel IS NULL OR p.riskLevel = :riskLevel) AND " +
            "(:productType IS NULL OR p.productType = :productType) AND " +
@@ -0,0 +1,137 @@
+package com.kopo_team4.kbbank_backend.domain.product.service;
+
+import com.kopo_team4.kbbank_backend.domain.product.entity.Product;
+import com.kopo_team4.kbbank_backend.domain.product.entity.ProductCategory;
+import com.kopo_team4.kbbank_backend.domain.product.repository.ProductCategoryRepository;
+import com.kopo_team4.kbbank_backend.domain.product.repository.ProductRepository;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 상품 카탈로그 (인메모리 스냅샷 보관)
+ *
+ * 기능: 상품/카테고리 전체를 불변 스냅샷으로 적재하고 조회는 모두 스냅샷에서 처리
+ * 기준: 주기적으로 버전(건수 + 최종 수정/동기화 시각)만 조회하여 바뀐 경우에만 다시 적재
+ *       - 새 스냅샷은 완성된 뒤 원자적으로 교체 (조회 중인 요청은 이전 스냅샷을 끝까지 사용)
+ *       - 첫 조회 시 스냅샷이 없으면 그 자리에서 적재
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCatalog {
+
+    private final ProductRepository productRepository;
+    private final ProductCategoryRepository productCategoryRepository;
+
+    private final AtomicReference<ProductCatalogSnapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * 현재 스냅샷 (없으면 적재)
+     */
+    ProductCatalogSnapshot current() {
+        ProductCatalogSnapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot.get();
+            return current != null ? current : reload(loadVersion());
+        }
+    }
+
+    /**
+     * 현재 스냅샷의 ETag
+     * 응답 데이터보다 먼저 읽어야 함 (그 사이 교체되면 다음 요청에서 새 ETag로 200 응답)
+     */
+    public String getETag() {
+        return current().getETag();
+    }
+
+    /**
+     * 카탈로그 버전 확인 후 변경되었으면 다시 적재
+     */
+    @Scheduled(initialDelayString = "${product.catalog.poll-interval-ms:30000}",
+               fixedDelayString = "${product.catalog.poll-interval-ms:30000}")
+    public void refreshIfChanged() {
+        ProductCatalogSnapshot.Version version = loadVersion();
+        ProductCatalogSnapshot current = snapshot.get();
+        if (current != null && current.getVersion().equals(version)) {
+            return;
+        }
+        synchronized (this) {
+            reload(version);
+        }
+    }
+
+    /**
+     * 즉시 다시 적재 (상품 동기화 직후 등)
+     */
+    public synchronized void refresh() {
+        reload(loadVersion());
+    }
+
+    /**
+     * 스냅샷 상태 (건수, 적재 후 경과 시간)
+     */
+    public Stats getStats() {
+        ProductCatalogSnapshot current = snapshot.get();
+        if (current == null) {
+            return Stats.builder().loaded(false).build();
+        }
+        return Stats.builder()
+                .loaded(true)
+                .productCount(current.size())
+                .activeProductCount(current.findAllActive().size())
+                .categoryCount(current.findAllCategories().size())
+                .searchTermCount(current.searchTermCount())
+                .ageSeconds((System.currentTimeMillis() - current.getLoadedAtMillis()) / 1_000)
+                .build();
+    }
+
+    private ProductCatalogSnapshot.Version loadVersion() {
+        return new ProductCatalogSnapshot.Version(
+                productRepository.count(),
+                productRepository.findLatestUpdatedAt(),
+                productRepository.findLatestSyncedAt(),
+                productCategoryRepository.count(),
+                productCategoryRepository.findLatestUpdatedAt());
+    }
+
+    /**
+     * 버전을 먼저 읽고 데이터를 적재 (그 사이 변경이 있으면 다음 확인 시 다시 적재됨)
+     */
+    private ProductCatalogSnapshot reload(ProductCatalogSnapshot.Version version) {
+        long startedAt = System.currentTimeMillis();
+        List<Product> products = productRepository.findAllWithCategory();
+        List<ProductCategory> categories = productCategoryRepository.findAll();
+        ProductCatalogSnapshot loaded = new ProductCatalogSnapshot(version, products, categories, snapshot.get());
+        snapshot.set(loaded);
+        log.info("상품 카탈로그 적재 완료 - 상품: {}건, 카테고리: {}건, 검색어: {}개(재사용 상품: {}건), 소요시간: {}ms",
+                loaded.size(), categories.size(), loaded.searchTermCount(), loaded.searchReusedCount(),
+                System.currentTimeMillis() - startedAt);
+        return loaded;
+    }
+
+    /**
+     * 상품 카탈로그 상태
+     */
+    @Getter
+    @Builder
+    @ToString
+    public static class Stats {
+        private final boolean loaded;
+        private final long productCount;
+        private final long activeProductCount;
+        private final long categoryCount;
+        private final long searchTermCount;
+        private final long ageSeconds;
+    }
+}
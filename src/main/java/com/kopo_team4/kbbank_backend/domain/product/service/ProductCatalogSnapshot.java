@@ -0,0 +1,364 @@
+package com.kopo_team4.kbbank_backend.domain.product.service;
+
+import com.kopo_team4.kbbank_backend.domain.product.dto.ProductCategoryResponse;
+import com.kopo_team4.kbbank_backend.domain.product.dto.ProductResponse;
+import com.kopo_team4.kbbank_backend.domain.product.entity.Product;
+import com.kopo_team4.kbbank_backend.domain.product.entity.ProductCategory;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 카탈로그 스냅샷 (불변)
+ *
+ * 기능: 상품/카테고리 전체를 응답 DTO로 변환해 두고 조회 조건별 인덱스를 미리 계산
+ * 기준: 목록은 모두 productId 오름차순 (기존 JPQL 조회 결과와 동일한 순서)
+ *       - 카테고리/위험도/상품유형: 활성 상품 목록 맵
+ *       - 기대수익률/최소투자금액: 오름차순 정렬 배열 (이진 탐색으로 범위 조회)
+ *       - ETag: 스냅샷 내용의 SHA-256 (같은 데이터를 적재한 인스턴스는 같은 값)
+ *       - 전문 검색: 활성 상품 2-gram 역색인 (ProductSearchIndex), 패싯은 검색 결과에서 집계
+ * 주의: 반환되는 DTO는 모든 요청이 공유하므로 수정하지 않음
+ */
+final class ProductCatalogSnapshot {
+
+    private static final String ACTIVE = "ACTIVE";
+    private static final Comparator<ProductResponse> BY_PRODUCT_ID = Comparator.comparing(ProductResponse::getProductId);
+
+    private final Version version;
+    private final long loadedAtMillis;
+    private final String eTag;
+
+    private final Map<Long, ProductResponse> byId;
+    private final Map<String, ProductResponse> byExternalId;
+    private final List<ProductResponse> active;
+    private final Map<String, List<ProductResponse>> activeByCategory;
+    private final Map<String, List<ProductResponse>> activeByRiskLevel;
+    private final Map<String, List<ProductResponse>> activeByType;
+
+    private final BigDecimal[] returnRates;
+    private final ProductResponse[] byReturnRate;
+    private final BigDecimal[] minInvestmentAmounts;
+    private final ProductResponse[] byMinInvestmentAmount;
+
+    private final List<ProductCategoryResponse> categories;
+    private final Map<String, List<ProductCategoryResponse>> categoriesByRiskLevel;
+
+    private final ProductSearchIndex searchIndex;
+
+    /**
+     * 카탈로그 버전 (변경 감지용)
+     */
+    record Version(long productCount, LocalDateTime productUpdatedAt, LocalDateTime productSyncedAt,
+                   long categoryCount, LocalDateTime categoryUpdatedAt) {
+    }
+
+    /**
+     * 전문 검색 결과 (패싯: 값 -> 상품 수, 상품 수 내림차순)
+     */
+    record SearchResult(List<ProductResponse> products, Map<String, Long> categoryFacets,
+                        Map<String, Long> riskLevelFacets, Map<String, Long> productTypeFacets) {
+    }
+
+    /**
+     * @param previous 이전 스냅샷 (검색 인덱스 재사용, 없으면 null)
+     */
+    ProductCatalogSnapshot(Version version, List<Product> products, List<ProductCategory> productCategories,
+                           ProductCatalogSnapshot previous) {
+        this.version = version;
+        this.loadedAtMillis = System.currentTimeMillis();
+
+        List<ProductResponse> all = products.stream()
+                .map(ProductResponse::from)
+                .sorted(BY_PRODUCT_ID)
+                .toList();
+        Map<Long, ProductResponse> ids = new HashMap<>();
+        Map<String, ProductResponse> externalIds = new HashMap<>();
+        for (ProductResponse product : all) {
+            ids.put(product.getProductId(), product);
+            externalIds.put(product.getExternalProductId(), product);
+        }
+        this.byId = Map.copyOf(ids);
+        this.byExternalId = Map.copyOf(externalIds);
+
+        this.active = all.stream().filter(p -> ACTIVE.equals(p.getProductStatus())).toList();
+        this.activeByCategory = groupActive(p -> p.getCategory().getCategoryCode());
+        this.activeByRiskLevel = groupActive(ProductResponse::getRiskLevel);
+        this.activeByType = groupActive(ProductResponse::getProductType);
+
+        this.byReturnRate = sortedBy(ProductResponse::getExpectedReturnRate);
+        this.returnRates = keysOf(byReturnRate, ProductResponse::getExpectedReturnRate);
+        this.byMinInvestmentAmount = sortedBy(ProductResponse::getMinInvestmentAmount);
+        this.minInvestmentAmounts = keysOf(byMinInvestmentAmount, ProductResponse::getMinInvestmentAmount);
+
+        this.categories = productCategories.stream()
+                .map(ProductCategoryResponse::from)
+                .sorted(Comparator.comparing(ProductCategoryResponse::getCategoryCode))
+                .toList();
+        this.categoriesByRiskLevel = categories.stream()
+                .filter(c -> c.getRiskLevel() != null)
+                .collect(Collectors.groupingBy(ProductCategoryResponse::getRiskLevel,
+                        Collectors.collectingAndThen(Collectors.toList(), List::copyOf)));
+        this.eTag = contentETag(all, categories);
+        this.searchIndex = new ProductSearchIndex(active, previous != null ? previous.searchIndex : null);
+    }
+
+    Version getVersion() {
+        return version;
+    }
+
+    long getLoadedAtMillis() {
+        return loadedAtMillis;
+    }
+
+    /**
+     * 강한 ETag (따옴표 포함)
+     */
+    String getETag() {
+        return eTag;
+    }
+
+    int size() {
+        return byId.size();
+    }
+
+    ProductResponse findById(Long productId) {
+        return byId.get(productId);
+    }
+
+    ProductResponse findByExternalId(String externalProductId) {
+        return byExternalId.get(externalProductId);
+    }
+
+    List<ProductResponse> findAllActive() {
+        return active;
+    }
+
+    List<ProductResponse> findActiveByCategory(String categoryCode) {
+        return activeByCategory.getOrDefault(categoryCode, List.of());
+    }
+
+    List<ProductResponse> findActiveByRiskLevel(String riskLevel) {
+        return activeByRiskLevel.getOrDefault(riskLevel, List.of());
+    }
+
+    List<ProductResponse> findActiveByType(String productType) {
+        return activeByType.getOrDefault(productType, List.of());
+    }
+
+    /**
+     * 기대수익률 >= minRate 인 활성 상품
+     */
+    List<ProductResponse> findActiveByMinReturnRate(BigDecimal minRate) {
+        int from = lowerBound(returnRates, minRate);
+        return byProductId(Arrays.asList(byReturnRate).subList(from, byReturnRate.length));
+    }
+
+    /**
+     * 최소투자금액 <= amount <= 최대투자금액 인 활성 상품
+     */
+    List<ProductResponse> findActiveByInvestmentAmount(BigDecimal amount) {
+        int to = upperBound(minInvestmentAmounts, amount);
+        List<ProductResponse> matched = new ArrayList<>();
+        for (int i = 0; i < to; i++) {
+            BigDecimal max = byMinInvestmentAmount[i].getMaxInvestmentAmount();
+            if (max != null && max.compareTo(amount) >= 0) {
+                matched.add(byMinInvestmentAmount[i]);
+            }
+        }
+        return byProductId(matched);
+    }
+
+    /**
+     * 복합 조건 검색 (null 조건은 무시) - 가장 좁은 인덱스에서 시작하여 나머지 조건으로 필터링
+     */
+    List<ProductResponse> search(String categoryCode, String riskLevel, String productType,
+                                 BigDecimal minAmount, BigDecimal maxAmount) {
+        List<ProductResponse> base = active;
+        if (categoryCode != null) {
+            base = narrower(base, findActiveByCategory(categoryCode));
+        }
+        if (riskLevel != null) {
+            base = narrower(base, findActiveByRiskLevel(riskLevel));
+        }
+        if (productType != null) {
+            base = narrower(base, findActiveByType(productType));
+        }
+
+        Predicate<ProductResponse> condition = p ->
+                (categoryCode == null || categoryCode.equals(p.getCategory().getCategoryCode()))
+                        && (riskLevel == null || riskLevel.equals(p.getRiskLevel()))
+                        && (productType == null || productType.equals(p.getProductType()))
+                        && (minAmount == null || atLeast(p.getMinInvestmentAmount(), minAmount))
+                        && (maxAmount == null || atLeast(maxAmount, p.getMaxInvestmentAmount()));
+        return base.stream().filter(condition).toList();
+    }
+
+    /**
+     * 전문 검색 + 필터 (null/빈 조건은 무시)
+     * 각 패싯은 자기 차원을 제외한 나머지 조건으로 집계 (선택한 값 외 다른 값의 건수도 표시)
+     */
+    SearchResult searchText(String query, String categoryCode, String riskLevel, String productType) {
+        Map<String, Long> categoryFacets = new HashMap<>();
+        Map<String, Long> riskLevelFacets = new HashMap<>();
+        Map<String, Long> productTypeFacets = new HashMap<>();
+        List<ProductResponse> matched = new ArrayList<>();
+
+        for (ProductResponse product : searchIndex.search(query)) {
+            String category = product.getCategory().getCategoryCode();
+            boolean categoryOk = categoryCode == null || categoryCode.equals(category);
+            boolean riskOk = riskLevel == null || riskLevel.equals(product.getRiskLevel());
+            boolean typeOk = productType == null || productType.equals(product.getProductType());
+            if (riskOk && typeOk) {
+                increment(categoryFacets, category);
+            }
+            if (categoryOk && typeOk) {
+                increment(riskLevelFacets, product.getRiskLevel());
+            }
+            if (categoryOk && riskOk) {
+                increment(productTypeFacets, product.getProductType());
+            }
+            if (categoryOk && riskOk && typeOk) {
+                matched.add(product);
+            }
+        }
+        return new SearchResult(List.copyOf(matched), byCountDesc(categoryFacets),
+                byCountDesc(riskLevelFacets), byCountDesc(productTypeFacets));
+    }
+
+    int searchTermCount() {
+        return searchIndex.termCount();
+    }
+
+    int searchReusedCount() {
+        return searchIndex.reusedCount();
+    }
+
+    List<ProductCategoryResponse> findAllCategories() {
+        return categories;
+    }
+
+    List<ProductCategoryResponse> findCategoriesByRiskLevel(String riskLevel) {
+        return categoriesByRiskLevel.getOrDefault(riskLevel, List.of());
+    }
+
+    private static String contentETag(List<ProductResponse> products, List<ProductCategoryResponse> categories) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (ProductResponse product : products) {
+                digest.update(product.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            for (ProductCategoryResponse category : categories) {
+                digest.update(category.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            StringBuilder hex = new StringBuilder("\"");
+            byte[] hash = digest.digest();
+            for (int i = 0; i < 12; i++) {
+                hex.append(String.format("%02x", hash[i]));
+            }
+            return hex.append('"').toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private Map<String, List<ProductResponse>> groupActive(Function<ProductResponse, String> key) {
+        Map<String, List<ProductResponse>> grouped = new LinkedHashMap<>();
+        for (ProductResponse product : active) {
+            String value = key.apply(product);
+            if (value != null) {
+                grouped.computeIfAbsent(value, k -> new ArrayList<>()).add(product);
+            }
+        }
+        grouped.replaceAll((k, v) -> List.copyOf(v));
+        return Map.copyOf(grouped);
+    }
+
+    /**
+     * 키 값이 있는 활성 상품을 키 오름차순으로 정렬 (SQL 비교와 같이 null은 제외)
+     */
+    private ProductResponse[] sortedBy(Function<ProductResponse, BigDecimal> key) {
+        return active.stream()
+                .filter(p -> key.apply(p) != null)
+                .sorted(Comparator.comparing(key).thenComparing(BY_PRODUCT_ID))
+                .toArray(ProductResponse[]::new);
+    }
+
+    private static BigDecimal[] keysOf(ProductResponse[] sorted, Function<ProductResponse, BigDecimal> key) {
+        return Arrays.stream(sorted).map(key).toArray(BigDecimal[]::new);
+    }
+
+    /**
+     * value 이상인 첫 위치
+     */
+    private static int lowerBound(BigDecimal[] keys, BigDecimal value) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * value 초과인 첫 위치
+     */
+    private static int upperBound(BigDecimal[] keys, BigDecimal value) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(value) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static void increment(Map<String, Long> counts, String value) {
+        if (value != null) {
+            counts.merge(value, 1L, Long::sum);
+        }
+    }
+
+    private static Map<String, Long> byCountDesc(Map<String, Long> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .forEach(e -> sorted.put(e.getKey(), e.getValue()));
+        return sorted;
+    }
+
+    private static boolean atLeast(BigDecimal value, BigDecimal bound) {
+        return value != null && bound != null && value.compareTo(bound) >= 0;
+    }
+
+    private static List<ProductResponse> narrower(List<ProductResponse> current, List<ProductResponse> candidate) {
+        return candidate.size() < current.size() ? candidate : current;
+    }
+
+    private static List<ProductResponse> byProductId(List<ProductResponse> products) {
+        return products.stream()
+                .sorted(BY_PRODUCT_ID)
+                .toList();
+    }
+}
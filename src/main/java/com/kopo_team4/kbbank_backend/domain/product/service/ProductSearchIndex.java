@@ -0,0 +1,181 @@
+package com.kopo_team4.kbbank_backend.domain.product.service;
+
+import com.kopo_team4.kbbank_backend.domain.product.dto.ProductResponse;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상품 전문 검색 인덱스 (불변)
+ *
+ * 기능: 활성 상품의 이름/부제/설명/특징/투자전략을 2-gram으로 분해한 역색인
+ * 기준: 문자/숫자 연속 구간을 소문자(NFKC 정규화)로 바꾼 뒤 2글자씩 자름 (한 글자 단어는 그대로)
+ *       - 한글은 형태소 분석 없이 2-gram으로 부분 일치 ("채권형" 검색 -> "채권", "권형")
+ *       - 한 글자 검색어는 한 글자 단어와만 일치
+ *       - 검색어의 모든 gram을 포함하는 상품만 결과 (AND), 상품명/부제 일치 상품을 먼저 정렬
+ *       - 다시 적재할 때 내용이 같은 상품은 이전 인덱스의 gram을 재사용 (바뀐 상품만 다시 분해)
+ */
+final class ProductSearchIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final List<ProductResponse> products;
+    private final Map<Long, Terms> termsByProductId;
+    private final Map<String, int[]> postings;
+    private final int reusedCount;
+
+    /**
+     * 상품별 gram (재사용 판단을 위해 원본 DTO 보관)
+     */
+    private record Terms(ProductResponse source, Set<String> titleGrams, Set<String> grams) {
+    }
+
+    /**
+     * @param products 색인 대상 (정렬 순서가 결과 순서)
+     * @param previous 이전 인덱스 (없으면 null)
+     */
+    ProductSearchIndex(List<ProductResponse> products, ProductSearchIndex previous) {
+        this.products = products;
+
+        Map<Long, Terms> terms = new HashMap<>();
+        Map<String, List<Integer>> building = new HashMap<>();
+        int reused = 0;
+        for (int ordinal = 0; ordinal < products.size(); ordinal++) {
+            ProductResponse product = products.get(ordinal);
+            Terms productTerms = previous != null ? previous.reusableTerms(product) : null;
+            if (productTerms == null) {
+                productTerms = analyze(product);
+            } else {
+                reused++;
+            }
+            terms.put(product.getProductId(), productTerms);
+            for (String gram : productTerms.grams()) {
+                building.computeIfAbsent(gram, k -> new ArrayList<>()).add(ordinal);
+            }
+        }
+        this.termsByProductId = Map.copyOf(terms);
+
+        Map<String, int[]> lists = new HashMap<>(building.size() * 2);
+        building.forEach((gram, ordinals) -> lists.put(gram, ordinals.stream().mapToInt(Integer::intValue).toArray()));
+        this.postings = lists;
+        this.reusedCount = reused;
+    }
+
+    int termCount() {
+        return postings.size();
+    }
+
+    /**
+     * 이전 인덱스에서 gram을 재사용한 상품 수
+     */
+    int reusedCount() {
+        return reusedCount;
+    }
+
+    /**
+     * 검색어와 일치하는 상품 (검색어가 비어 있으면 전체)
+     */
+    List<ProductResponse> search(String query) {
+        List<String> queryGrams = grams(query);
+        if (queryGrams.isEmpty()) {
+            return products;
+        }
+
+        int[][] lists = new int[queryGrams.size()][];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = postings.getOrDefault(queryGrams.get(i), EMPTY);
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+        int[] matched = lists[0];
+        for (int i = 1; i < lists.length && matched.length > 0; i++) {
+            matched = intersect(matched, lists[i]);
+        }
+
+        List<ProductResponse> titleHits = new ArrayList<>();
+        List<ProductResponse> otherHits = new ArrayList<>();
+        for (int ordinal : matched) {
+            ProductResponse product = products.get(ordinal);
+            if (termsByProductId.get(product.getProductId()).titleGrams().containsAll(queryGrams)) {
+                titleHits.add(product);
+            } else {
+                otherHits.add(product);
+            }
+        }
+        titleHits.addAll(otherHits);
+        return titleHits;
+    }
+
+    private Terms reusableTerms(ProductResponse product) {
+        Terms terms = termsByProductId.get(product.getProductId());
+        return terms != null && terms.source().equals(product) ? terms : null;
+    }
+
+    private static Terms analyze(ProductResponse product) {
+        Set<String> titleGrams = new LinkedHashSet<>(grams(product.getProductName()));
+        titleGrams.addAll(grams(product.getProductSubName()));
+
+        Set<String> allGrams = new LinkedHashSet<>(titleGrams);
+        allGrams.addAll(grams(product.getProductDescription()));
+        allGrams.addAll(grams(product.getProductFeatures()));
+        allGrams.addAll(grams(product.getInvestmentStrategy()));
+        return new Terms(product, Set.copyOf(titleGrams), Set.copyOf(allGrams));
+    }
+
+    /**
+     * 텍스트를 2-gram 목록으로 분해 (중복 제거, 등장 순서 유지)
+     */
+    static List<String> grams(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        Set<String> grams = new LinkedHashSet<>();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addWordGrams(normalized, start, i, grams);
+                start = -1;
+            }
+        }
+        return List.copyOf(grams);
+    }
+
+    private static void addWordGrams(String text, int from, int to, Set<String> grams) {
+        if (to - from == 1) {
+            grams.add(text.substring(from, to));
+            return;
+        }
+        for (int i = from; i + 2 <= to; i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+}
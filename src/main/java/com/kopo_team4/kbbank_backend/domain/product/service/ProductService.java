@@ -3,30 +3,28 @@ package com.kopo_team4.kbbank_backend.domain.product.service;
 import com.kopo_team4.kbbank_backend.domain.product.dto.ProductCategoryResponse;
 import com.kopo_team4.kbbank_backend.domain.product.dto.ProductListResponse;
 import com.kopo_team4.kbbank_backend.domain.product.dto.ProductResponse;
-import com.kopo_team4.kbbank_backend.domain.product.entity.Product;
-import com.kopo_team4.kbbank_backend.domain.product.entity.ProductCategory;
-import com.kopo_team4.kbbank_backend.domain.product.repository.ProductCategoryRepository;
-import com.kopo_team4.kbbank_backend.domain.product.repository.ProductRepository;
+import com.kopo_team4.kbbank_backend.domain.product.dto.ProductSearchResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * 상품/카테고리 조회 서비스
+ * 모든 조회는 ProductCatalog 스냅샷에서 처리 (DB 조회 없음)
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
 public class ProductService {
 
-    private final ProductRepository productRepository;
-    private final ProductCategoryRepository productCategoryRepository;
+    private final ProductCatalog productCatalog;
 
     /**
      * 모든 상품 조회 (페이징)
@@ -38,23 +36,55 @@ public class ProductService {
                 category, riskLevel, productType, page, size);
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Product> productPage = productRepository.findProductsByConditions(
-                category, riskLevel, productType, minAmount, maxAmount, pageable);
+        List<ProductResponse> matched = productCatalog.current().search(
+                category, riskLevel, productType, minAmount, maxAmount);
 
-        Page<ProductResponse> responsePage = productPage.map(ProductResponse::from);
+        int from = (int) Math.min(pageable.getOffset(), matched.size());
+        int to = Math.min(from + size, matched.size());
+        Page<ProductResponse> responsePage = new PageImpl<>(matched.subList(from, to), pageable, matched.size());
         return ProductListResponse.from(responsePage);
     }
 
+    /**
+     * 상품 전문 검색 (상품명/부제/설명/특징/투자전략) + 카테고리/위험도/상품유형 패싯
+     */
+    public ProductSearchResponse searchProducts(String query, String category, String riskLevel,
+                                                String productType, int page, int size) {
+        log.info("상품 검색 요청 - query: {}, category: {}, riskLevel: {}, productType: {}, page: {}, size: {}",
+                query, category, riskLevel, productType, page, size);
+
+        Pageable pageable = PageRequest.of(page, size);
+        ProductCatalogSnapshot.SearchResult result = productCatalog.current().searchText(
+                query, emptyToNull(category), emptyToNull(riskLevel), emptyToNull(productType));
+
+        List<ProductResponse> matched = result.products();
+        int from = (int) Math.min(pageable.getOffset(), matched.size());
+        int to = Math.min(from + size, matched.size());
+        Page<ProductResponse> responsePage = new PageImpl<>(matched.subList(from, to), pageable, matched.size());
+        return ProductSearchResponse.builder()
+                .query(query)
+                .products(responsePage.getContent())
+                .totalElements(responsePage.getTotalElements())
+                .totalPages(responsePage.getTotalPages())
+                .currentPage(responsePage.getNumber())
+                .pageSize(responsePage.getSize())
+                .categoryFacets(result.categoryFacets())
+                .riskLevelFacets(result.riskLevelFacets())
+                .productTypeFacets(result.productTypeFacets())
+                .build();
+    }
+
     /**
      * 특정 상품 상세 조회
      */
     public ProductResponse getProductById(Long productId) {
         log.info("상품 상세 조회 요청 - productId: {}", productId);
 
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다. productId: " + productId));
-
-        return ProductResponse.from(product);
+        ProductResponse product = productCatalog.current().findById(productId);
+        if (product == null) {
+            throw new IllegalArgumentException("존재하지 않는 상품입니다. productId: " + productId);
+        }
+        return product;
     }
 
     /**
@@ -63,10 +93,11 @@ public class ProductService {
     public ProductResponse getProductByExternalId(String externalProductId) {
         log.info("외부 상품 ID로 상품 조회 요청 - externalProductId: {}", externalProductId);
 
-        Product product = productRepository.findByExternalProductId(externalProductId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다. externalProductId: " + externalProductId));
-
-        return ProductResponse.from(product);
+        ProductResponse product = productCatalog.current().findByExternalId(externalProductId);
+        if (product == null) {
+            throw new IllegalArgumentException("존재하지 않는 상품입니다. externalProductId: " + externalProductId);
+        }
+        return product;
     }
 
     /**
@@ -75,12 +106,7 @@ public class ProductService {
     public ProductListResponse getProductsByCategory(String categoryCode) {
         log.info("카테고리별 상품 조회 요청 - categoryCode: {}", categoryCode);
 
-        List<Product> products = productRepository.findActiveProductsByCategory(categoryCode);
-        List<ProductResponse> productResponses = products.stream()
-                .map(ProductResponse::from)
-                .collect(Collectors.toList());
-
-        return ProductListResponse.from(productResponses);
+        return ProductListResponse.from(productCatalog.current().findActiveByCategory(categoryCode));
     }
 
     /**
@@ -89,12 +115,7 @@ public class ProductService {
     public ProductListResponse getProductsByRiskLevel(String riskLevel) {
         log.info("위험도별 상품 조회 요청 - riskLevel: {}", riskLevel);
 
-        List<Product> products = productRepository.findActiveProductsByRiskLevel(riskLevel);
-        List<ProductResponse> productResponses = products.stream()
-                .map(ProductResponse::from)
-                .collect(Collectors.toList());
-
-        return ProductListResponse.from(productResponses);
+        return ProductListResponse.from(productCatalog.current().findActiveByRiskLevel(riskLevel));
     }
 
     /**
@@ -103,12 +124,7 @@ public class ProductService {
     public ProductListResponse getProductsByType(String productType) {
         log.info("상품 유형별 조회 요청 - productType: {}", productType);
 
-        List<Product> products = productRepository.findActiveProductsByType(productType);
-        List<ProductResponse> productResponses = products.stream()
-                .map(ProductResponse::from)
-                .collect(Collectors.toList());
-
-        return ProductListResponse.from(productResponses);
+        return ProductListResponse.from(productCatalog.current().findActiveByType(productType));
     }
 
     /**
@@ -117,12 +133,7 @@ public class ProductService {
     public ProductListResponse getProductsByMinReturnRate(BigDecimal minRate) {
         log.info("최소 수익률 기준 상품 조회 요청 - minRate: {}", minRate);
 
-        List<Product> products = productRepository.findActiveProductsByMinReturnRate(minRate);
-        List<ProductResponse> productResponses = products.stream()
-                .map(ProductResponse::from)
-                .collect(Collectors.toList());
-
-        return ProductListResponse.from(productResponses);
+        return ProductListResponse.from(productCatalog.current().findActiveByMinReturnRate(minRate));
     }
 
     /**
@@ -131,12 +142,7 @@ public class ProductService {
     public ProductListResponse getProductsByInvestmentAmount(BigDecimal amount) {
         log.info("투자 금액 기준 상품 조회 요청 - amount: {}", amount);
 
-        List<Product> products = productRepository.findActiveProductsByInvestmentAmount(amount);
-        List<ProductResponse> productResponses = products.stream()
-                .map(ProductResponse::from)
-                .collect(Collectors.toList());
-
-        return ProductListResponse.from(productResponses);
+        return ProductListResponse.from(productCatalog.current().findActiveByInvestmentAmount(amount));
     }
 
     /**
@@ -145,12 +151,7 @@ public class ProductService {
     public ProductListResponse getAllActiveProducts() {
         log.info("모든 활성 상품 조회 요청");
 
-        List<Product> products = productRepository.findAllActiveProducts();
-        List<ProductResponse> productResponses = products.stream()
-                .map(ProductResponse::from)
-                .collect(Collectors.toList());
-
-        return ProductListResponse.from(productResponses);
+        return ProductListResponse.from(productCatalog.current().findAllActive());
     }
 
     /**
@@ -159,10 +160,7 @@ public class ProductService {
     public List<ProductCategoryResponse> getAllCategories() {
         log.info("모든 카테고리 조회 요청");
 
-        List<ProductCategory> categories = productCategoryRepository.findAllByOrderByCategoryCode();
-        return categories.stream()
-                .map(ProductCategoryResponse::from)
-                .collect(Collectors.toList());
+        return productCatalog.current().findAllCategories();
     }
 
     /**
@@ -171,9 +169,10 @@ public class ProductService {
     public List<ProductCategoryResponse> getCategoriesByRiskLevel(String riskLevel) {
         log.info("위험도별 카테고리 조회 요청 - riskLevel: {}", riskLevel);
 
-        List<ProductCategory> categories = productCategoryRepository.findByRiskLevel(riskLevel);
-        return categories.stream()
-                .map(ProductCategoryResponse::from)
-                .collect(Collectors.toList());
+        return productCatalog.current().findCategoriesByRiskLevel(riskLevel);
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
     }
 }
@@ -1,14 +1,21 @@
 package com.kopo_team4.kbbank_backend.domain.transaction.controller;
 
 import com.kopo_team4.kbbank_backend.domain.transaction.dto.*;
-import com.kopo_team4.kbbank_backend.domain.transaction.dto.*;
+import com.kopo_team4.kbbank_backend.domain.transaction.service.IdempotentResult;
+import com.kopo_team4.kbbank_backend.domain.transaction.service.TransactionExportService;
 import com.kopo_team4.kbbank_backend.domain.transaction.service.TransactionService;
+import com.kopo_team4.kbbank_backend.global.audit.AuditEventType;
+import com.kopo_team4.kbbank_backend.global.audit.AuditLog;
+import com.kopo_team4.kbbank_backend.global.audit.AuditOutcome;
 import com.kopo_team4.kbbank_backend.global.dto.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/transactions")
@@ -17,6 +24,8 @@ import org.springframework.web.bind.annotation.*;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
+    private final AuditLog auditLog;
 
     /**
      * 출금 API
@@ -24,47 +33,29 @@ public class TransactionController {
      */
     @PostMapping("/withdraw")
     public ResponseEntity<ApiResponse<WithdrawResponse>> withdraw(@RequestBody WithdrawRequest request) {
-        log.info("=====================================================");
-        log.info("🏧 [HANA-BACKEND] 출금 요청 수신");
-        log.info("=====================================================");
-        log.info("📤 요청 데이터:");
-        log.info("  ├─ userCI: {}", request.getUserCI());
-        log.info("  ├─ 출금계좌번호: {}", request.getWdAccountNum());
-        log.info("  ├─ 거래금액: {}", request.getTranAmt());
-        log.info("  ├─ 은행거래ID: {}", request.getBankTranId());
-        log.info("  ├─ 거래시간: {}", request.getTranDtime());
-        log.info("  └─ 요청자명: {}", request.getReqClientName());
-        log.info("⏰ 요청 시간: {}", java.time.LocalDateTime.now());
-        log.info("=====================================================");
-
+        long startedAt = System.nanoTime();
         try {
-            WithdrawResponse response = transactionService.processWithdraw(request);
-            
-            log.info("=====================================================");
-            log.info("✅ [HANA-BACKEND] 출금 처리 성공");
-            log.info("=====================================================");
-            log.info("📥 응답 데이터:");
-            log.info("  ├─ 은행거래ID: {}", response.getBankTranId());
-            log.info("  ├─ 계좌번호: {}", response.getAccountNum());
-            log.info("  ├─ 거래금액: {}", response.getTranAmt());
-            log.info("  ├─ 은행명: {}", response.getBankName());
-            log.info("  └─ 예금주명: {}", response.getAccountHolderName());
-            log.info("⏰ 응답 시간: {}", java.time.LocalDateTime.now());
-            log.info("=====================================================");
-            
+            IdempotentResult<WithdrawResponse> result = transactionService.processWithdraw(request);
+            WithdrawResponse response = result.response();
+            auditLog.record(AuditEventType.WITHDRAW, result.replayed() ? AuditOutcome.REPLAYED : AuditOutcome.SUCCESS,
+                    response.getAccountNum(), response.getTranAmt(), request.getBankTranId(), response.getBankTranId(),
+                    startedAt, null);
             return ResponseEntity.ok(ApiResponse.success(response));
 
         } catch (IllegalArgumentException e) {
+            auditWithdrawFailure(request, startedAt, e);
             log.warn("출금 실패 - 잘못된 요청: {}", e.getMessage());
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error(e.getMessage()));
 
         } catch (IllegalStateException e) {
+            auditWithdrawFailure(request, startedAt, e);
             log.error("출금 실패 - 시스템 오류: {}", e.getMessage());
             return ResponseEntity.internalServerError()
                     .body(ApiResponse.error("출금 처리 중 오류가 발생했습니다."));
 
         } catch (Exception e) {
+            auditWithdrawFailure(request, startedAt, e);
             log.error("출금 처리 중 예상치 못한 오류 발생", e);
             return ResponseEntity.internalServerError()
                     .body(ApiResponse.error("출금 처리 중 오류가 발생했습니다."));
@@ -77,48 +68,29 @@ public class TransactionController {
      */
     @PostMapping("/deposit")
     public ResponseEntity<ApiResponse<DepositResponse>> deposit(@RequestBody DepositRequest request) {
-        log.info("=====================================================");
-        log.info("🏦 [HANA-BACKEND] 입금 요청 수신");
-        log.info("=====================================================");
-        log.info("📤 요청 데이터:");
-        log.info("  ├─ 입금계좌번호: {}", request.getAccountNum());
-        log.info("  ├─ 거래금액: {}", request.getTranAmt());
-        log.info("  ├─ 은행거래ID: {}", request.getBankTranId());
-        log.info("  ├─ 거래시간: {}", request.getTranDtime());
-        log.info("  ├─ 예금주명: {}", request.getAccountHolderName());
-        log.info("  └─ 요청고객번호: {}", request.getReqClientNum());
-        log.info("⏰ 요청 시간: {}", java.time.LocalDateTime.now());
-        log.info("=====================================================");
-
+        long startedAt = System.nanoTime();
         try {
-            DepositResponse response = transactionService.processDeposit(request);
-            
-            log.info("=====================================================");
-            log.info("✅ [HANA-BACKEND] 입금 처리 성공");
-            log.info("=====================================================");
-            log.info("📥 응답 데이터:");
-            log.info("  ├─ 은행거래ID: {}", response.getBankTranId());
-            log.info("  ├─ 계좌번호: {}", response.getAccountNum());
-            log.info("  ├─ 거래금액: {}", response.getTranAmt());
-            log.info("  ├─ 은행명: {}", response.getBankName());
-            log.info("  ├─ 예금주명: {}", response.getAccountHolderName());
-            log.info("  └─ 출금은행거래ID: {}", response.getWithdrawBankTranId());
-            log.info("⏰ 응답 시간: {}", java.time.LocalDateTime.now());
-            log.info("=====================================================");
-            
+            IdempotentResult<DepositResponse> result = transactionService.processDeposit(request);
+            DepositResponse response = result.response();
+            auditLog.record(AuditEventType.DEPOSIT, result.replayed() ? AuditOutcome.REPLAYED : AuditOutcome.SUCCESS,
+                    response.getAccountNum(), response.getTranAmt(), TransactionService.depositIdempotencyKey(request),
+                    response.getBankTranId(), startedAt, null);
             return ResponseEntity.ok(ApiResponse.success(response));
             
         } catch (IllegalArgumentException e) {
+            auditDepositFailure(request, startedAt, e);
             log.warn("입금 실패 - 잘못된 요청: {}", e.getMessage());
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error(e.getMessage()));
                     
         } catch (IllegalStateException e) {
+            auditDepositFailure(request, startedAt, e);
             log.error("입금 실패 - 시스템 오류: {}", e.getMessage());
             return ResponseEntity.internalServerError()
                     .body(ApiResponse.error("입금 처리 중 오류가 발생했습니다."));
                     
         } catch (Exception e) {
+            auditDepositFailure(request, startedAt, e);
             log.error("입금 처리 중 예상치 못한 오류 발생", e);
             return ResponseEntity.internalServerError()
                     .body(ApiResponse.error("입금 처리 중 오류가 발생했습니다."));
@@ -152,4 +124,52 @@ public class TransactionController {
                     .body(ApiResponse.error("거래내역 조회 중 오류가 발생했습니다."));
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 거래내역 내보내기 API (대사/명세서용 전체 이력)
+     * POST /api/v1/transactions/history/export?format=ndjson|csv
+     *
+     * 응답 본문은 ApiResponse로 감싸지 않고 NDJSON/CSV 행을 바로 스트리밍
+     */
+    @PostMapping("/history/export")
+    public ResponseEntity<?> exportTransactionHistory(
+            @Valid @RequestBody TransactionHistoryRequest request,
+            @RequestParam(value = "format", required = false) String format) {
+        log.info("거래내역 내보내기 요청 - CI: {}, 계좌번호: {}, 형식: {}",
+                request.getUserCi(), request.getAccountNum(), format);
+
+        try {
+            TransactionExportFormat exportFormat = TransactionExportFormat.from(format);
+            Long accountId = transactionExportService.resolveAccountId(request);
+
+            StreamingResponseBody body = outputStream ->
+                    transactionExportService.exportHistory(accountId, request, exportFormat, outputStream);
+
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"transactions_"
+                            + request.getAccountNum() + "." + exportFormat.getExtension() + "\"")
+                    .body(body);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("거래내역 내보내기 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+
+        } catch (Exception e) {
+            log.error("거래내역 내보내기 중 오류 발생", e);
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.error("거래내역 내보내기 중 오류가 발생했습니다."));
+        }
+    }
+
+    private void auditWithdrawFailure(WithdrawRequest request, long startedAt, Exception e) {
+        auditLog.record(AuditEventType.WITHDRAW, AuditOutcome.of(e), request.getWdAccountNum(),
+                request.getTranAmt(), request.getBankTranId(), null, startedAt, e.getMessage());
+    }
+
+    private void auditDepositFailure(DepositRequest request, long startedAt, Exception e) {
+        auditLog.record(AuditEventType.DEPOSIT, AuditOutcome.of(e), request.getReqClientNum(),
+                request.getTranAmt(), TransactionService.depositIdempotencyKey(request), null, startedAt, e.getMessage());
+    }
+}
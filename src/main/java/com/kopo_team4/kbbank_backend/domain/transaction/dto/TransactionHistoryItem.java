@@ -2,11 +2,14 @@
 package com.kopo_team4.kbbank_backend.domain.transaction.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kopo_team4.kbbank_backend.domain.transaction.entity.Transaction;
+import com.kopo_team4.kbbank_backend.global.time.DateCodec;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -36,4 +39,41 @@ public class TransactionHistoryItem {
 
     @JsonProperty("branchName")
     private String branchName;
-}
\ No newline at end of file
+
+    public static TransactionHistoryItem from(Transaction transaction) {
+        return TransactionHistoryItem.builder()
+                .tranDate(DateCodec.formatDate(transaction.getTranDate()))
+                .tranTime(transaction.getTranTime())
+                .inoutType(mapInoutType(transaction.getInoutType()))
+                .tranType(mapTranType(transaction.getTranType()))
+                .printedContent(transaction.getPrintContent())
+                .tranAmt(transaction.getTranAmt().toString())
+                .afterBalanceAmt(transaction.getAfterBalanceAmt().toString())
+                .branchName(transaction.getBranchName())
+                .build();
+    }
+
+    private static String mapInoutType(String inoutType) {
+        switch (inoutType) {
+            case "DP":
+                return "입금";
+            case "WD":
+                return "출금";
+            default:
+                return "기타";
+        }
+    }
+
+    private static String mapTranType(String tranType) {
+        switch (tranType) {
+            case "CASH":
+                return "현금";
+            case "CARD":
+                return "카드";
+            case "TRANSFER":
+                return "이체";
+            default:
+                return "온라인";
+        }
+    }
+}
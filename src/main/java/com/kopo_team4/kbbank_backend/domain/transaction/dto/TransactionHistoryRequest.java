@@ -1,11 +1,15 @@
 package com.kopo_team4.kbbank_backend.domain.transaction.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.kopo_team4.kbbank_backend.global.time.DateCodec;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -24,4 +28,53 @@ public class TransactionHistoryRequest {
 
     @JsonProperty("sortOrder")
     private String sortOrder = "D"; // 기본값: D (내림차순), A (오름차순)
-} 
\ No newline at end of file
+
+    @JsonProperty("fromDate")
+    private String fromDate; // 조회 시작일자 (yyyyMMdd, 선택)
+
+    @JsonProperty("toDate")
+    private String toDate; // 조회 종료일자 (yyyyMMdd, 선택)
+
+    @JsonProperty("pageSize")
+    private Integer pageSize; // 페이지당 건수 (기본값: 50, 최대 500)
+
+    @JsonProperty("beforeInquiryTraceInfo")
+    private String beforeInquiryTraceInfo; // 이전 조회 응답의 커서 (다음 페이지 조회 시)
+
+    /**
+     * 조회타입을 거래내역 입출금 구분으로 변환 (모두 조회면 null)
+     */
+    public String resolveInoutType() {
+        if (inquiryType == null) {
+            return null;
+        }
+        switch (inquiryType.toUpperCase()) {
+            case "I": // 입금만
+                return "DP";
+            case "O": // 출금만
+                return "WD";
+            case "A": // 모두
+            default:
+                return null;
+        }
+    }
+
+    public LocalDate resolveFromDate() {
+        return parseDate(fromDate);
+    }
+
+    public LocalDate resolveToDate() {
+        return parseDate(toDate);
+    }
+
+    private static LocalDate parseDate(String date) {
+        if (date == null || date.isBlank()) {
+            return null;
+        }
+        try {
+            return DateCodec.parseDate(date);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("조회 일자 형식이 올바르지 않습니다. (yyyyMMdd)");
+        }
+    }
+}
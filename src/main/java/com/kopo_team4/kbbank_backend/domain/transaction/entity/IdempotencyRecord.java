@@ -0,0 +1,50 @@
+package com.kopo_team4.kbbank_backend.domain.transaction.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 출금/입금 멱등성 키 (거래고유번호 x 거래 종류별 1건)
+ *
+ * 첫 요청이 행을 삽입하고 같은 트랜잭션에서 응답을 기록하므로, 행이 보이면 잔액 변경도 커밋된 상태
+ * 재요청은 기본키 중복으로 판별하여 기록된 응답을 그대로 반환 (다시 실행하지 않음)
+ * partition_day 단위로 보존 기간이 지난 행을 일괄 삭제
+ *
+ * 값 변경은 IdempotencyStore가 JDBC로만 수행 (중복 삽입 실패가 JPA 트랜잭션을 롤백 전용으로 만들지 않도록)
+ */
+@Entity
+@Table(name = "kbbank_idempotency_key", indexes = {
+        @Index(name = "idx_idempotency_partition_day", columnList = "partition_day")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(IdempotencyRecordId.class)
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    @Id
+    @Column(name = "operation", length = 20)
+    private String operation;
+
+    // 요청 본문 요약 해시 (같은 키로 다른 요청이 오면 거부)
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "partition_day", nullable = false)
+    private LocalDate partitionDay;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
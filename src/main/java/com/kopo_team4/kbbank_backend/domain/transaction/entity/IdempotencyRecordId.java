@@ -0,0 +1,21 @@
+package com.kopo_team4.kbbank_backend.domain.transaction.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 멱등성 키 복합키 (오픈뱅킹 거래고유번호, 거래 종류)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class IdempotencyRecordId implements Serializable {
+
+    private String idempotencyKey;
+    private String operation;
+}
@@ -13,7 +13,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "kbbank_transaction")
+@Table(name = "kbbank_transaction", indexes = {
+        // 거래내역 키셋 페이지네이션 (계좌별 거래일시 정렬)
+        @Index(name = "idx_transaction_account_tran_dtime", columnList = "account_id, tran_date, tran_time, tran_id")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -68,4 +71,4 @@ public class Transaction {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
-} 
\ No newline at end of file
+}
@@ -1,7 +1,10 @@
 package com.kopo_team4.kbbank_backend.domain.transaction.repository;
 
 import com.kopo_team4.kbbank_backend.domain.transaction.entity.Transaction;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -37,4 +40,47 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     List<Transaction> findByAccountIdOrderByTranDateDescTranTimeDesc(Long accountId);
 
     List<Transaction> findByAccountIdOrderByTranDateAscTranTimeAsc(Long accountId);
-} 
\ No newline at end of file
+
+    /**
+     * 거래내역 페이지 조회 - 최신순 (키셋 페이지네이션)
+     * 정렬 키 (tran_date, tran_time, tran_id) 기준으로 커서 이전 행만 조회
+     * 커서/입출금구분/기간이 null이면 해당 조건을 적용하지 않음
+     */
+    @Query("SELECT t FROM Transaction t WHERE t.accountId = :accountId " +
+           "AND (:inoutType IS NULL OR t.inoutType = :inoutType) " +
+           "AND (:fromDate IS NULL OR t.tranDate >= :fromDate) " +
+           "AND (:toDate IS NULL OR t.tranDate <= :toDate) " +
+           "AND (:cursorDate IS NULL OR t.tranDate < :cursorDate " +
+           "     OR (t.tranDate = :cursorDate AND (t.tranTime < :cursorTime " +
+           "     OR (t.tranTime = :cursorTime AND t.tranId < :cursorTranId)))) " +
+           "ORDER BY t.tranDate DESC, t.tranTime DESC, t.tranId DESC")
+    List<Transaction> findHistoryPageDesc(@Param("accountId") Long accountId,
+                                          @Param("inoutType") String inoutType,
+                                          @Param("fromDate") LocalDate fromDate,
+                                          @Param("toDate") LocalDate toDate,
+                                          @Param("cursorDate") LocalDate cursorDate,
+                                          @Param("cursorTime") String cursorTime,
+                                          @Param("cursorTranId") Long cursorTranId,
+                                          Pageable pageable);
+
+    /**
+     * 거래내역 페이지 조회 - 과거순 (키셋 페이지네이션)
+     * 정렬 키 (tran_date, tran_time, tran_id) 기준으로 커서 이후 행만 조회
+     */
+    @Query("SELECT t FROM Transaction t WHERE t.accountId = :accountId " +
+           "AND (:inoutType IS NULL OR t.inoutType = :inoutType) " +
+           "AND (:fromDate IS NULL OR t.tranDate >= :fromDate) " +
+           "AND (:toDate IS NULL OR t.tranDate <= :toDate) " +
+           "AND (:cursorDate IS NULL OR t.tranDate > :cursorDate " +
+           "     OR (t.tranDate = :cursorDate AND (t.tranTime > :cursorTime " +
+           "     OR (t.tranTime = :cursorTime AND t.tranId > :cursorTranId)))) " +
+           "ORDER BY t.tranDate ASC, t.tranTime ASC, t.tranId ASC")
+    List<Transaction> findHistoryPageAsc(@Param("accountId") Long accountId,
+                                         @Param("inoutType") String inoutType,
+                                         @Param("fromDate") LocalDate fromDate,
+                                         @Param("toDate") LocalDate toDate,
+                                         @Param("cursorDate") LocalDate cursorDate,
+                                         @Param("cursorTime") String cursorTime,
+                                         @Param("cursorTranId") Long cursorTranId,
+                                         Pageable pageable);
+}
@@ -0,0 +1,50 @@
+package com.kopo_team4.kbbank_backend.domain.transaction.service;
+
+import com.kopo_team4.kbbank_backend.domain.transaction.entity.Transaction;
+import com.kopo_team4.kbbank_backend.global.time.DateCodec;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 거래내역 조회 커서 (beforeInquiryTraceInfo)
+ *
+ * 형식: "1T" + 거래일자(yyyyMMdd) + 거래시각(HHmmss) + 거래ID
+ * 기준: 이전 페이지 마지막 행의 정렬 키이며, 다음 페이지는 이 키 이후부터 조회
+ */
+record HistoryCursor(LocalDate tranDate, String tranTime, Long tranId) {
+
+    private static final String PREFIX = "1T";
+    private static final int KEY_OFFSET = PREFIX.length() + 8 + 6;
+    private static final HistoryCursor FIRST_PAGE = new HistoryCursor(null, null, null);
+
+    static HistoryCursor of(Transaction transaction) {
+        return new HistoryCursor(transaction.getTranDate(), transaction.getTranTime(), transaction.getTranId());
+    }
+
+    /**
+     * 커서 해석 (비어 있으면 첫 페이지)
+     *
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    static HistoryCursor decode(String traceInfo) {
+        if (traceInfo == null || traceInfo.isBlank()) {
+            return FIRST_PAGE;
+        }
+        if (!traceInfo.startsWith(PREFIX) || traceInfo.length() <= KEY_OFFSET) {
+            throw new IllegalArgumentException("조회 커서 형식이 올바르지 않습니다.");
+        }
+        try {
+            LocalDate tranDate = DateCodec.parseDate(traceInfo.subSequence(2, 10));
+            String tranTime = traceInfo.substring(10, KEY_OFFSET);
+            long tranId = Long.parseLong(traceInfo.substring(KEY_OFFSET));
+            return new HistoryCursor(tranDate, tranTime, tranId);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("조회 커서 형식이 올바르지 않습니다.");
+        }
+    }
+
+    String encode() {
+        return PREFIX + DateCodec.formatDate(tranDate) + tranTime + tranId;
+    }
+}
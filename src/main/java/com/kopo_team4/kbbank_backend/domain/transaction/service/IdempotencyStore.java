@@ -0,0 +1,209 @@
+package com.kopo_team4.kbbank_backend.domain.transaction.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kopo_team4.kbbank_backend.global.cache.CacheStatsSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 출금/입금 멱등성 저장소 (kbbank_idempotency_key)
+ *
+ * 기능: (거래고유번호, 거래 종류)별 첫 요청만 실행하고 응답을 기록, 재요청에는 기록된 응답을 반환
+ * 기준: 중복 판별은 기본키에 대한 INSERT 한 번 (조회 후 삽입하지 않음)
+ *       - 키 삽입, 잔액 변경, 응답 기록이 호출자 트랜잭션에서 함께 커밋/롤백되므로
+ *         실패한 요청의 키는 남지 않고 재요청 시 다시 실행됨
+ *       - 같은 키가 동시에 들어오면 뒤의 INSERT가 앞 트랜잭션 종료까지 대기한 뒤 중복으로 판별됨
+ *       - 커밋된 응답은 인메모리 캐시(cache.idempotency.*)에도 보관하여 짧은 간격의 재요청은 DB 조회 없이 응답
+ *       - 같은 키로 금액/계좌가 다른 요청이 오면 거부
+ */
+@Component
+@Slf4j
+public class IdempotencyStore {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO kbbank_idempotency_key (idempotency_key, operation, request_hash, partition_day, created_at)"
+                    + " VALUES (?, ?, ?, ?, ?)";
+    private static final String SELECT_SQL =
+            "SELECT request_hash, response_body FROM kbbank_idempotency_key WHERE idempotency_key = ? AND operation = ?";
+    private static final String COMPLETE_SQL =
+            "UPDATE kbbank_idempotency_key SET response_body = ? WHERE idempotency_key = ? AND operation = ?";
+    private static final String PARTITIONS_SQL =
+            "SELECT DISTINCT partition_day FROM kbbank_idempotency_key WHERE partition_day < ? ORDER BY partition_day";
+    private static final String PURGE_SQL =
+            "DELETE FROM kbbank_idempotency_key WHERE partition_day = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, Completed> completedCache;
+
+    private record Key(String idempotencyKey, String operation) {
+    }
+
+    /**
+     * 커밋된 요청의 요약 해시와 응답 JSON (응답이 없으면 처리 중)
+     */
+    private record Completed(String requestHash, String responseBody) {
+    }
+
+    public IdempotencyStore(JdbcTemplate jdbcTemplate,
+                            ObjectMapper objectMapper,
+                            @Value("${cache.idempotency.maximum-size:10000}") long maximumSize,
+                            @Value("${cache.idempotency.expire-after-write-seconds:600}") long expireSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.completedCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 멱등 실행
+     *
+     * @param idempotencyKey 거래고유번호 (비어 있으면 중복 확인 없이 실행)
+     * @param operation 거래 종류 (WITHDRAW, DEPOSIT)
+     * @param requestSummary 같은 요청인지 비교할 요청 요약 (계좌, 금액 등)
+     * @param responseType 응답 타입 (기록된 응답 역직렬화용)
+     * @param action 첫 요청일 때만 실행할 처리
+     * @return 처리 결과 또는 첫 요청의 응답 (재요청 여부 포함)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> IdempotentResult<T> execute(String idempotencyKey, String operation, String requestSummary,
+                         Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return new IdempotentResult<>(action.get(), false);
+        }
+        Key key = new Key(idempotencyKey, operation);
+        String requestHash = hash(requestSummary);
+
+        Completed completed = completedCache.getIfPresent(key);
+        if (completed == null && !claim(key, requestHash)) {
+            completed = load(key);
+        }
+        if (completed != null) {
+            return new IdempotentResult<>(replay(key, completed, requestHash, responseType), true);
+        }
+
+        T response = action.get();
+        String responseBody = write(response);
+        jdbcTemplate.update(COMPLETE_SQL, responseBody, key.idempotencyKey(), key.operation());
+        cacheAfterCommit(key, new Completed(requestHash, responseBody));
+        return new IdempotentResult<>(response, false);
+    }
+
+    /**
+     * 보존 기간이 지난 일자 파티션 목록 (오래된 순)
+     */
+    public List<LocalDate> findPartitionsBefore(LocalDate cutoff) {
+        return jdbcTemplate.queryForList(PARTITIONS_SQL, Date.class, Date.valueOf(cutoff)).stream()
+                .map(Date::toLocalDate)
+                .toList();
+    }
+
+    /**
+     * 일자 파티션 하나를 삭제 (파티션마다 별도 트랜잭션)
+     *
+     * @return 삭제된 키 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int purgePartition(LocalDate partitionDay) {
+        return jdbcTemplate.update(PURGE_SQL, Date.valueOf(partitionDay));
+    }
+
+    /**
+     * 캐시 통계 스냅샷
+     */
+    public CacheStatsSnapshot getStats() {
+        return CacheStatsSnapshot.of(completedCache);
+    }
+
+    /**
+     * 키 선점 (기본키 중복이면 이미 접수된 요청)
+     */
+    private boolean claim(Key key, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            jdbcTemplate.update(INSERT_SQL, key.idempotencyKey(), key.operation(), requestHash,
+                    Date.valueOf(now.toLocalDate()), Timestamp.valueOf(now));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private Completed load(Key key) {
+        List<Completed> rows = jdbcTemplate.query(SELECT_SQL,
+                (rs, rowNum) -> new Completed(rs.getString("request_hash"), rs.getString("response_body")),
+                key.idempotencyKey(), key.operation());
+        if (rows.isEmpty() || rows.get(0).responseBody() == null) {
+            throw new IllegalStateException("동일한 거래가 처리 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+        Completed completed = rows.get(0);
+        completedCache.put(key, completed);
+        return completed;
+    }
+
+    private <T> T replay(Key key, Completed completed, String requestHash, Class<T> responseType) {
+        if (!completed.requestHash().equals(requestHash)) {
+            throw new IllegalArgumentException("이미 처리된 거래고유번호로 다른 요청이 접수되었습니다: " + key.idempotencyKey());
+        }
+        log.info("중복 요청 - 기존 응답 반환: key={}, operation={}", key.idempotencyKey(), key.operation());
+        try {
+            return objectMapper.readValue(completed.responseBody(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("기록된 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private String write(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답을 기록할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 커밋된 응답만 캐시 (롤백된 요청이 캐시에 남아 재실행이 막히지 않도록)
+     */
+    private void cacheAfterCommit(Key key, Completed completed) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                completedCache.put(key, completed);
+            }
+        });
+    }
+
+    private static String hash(String requestSummary) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(requestSummary.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.kopo_team4.kbbank_backend.domain.transaction.service;
+
+/**
+ * 멱등 실행 결과
+ *
+ * @param response 처리 결과 또는 첫 요청의 응답
+ * @param replayed 기록된 첫 응답을 돌려준 재요청이면 true (이번 호출에서는 처리하지 않음)
+ */
+public record IdempotentResult<T>(T response, boolean replayed) {
+}
@@ -0,0 +1,169 @@
+package com.kopo_team4.kbbank_backend.domain.transaction.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kopo_team4.kbbank_backend.domain.account.entity.Account;
+import com.kopo_team4.kbbank_backend.domain.account.repository.AccountRepository;
+import com.kopo_team4.kbbank_backend.domain.transaction.dto.TransactionExportFormat;
+import com.kopo_team4.kbbank_backend.domain.transaction.dto.TransactionHistoryItem;
+import com.kopo_team4.kbbank_backend.domain.transaction.dto.TransactionHistoryRequest;
+import com.kopo_team4.kbbank_backend.domain.transaction.entity.Transaction;
+import com.kopo_team4.kbbank_backend.domain.user.entity.User;
+import com.kopo_team4.kbbank_backend.domain.user.service.UserCache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+/**
+ * 거래내역 내보내기 서비스 (대사/명세서용)
+ *
+ * 기능: 거래내역을 목록으로 적재하지 않고 DB 커서에서 한 건씩 읽어 응답 스트림에 바로 기록
+ * 기준: 기록한 행은 즉시 영속성 컨텍스트에서 분리하므로 메모리 사용량은 이력 길이와 무관
+ *       - fetch size는 이 조회 문장에만 적용 (prod MySQL은 Integer.MIN_VALUE로 행 단위 스트리밍,
+ *         드라이버 전역 useCursorFetch 없이 다른 쿼리의 실행 방식은 그대로 유지)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class TransactionExportService {
+
+    private static final String CSV_HEADER =
+            "tranDate,tranTime,inoutType,tranType,printedContent,tranAmt,afterBalanceAmt,branchName";
+
+    private static final String STREAM_HISTORY_QUERY = "SELECT t FROM Transaction t WHERE t.accountId = :accountId " +
+            "AND (:inoutType IS NULL OR t.inoutType = :inoutType) " +
+            "AND (:fromDate IS NULL OR t.tranDate >= :fromDate) " +
+            "AND (:toDate IS NULL OR t.tranDate <= :toDate) " +
+            "ORDER BY t.tranDate ASC, t.tranTime ASC, t.tranId ASC";
+
+    private final AccountRepository accountRepository;
+    private final UserCache userCache;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${transaction.export.fetch-size:500}")
+    private int fetchSize;
+
+    /**
+     * 내보내기 대상 계좌 확인 (응답 스트림을 열기 전에 호출)
+     *
+     * @return 계좌 ID
+     * @throws IllegalArgumentException 사용자/계좌가 없거나 조회 조건이 잘못된 경우
+     */
+    public Long resolveAccountId(TransactionHistoryRequest request) {
+        User user = userCache.findByUserCi(request.getUserCi())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        Account account = accountRepository.findByUserIdAndAccountNum(user.getUserId(), request.getAccountNum())
+                .orElseThrow(() -> new IllegalArgumentException("해당 계좌가 존재하지 않습니다."));
+
+        // 기간 형식 오류는 스트림을 열기 전에 확인
+        request.resolveFromDate();
+        request.resolveToDate();
+        return account.getAccountId();
+    }
+
+    /**
+     * 거래내역 내보내기 (과거순)
+     *
+     * @param accountId resolveAccountId로 확인한 계좌 ID
+     * @param request 조회 조건 (입출금 구분, 기간)
+     * @param format NDJSON 또는 CSV
+     * @param outputStream 응답 스트림
+     * @return 기록한 거래 건수
+     */
+    public long exportHistory(Long accountId, TransactionHistoryRequest request,
+                              TransactionExportFormat format, OutputStream outputStream) {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try (Stream<Transaction> transactions = streamHistory(accountId, request)) {
+            if (format == TransactionExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+            Iterator<Transaction> iterator = transactions.iterator();
+            while (iterator.hasNext()) {
+                Transaction transaction = iterator.next();
+                writeRow(writer, format, TransactionHistoryItem.from(transaction));
+                entityManager.detach(transaction);
+                count++;
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("거래내역 내보내기 중 스트림 기록에 실패했습니다.", e);
+        }
+        log.info("거래내역 내보내기 완료 - accountId: {}, 형식: {}, 건수: {}", accountId, format, count);
+        return count;
+    }
+
+    /**
+     * 거래내역 전체 스트리밍 조회 - 과거순
+     * 결과를 한 번에 적재하지 않고 커서에서 읽음 (트랜잭션 안에서 소비 후 close 필요)
+     */
+    private Stream<Transaction> streamHistory(Long accountId, TransactionHistoryRequest request) {
+        return entityManager.createQuery(STREAM_HISTORY_QUERY, Transaction.class)
+                .setParameter("accountId", accountId)
+                .setParameter("inoutType", request.resolveInoutType())
+                .setParameter("fromDate", request.resolveFromDate())
+                .setParameter("toDate", request.resolveToDate())
+                .setHint(HINT_FETCH_SIZE, fetchSize)
+                .setHint(HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private void writeRow(Writer writer, TransactionExportFormat format, TransactionHistoryItem item)
+            throws IOException {
+        if (format == TransactionExportFormat.CSV) {
+            writer.write(csv(item.getTranDate()));
+            writer.write(',');
+            writer.write(csv(item.getTranTime()));
+            writer.write(',');
+            writer.write(csv(item.getInoutType()));
+            writer.write(',');
+            writer.write(csv(item.getTranType()));
+            writer.write(',');
+            writer.write(csv(item.getPrintedContent()));
+            writer.write(',');
+            writer.write(csv(item.getTranAmt()));
+            writer.write(',');
+            writer.write(csv(item.getAfterBalanceAmt()));
+            writer.write(',');
+            writer.write(csv(item.getBranchName()));
+        } else {
+            writer.write(objectMapper.writeValueAsString(item));
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * CSV 필드 이스케이프 (쉼표/따옴표/개행 포함 시 따옴표로 감쌈)
+     */
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
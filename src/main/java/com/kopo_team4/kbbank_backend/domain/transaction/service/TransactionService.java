@@ -2,22 +2,23 @@ package com.kopo_team4.kbbank_backend.domain.transaction.service;
 
 import com.kopo_team4.kbbank_backend.domain.account.entity.Account;
 import com.kopo_team4.kbbank_backend.domain.account.repository.AccountRepository;
-import com.kopo_team4.kbbank_backend.domain.transaction.dto.*;
+import com.kopo_team4.kbbank_backend.domain.account.service.AccountBalanceManager;
 import com.kopo_team4.kbbank_backend.domain.transaction.dto.*;
 import com.kopo_team4.kbbank_backend.domain.transaction.entity.Transaction;
 import com.kopo_team4.kbbank_backend.domain.transaction.repository.TransactionRepository;
 import com.kopo_team4.kbbank_backend.domain.user.entity.User;
-import com.kopo_team4.kbbank_backend.domain.user.repository.UserRepository;
+import com.kopo_team4.kbbank_backend.domain.user.service.UserCache;
+import com.kopo_team4.kbbank_backend.global.time.DateCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -27,230 +28,166 @@ import java.util.stream.Collectors;
 @Transactional
 public class TransactionService {
     
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 50;
+    private static final int MAX_HISTORY_PAGE_SIZE = 500;
+    
+    // 멱등성 키 거래 종류
+    static final String OPERATION_WITHDRAW = "WITHDRAW";
+    static final String OPERATION_DEPOSIT = "DEPOSIT";
+    
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
-    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final AccountBalanceManager accountBalanceManager;
+    private final IdempotencyStore idempotencyStore;
     
     /**
      * 출금 처리
+     * 같은 bankTranId의 재요청은 다시 출금하지 않고 첫 응답을 반환 (replayed = true)
      */
-    public WithdrawResponse processWithdraw(WithdrawRequest request) {
-        log.info("💰 [HANA-BACKEND] 출금 처리 시작");
-        
+    public IdempotentResult<WithdrawResponse> processWithdraw(WithdrawRequest request) {
+        String requestSummary = request.getUserCI() + "|" + request.getWdAccountNum() + "|" + amountKey(request.getTranAmt());
+        return idempotencyStore.execute(request.getBankTranId(), OPERATION_WITHDRAW, requestSummary,
+                WithdrawResponse.class, () -> withdraw(request));
+    }
+    
+    private WithdrawResponse withdraw(WithdrawRequest request) {
         // 0. 출금 금액 검증
         if (request.getTranAmt() == null || request.getTranAmt().compareTo(BigDecimal.ZERO) <= 0) {
-            log.error("❌ 출금 금액 검증 실패: {}", request.getTranAmt());
             throw new IllegalArgumentException("출금 금액은 0원보다 커야 합니다.");
         }
-        log.info("✅ 출금 금액 검증 통과: {:,}원", request.getTranAmt().intValue());
-        
-        // 1. 사용자 조회 (userCI로 조회)
-        User user = userRepository.findByUserCi(request.getUserCI())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-        log.info("✅ 사용자 조회 성공: userId={}", user.getUserId());
-        
-        // 2. 계좌 조회 (사용자의 계좌인지 확인)
-        Account account = accountRepository.findByUserIdAndAccountNum(user.getUserId(), request.getWdAccountNum())
-                .orElseThrow(() -> new IllegalArgumentException("해당 계좌가 존재하지 않거나 권한이 없습니다."));
-        log.info("✅ 계좌 조회 성공: accountId={}, 현재잔액={:,}원", account.getAccountId(), account.getBalanceAmt().intValue());
-        
-        // 3. 잔액 확인
-        if (account.getBalanceAmt().compareTo(request.getTranAmt()) < 0) {
-            log.error("❌ 잔액 부족: 현재잔액={:,}원, 요청금액={:,}원", 
-                     account.getBalanceAmt().intValue(), request.getTranAmt().intValue());
-            throw new IllegalArgumentException("잔액이 부족합니다.");
-        }
-        log.info("✅ 잔액 확인 통과: 현재잔액={:,}원, 출금금액={:,}원", 
-                 account.getBalanceAmt().intValue(), request.getTranAmt().intValue());
-        
-        // 4. 거래 고유번호는 자동 생성됨 (AUTO_INCREMENT)
         
-        // 5. 거래 일시 생성
-        String tranDtime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+        // 1. 잔액 차감 (사용자 소유 계좌 + 잔액 충분 조건을 단일 UPDATE로 처리)
+        Account account = accountBalanceManager.withdraw(
+                request.getUserCI(), request.getWdAccountNum(), request.getTranAmt());
+        BigDecimal newBalance = account.getBalanceAmt();
         
-        // 6. 잔액 차감 후 새로운 잔액 계산
-        BigDecimal newBalance = account.getBalanceAmt().subtract(request.getTranAmt());
+        // 2. 거래 일시 생성
+        String tranDtime = DateCodec.formatDateTime(LocalDateTime.now());
         
-        // 7. 계좌 잔액 업데이트
-        int updatedRows = accountRepository.updateAccountBalance(account.getAccountId(), newBalance);
-        if (updatedRows != 1) {
-            log.error("❌ 계좌 잔액 업데이트 실패: accountId={}", account.getAccountId());
-            throw new IllegalStateException("계좌 잔액 업데이트에 실패했습니다.");
-        }
-        log.info("✅ 계좌 잔액 업데이트 성공: 신잔액={:,}원", newBalance.intValue());
-        
-        // 8. 거래 내역 저장
+        // 3. 거래 내역 저장 (처리 결과는 컨트롤러에서 감사 로그로 1건 기록)
         Transaction transaction = createTransaction(account, request, newBalance, tranDtime);
         Transaction savedTransaction = transactionRepository.save(transaction);
-        log.info("✅ 거래내역 저장 성공: tranId={}", savedTransaction.getTranId());
-        
-        log.info("🎉 [HANA-BACKEND] 출금 처리 완료");
-        log.info("  ├─ 거래ID: {}", savedTransaction.getTranId());
-        log.info("  ├─ 출금계좌: {}", account.getAccountNum());
-        log.info("  ├─ 출금금액: {:,}원", request.getTranAmt().intValue());
-        log.info("  └─ 출금후잔액: {:,}원", newBalance.intValue());
         
         return createWithdrawResponse(savedTransaction.getTranId().toString(), account, request, newBalance);
     }
     
     /**
      * 입금 처리
+     * 같은 bankTranId(없으면 tranNo)의 재요청은 다시 입금하지 않고 첫 응답을 반환 (replayed = true)
      */
-    public DepositResponse processDeposit(DepositRequest request) {
-        log.info("💰 [HANA-BACKEND] 입금 처리 시작");
-        
+    public IdempotentResult<DepositResponse> processDeposit(DepositRequest request) {
+        String requestSummary = request.getReqClientNum() + "|" + amountKey(request.getTranAmt());
+        return idempotencyStore.execute(depositIdempotencyKey(request), OPERATION_DEPOSIT, requestSummary,
+                DepositResponse.class, () -> deposit(request));
+    }
+    
+    /**
+     * 입금 멱등키 (bankTranId, 없으면 tranNo)
+     * 감사 로그의 reference도 같은 값을 사용해 재요청 이벤트를 원 요청과 대응시킴
+     */
+    public static String depositIdempotencyKey(DepositRequest request) {
+        return request.getBankTranId() != null ? request.getBankTranId() : request.getTranNo();
+    }
+    
+    /**
+     * 요청 요약용 금액 표기 (1000과 1000.00을 같은 요청으로 판별하도록 scale 정규화)
+     */
+    private static String amountKey(BigDecimal amount) {
+        return amount == null ? "null" : amount.stripTrailingZeros().toPlainString();
+    }
+    
+    private DepositResponse deposit(DepositRequest request) {
         // 0. 입금 금액 검증
         if (request.getTranAmt() == null || request.getTranAmt().compareTo(BigDecimal.ZERO) <= 0) {
-            log.error("❌ 입금 금액 검증 실패: {}", request.getTranAmt());
             throw new IllegalArgumentException("입금 금액은 0원보다 커야 합니다.");
         }
-        log.info("✅ 입금 금액 검증 통과: {:,}원", request.getTranAmt().intValue());
-        
-        // 1. 계좌 조회 (reqClientNum으로 바로 계좌 찾기)
-        Account account = accountRepository.findByAccountNum(request.getReqClientNum())
-                .orElseThrow(() -> new IllegalArgumentException("해당 계좌가 존재하지 않습니다."));
-        log.info("✅ 계좌 조회 성공: accountId={}, 현재잔액={:,}원", account.getAccountId(), account.getBalanceAmt().intValue());
         
-        // 2. 거래 고유번호는 자동 생성됨 (AUTO_INCREMENT)
+        // 1. 잔액 증가 (reqClientNum 계좌에 단일 UPDATE로 반영)
+        Account account = accountBalanceManager.deposit(request.getReqClientNum(), request.getTranAmt());
+        BigDecimal newBalance = account.getBalanceAmt();
         
-        // 3. 거래 일시 사용 (요청에 있는 tranDtime 사용)
+        // 2. 거래 일시 사용 (요청에 있는 tranDtime 사용)
         String tranDtime = request.getTranDtime();
         
-        // 4. 잔액 증가 후 새로운 잔액 계산
-        BigDecimal newBalance = account.getBalanceAmt().add(request.getTranAmt());
-        
-        // 5. 계좌 잔액 업데이트
-        int updatedRows = accountRepository.updateAccountBalance(account.getAccountId(), newBalance);
-        if (updatedRows != 1) {
-            log.error("❌ 계좌 잔액 업데이트 실패: accountId={}", account.getAccountId());
-            throw new IllegalStateException("계좌 잔액 업데이트에 실패했습니다.");
-        }
-        log.info("✅ 계좌 잔액 업데이트 성공: 신잔액={:,}원", newBalance.intValue());
-        
-        // 6. 거래 내역 저장
+        // 3. 거래 내역 저장 (처리 결과는 컨트롤러에서 감사 로그로 1건 기록)
         Transaction transaction = createDepositTransaction(account, request, newBalance, tranDtime);
         Transaction savedTransaction = transactionRepository.save(transaction);
-        log.info("✅ 거래내역 저장 성공: tranId={}", savedTransaction.getTranId());
-        
-        log.info("🎉 [HANA-BACKEND] 입금 처리 완료");
-        log.info("  ├─ 거래ID: {}", savedTransaction.getTranId());
-        log.info("  ├─ 입금계좌: {}", account.getAccountNum());
-        log.info("  ├─ 입금금액: {:,}원", request.getTranAmt().intValue());
-        log.info("  └─ 입금후잔액: {:,}원", newBalance.intValue());
         
         return createDepositResponse(savedTransaction.getTranId().toString(), account, request, newBalance);
     }
 
     // TransactionService.java에 추가할 메서드
     /**
-     * 거래내역 조회
+     * 거래내역 조회 (키셋 페이지네이션)
+     * 정렬 키 (거래일자, 거래시각, 거래ID)를 DB에서 정렬/절단하고
+     * 마지막 행의 키를 beforeInquiryTraceInfo 커서로 반환
      */
+    @Transactional(readOnly = true)
     public TransactionHistoryResponse getTransactionHistory(TransactionHistoryRequest request) {
         log.info("거래내역 조회 요청 - CI: {}, 계좌번호: {}, 조회타입: {}, 정렬: {}",
                 request.getUserCi(), request.getAccountNum(), request.getInquiryType(), request.getSortOrder());
 
         // 1. CI로 사용자 조회
-        User user = userRepository.findByUserCi(request.getUserCi())
+        User user = userCache.findByUserCi(request.getUserCi())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
         // 2. 사용자 ID와 계좌번호로 계좌 조회
         Account account = accountRepository.findByUserIdAndAccountNum(user.getUserId(), request.getAccountNum())
                 .orElseThrow(() -> new IllegalArgumentException("해당 계좌가 존재하지 않습니다."));
 
-        // 3. 거래내역 조회
-        List<Transaction> transactions = getTransactionsByInquiryType(account.getAccountId(), request.getInquiryType());
+        // 3. 거래내역 페이지 조회 (다음 페이지 여부 확인을 위해 1건 더 조회)
+        int pageSize = resolvePageSize(request.getPageSize());
+        List<Transaction> transactions = findHistoryPage(account.getAccountId(), request, pageSize + 1);
 
-        // 4. 정렬 처리
-        transactions = sortTransactions(transactions, request.getSortOrder());
+        boolean hasNextPage = transactions.size() > pageSize;
+        if (hasNextPage) {
+            transactions = transactions.subList(0, pageSize);
+        }
 
-        // 5. 응답 생성
+        // 4. 응답 생성
         List<TransactionHistoryItem> historyItems = transactions.stream()
-                .map(this::convertToHistoryItem)
+                .map(TransactionHistoryItem::from)
                 .collect(Collectors.toList());
 
         return TransactionHistoryResponse.builder()
                 .balanceAmt(account.getBalanceAmt().toString())
                 .pageRecordCnt(String.valueOf(historyItems.size()))
-                .nextPageYn("N")
-                .beforeInquiryTraceInfo(generateTraceInfo())
+                .nextPageYn(hasNextPage ? "Y" : "N")
+                .beforeInquiryTraceInfo(transactions.isEmpty()
+                        ? request.getBeforeInquiryTraceInfo()
+                        : HistoryCursor.of(transactions.get(transactions.size() - 1)).encode())
                 .resList(historyItems)
                 .build();
     }
 
-    private List<Transaction> getTransactionsByInquiryType(Long accountId, String inquiryType) {
-        switch (inquiryType.toUpperCase()) {
-            case "I": // 입금만
-                return transactionRepository.findByAccountIdAndInoutType(accountId, "DP");
-            case "O": // 출금만
-                return transactionRepository.findByAccountIdAndInoutType(accountId, "WD");
-            case "A": // 모두
-            default:
-                return transactionRepository.findByAccountId(accountId);
-        }
-    }
+    private List<Transaction> findHistoryPage(Long accountId, TransactionHistoryRequest request, int limit) {
+        String inoutType = request.resolveInoutType();
+        LocalDate fromDate = request.resolveFromDate();
+        LocalDate toDate = request.resolveToDate();
+        HistoryCursor cursor = HistoryCursor.decode(request.getBeforeInquiryTraceInfo());
+        Pageable pageable = PageRequest.of(0, limit);
 
-    private List<Transaction> sortTransactions(List<Transaction> transactions, String sortOrder) {
-        if ("A".equals(sortOrder.toUpperCase())) {
+        if ("A".equalsIgnoreCase(request.getSortOrder())) {
             // 오름차순 (날짜 오래된 순)
-            return transactions.stream()
-                    .sorted(Comparator.comparing(Transaction::getTranDate)
-                            .thenComparing(Transaction::getTranTime))
-                    .collect(Collectors.toList());
-        } else {
-            // 내림차순 (날짜 최신 순) - 기본값
-            return transactions.stream()
-                    .sorted(Comparator.comparing(Transaction::getTranDate)
-                            .thenComparing(Transaction::getTranTime)
-                            .reversed())
-                    .collect(Collectors.toList());
+            return transactionRepository.findHistoryPageAsc(accountId, inoutType, fromDate, toDate,
+                    cursor.tranDate(), cursor.tranTime(), cursor.tranId(), pageable);
         }
+        // 내림차순 (날짜 최신 순) - 기본값
+        return transactionRepository.findHistoryPageDesc(accountId, inoutType, fromDate, toDate,
+                cursor.tranDate(), cursor.tranTime(), cursor.tranId(), pageable);
     }
 
-    private TransactionHistoryItem convertToHistoryItem(Transaction transaction) {
-        return TransactionHistoryItem.builder()
-                .tranDate(transaction.getTranDate().format(DateTimeFormatter.ofPattern("yyyyMMdd")))
-                .tranTime(transaction.getTranTime())
-                .inoutType(mapInoutType(transaction.getInoutType()))
-                .tranType(mapTranType(transaction.getTranType()))
-                .printedContent(transaction.getPrintContent())
-                .tranAmt(transaction.getTranAmt().toString())
-                .afterBalanceAmt(transaction.getAfterBalanceAmt().toString())
-                .branchName(transaction.getBranchName())
-                .build();
-    }
-
-    private String mapInoutType(String inoutType) {
-        switch (inoutType) {
-            case "DP":
-                return "입금";
-            case "WD":
-                return "출금";
-            default:
-                return "기타";
+    private int resolvePageSize(Integer pageSize) {
+        if (pageSize == null) {
+            return DEFAULT_HISTORY_PAGE_SIZE;
         }
-    }
-
-    private String mapTranType(String tranType) {
-        switch (tranType) {
-            case "CASH":
-                return "현금";
-            case "CARD":
-                return "카드";
-            case "TRANSFER":
-                return "이체";
-            default:
-                return "온라인";
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("페이지당 건수는 1 이상이어야 합니다.");
         }
+        return Math.min(pageSize, MAX_HISTORY_PAGE_SIZE);
     }
 
-    private String generateTraceInfo() {
-        return "1T" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-    }
-    
-    /**
-     * 거래 고유번호는 AUTO_INCREMENT로 자동 생성됨
-     */
-    
     /**
      * 트랜잭션 엔티티 생성
      */
@@ -261,7 +198,7 @@ public class TransactionService {
         return Transaction.builder()
                 .accountId(account.getAccountId())
                 .tranDate(now.toLocalDate())
-                .tranTime(now.format(DateTimeFormatter.ofPattern("HHmmss")))
+                .tranTime(DateCodec.formatTime(now))
                 .inoutType("WD")
                 .tranType("ONLINE_WD")
                 .printContent(request.getDpsPrintContent())
@@ -284,7 +221,7 @@ public class TransactionService {
         return Transaction.builder()
                 .accountId(account.getAccountId())
                 .tranDate(now.toLocalDate())
-                .tranTime(now.format(DateTimeFormatter.ofPattern("HHmmss")))
+                .tranTime(DateCodec.formatTime(now))
                 .inoutType("DP")
                 .tranType("ONLINE_DP")
                 .printContent(request.getPrintContent())
@@ -326,7 +263,7 @@ public class TransactionService {
         return DepositResponse.builder()
                 .tranNo(request.getTranNo())
                 .bankTranId(tranId)
-                .bankTranDate(LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")))
+                .bankTranDate(DateCodec.formatDate(LocalDate.now()))
                 .bankCodeTran(account.getBankCodeStd())
                 .bankRspCode("000")
                 .bankRspMessage("")
@@ -11,7 +11,10 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "kbbank_user")
+@Table(name = "kbbank_user", indexes = {
+        @Index(name = "idx_user_ci", columnList = "user_ci"),
+        @Index(name = "idx_user_num", columnList = "user_num")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
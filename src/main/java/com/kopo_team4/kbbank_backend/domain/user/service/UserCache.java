@@ -0,0 +1,135 @@
+package com.kopo_team4.kbbank_backend.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kopo_team4.kbbank_backend.domain.user.entity.User;
+import com.kopo_team4.kbbank_backend.domain.user.repository.UserRepository;
+import com.kopo_team4.kbbank_backend.global.cache.CacheStatsSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 조회 캐시 (읽기 전용 조회용)
+ *
+ * 기능: CI / userId / userNum 으로 사용자를 조회할 때 DB 조회 결과를 인메모리에 보관
+ * 기준: 최대 건수와 쓰기 후 만료 시간으로 제한 (cache.user.*)
+ *       - 한 사용자를 세 키로 모두 저장하고 무효화도 세 키를 함께 처리
+ *       - 존재하지 않는 사용자는 캐시하지 않음 (가입 직후 조회가 바로 반영되도록)
+ *       - 사용자 수정/삭제 시 UserService가 명시적으로 무효화 (트랜잭션 커밋 후 한 번 더 무효화)
+ * 주의: 반환된 User는 여러 요청이 공유하므로 수정 용도로 사용하지 않음
+ */
+@Component
+@Slf4j
+public class UserCache {
+
+    private static final String CI_KEY = "ci:";
+    private static final String ID_KEY = "id:";
+    private static final String NUM_KEY = "num:";
+
+    private final UserRepository userRepository;
+    private final Cache<String, User> cache;
+
+    public UserCache(UserRepository userRepository,
+                     @Value("${cache.user.maximum-size:10000}") long maximumSize,
+                     @Value("${cache.user.expire-after-write-seconds:300}") long expireAfterWriteSeconds) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public Optional<User> findByUserCi(String userCi) {
+        return find(CI_KEY + userCi, () -> userRepository.findByUserCi(userCi));
+    }
+
+    public Optional<User> findByUserId(String userId) {
+        return find(ID_KEY + userId, () -> userRepository.findById(userId));
+    }
+
+    public Optional<User> findByUserNum(String userNum) {
+        return find(NUM_KEY + userNum, () -> userRepository.findByUserNum(userNum));
+    }
+
+    /**
+     * userId 목록 일괄 조회 - 캐시에 없는 사용자만 IN 쿼리 한 번으로 적재
+     *
+     * @param userIds 조회할 userId 목록 (중복/null 허용)
+     * @return userId → User (존재하지 않는 사용자는 제외)
+     */
+    public Map<String, User> findAllByUserIds(Collection<String> userIds) {
+        Map<String, User> users = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String userId : new LinkedHashSet<>(userIds)) {
+            if (userId == null) {
+                continue;
+            }
+            User cached = cache.getIfPresent(ID_KEY + userId);
+            if (cached != null) {
+                users.put(userId, cached);
+            } else {
+                misses.add(userId);
+            }
+        }
+        if (!misses.isEmpty()) {
+            for (User user : userRepository.findAllById(misses)) {
+                keysOf(user).forEach(k -> cache.put(k, user));
+                users.put(user.getUserId(), user);
+            }
+        }
+        return users;
+    }
+
+    /**
+     * 사용자 캐시 무효화 (즉시 + 진행 중인 트랜잭션이 있으면 커밋 후 한 번 더)
+     * 커밋 전에 다른 요청이 이전 값을 다시 적재하는 경우를 막기 위해 커밋 후에도 무효화
+     */
+    public void invalidate(User user) {
+        List<String> keys = keysOf(user);
+        cache.invalidateAll(keys);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll(keys);
+                }
+            });
+        }
+        log.debug("사용자 캐시 무효화 - userId: {}", user.getUserId());
+    }
+
+    /**
+     * 캐시 통계 스냅샷
+     */
+    public CacheStatsSnapshot getStats() {
+        return CacheStatsSnapshot.of(cache);
+    }
+
+    private Optional<User> find(String key, Supplier<Optional<User>> loader) {
+        User cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<User> loaded = loader.get();
+        loaded.ifPresent(user -> keysOf(user).forEach(k -> cache.put(k, user)));
+        return loaded;
+    }
+
+    private static List<String> keysOf(User user) {
+        return List.of(CI_KEY + user.getUserCi(), ID_KEY + user.getUserId(), NUM_KEY + user.getUserNum());
+    }
+}
@@ -1,5 +1,6 @@
 package com.kopo_team4.kbbank_backend.domain.user.service;
 
+import com.kopo_team4.kbbank_backend.domain.account.service.AccountHolderNameCache;
 import com.kopo_team4.kbbank_backend.domain.user.dto.UserCreateRequest;
 import com.kopo_team4.kbbank_backend.domain.user.dto.UserDeleteRequest;
 import com.kopo_team4.kbbank_backend.domain.user.dto.UserResponse;
@@ -21,6 +22,8 @@ import java.util.UUID;
 public class UserService {
     
     private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final AccountHolderNameCache accountHolderNameCache;
     
     public UserResponse createUser(UserCreateRequest request) {
         // CI 중복 체크
@@ -46,7 +49,7 @@ public class UserService {
     
     @Transactional(readOnly = true)
     public UserResponse searchUserByCi(UserSearchRequest request) {
-        User user = userRepository.findByUserCi(request.getUserCi())
+        User user = userCache.findByUserCi(request.getUserCi())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
         
         return convertToResponse(user);
@@ -68,17 +71,20 @@ public class UserService {
                 .build();
         
         User savedUser = userRepository.save(updatedUser);
+        userCache.invalidate(user);
+        accountHolderNameCache.invalidateUser(user.getUserId());
         log.info("사용자 업데이트 완료: CI={}", request.getUserCi());
         
         return convertToResponse(savedUser);
     }
     
     public void deleteUserByRequest(UserDeleteRequest request) {
-        if (!userRepository.existsByUserCi(request.getUserCi())) {
-            throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
-        }
+        User user = userRepository.findByUserCi(request.getUserCi())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
         
         userRepository.deleteByUserCi(request.getUserCi());
+        userCache.invalidate(user);
+        accountHolderNameCache.invalidateUser(user.getUserId());
         log.info("사용자 삭제 완료: CI={}", request.getUserCi());
     }
     
@@ -0,0 +1,41 @@
+package com.kopo_team4.kbbank_backend.global.audit;
+
+import java.math.BigDecimal;
+
+/**
+ * 링 버퍼 슬롯 (재사용되는 가변 객체)
+ *
+ * 발행 스레드는 값 참조만 채우고, 문자열 변환/JSON 직렬화는 기록 스레드에서 수행
+ */
+final class AuditEvent {
+
+    long epochMillis;
+    long durationNanos;
+    AuditEventType type;
+    AuditOutcome outcome;
+    String account;
+    BigDecimal amount;
+    Object reference;
+    Object tranId;
+    String reason;
+
+    void set(long epochMillis, long durationNanos, AuditEventType type, AuditOutcome outcome, String account,
+             BigDecimal amount, Object reference, Object tranId, String reason) {
+        this.epochMillis = epochMillis;
+        this.durationNanos = durationNanos;
+        this.type = type;
+        this.outcome = outcome;
+        this.account = account;
+        this.amount = amount;
+        this.reference = reference;
+        this.tranId = tranId;
+        this.reason = reason;
+    }
+
+    /**
+     * 기록 후 참조 해제 (버퍼에 남은 요청 객체가 GC되도록)
+     */
+    void clear() {
+        set(0, 0, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,12 @@
+package com.kopo_team4.kbbank_backend.global.audit;
+
+/**
+ * 감사 이벤트 종류 (업무 처리 단위)
+ */
+public enum AuditEventType {
+    WITHDRAW,
+    DEPOSIT,
+    SUBSCRIPTION,
+    IRP_DEPOSIT,
+    AUTO_TRANSFER
+}
@@ -0,0 +1,258 @@
+package com.kopo_team4.kbbank_backend.global.audit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.annotation.PostConstruct;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 감사 로그 (업무 처리 1건당 이벤트 1건)
+ *
+ * 기능: 출금/입금/상품 가입/IRP 입금/자동이체 결과를 링 버퍼에 넣고, 백그라운드 스레드가 JSON Lines 파일로 기록
+ * 기준: 발행은 순번 선점 + 값 참조 복사만 수행 (문자열 포맷/직렬화/IO 없음, 락 없음)
+ *       - 버퍼가 가득 차면 이벤트를 버리고 건수를 누적, 기록 스레드가 버린 건수를 AUDIT_DROPPED 행으로 남김
+ *       - 기록 스레드는 버퍼가 비면 flush 후 잠시 대기 (발행 스레드가 깨우지 않음)
+ *       - 파일은 일자/크기 기준으로 롤링 (audit.*)
+ */
+@Component
+@Slf4j
+public class AuditLog implements DisposableBean {
+
+    private static final int DRAIN_BATCH = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+    private final boolean enabled;
+    private final AuditRingBuffer ring;
+    private final RollingAuditFileWriter fileWriter;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final LineBuffer line = new LineBuffer();
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong writeErrors = new AtomicLong();
+    private long reportedDrops;
+    private boolean pendingFlush;
+    private boolean failing;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AuditLog(@Value("${audit.enabled:true}") boolean enabled,
+                    @Value("${audit.buffer-size:16384}") int bufferSize,
+                    @Value("${audit.directory:logs/audit}") String directory,
+                    @Value("${audit.max-file-size-mb:100}") long maxFileSizeMb,
+                    @Value("${audit.max-history-days:30}") int maxHistoryDays) {
+        this.enabled = enabled;
+        this.ring = new AuditRingBuffer(bufferSize);
+        this.fileWriter = new RollingAuditFileWriter(Path.of(directory), maxFileSizeMb * 1024 * 1024, maxHistoryDays);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::drainLoop, "audit-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 감사 이벤트 발행
+     *
+     * @param type 업무 종류
+     * @param outcome 처리 결과
+     * @param account 대상 계좌번호
+     * @param amount 거래 금액
+     * @param reference 외부 거래 식별자 (bankTranId, 자동이체 ID 등, 기록 시 toString)
+     * @param tranId 원장 거래 ID (없으면 null)
+     * @param startedNanos 처리 시작 시각 (System.nanoTime)
+     * @param reason 실패 사유 (성공이면 null)
+     * @return 버퍼에 들어갔으면 true, 비활성화/버퍼 포화로 버려졌으면 false
+     */
+    public boolean record(AuditEventType type, AuditOutcome outcome, String account, BigDecimal amount,
+                          Object reference, Object tranId, long startedNanos, String reason) {
+        if (!enabled) {
+            return false;
+        }
+        long sequence = ring.tryClaim();
+        if (sequence < 0) {
+            return false;
+        }
+        ring.slot(sequence).set(System.currentTimeMillis(), System.nanoTime() - startedNanos,
+                type, outcome, account, amount, reference, tranId, reason);
+        ring.publish(sequence);
+        return true;
+    }
+
+    /**
+     * 통계 스냅샷
+     */
+    public Stats getStats() {
+        return Stats.builder()
+                .enabled(enabled)
+                .capacity(ring.capacity())
+                .published(ring.publishedCount())
+                .written(written.get())
+                .dropped(ring.droppedCount())
+                .pending(ring.publishedCount() - ring.consumedCount())
+                .writeErrors(writeErrors.get())
+                .build();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writerThread);
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void drainLoop() {
+        while (running) {
+            if (ring.drain(this::write, DRAIN_BATCH) == 0) {
+                idle();
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        while (ring.drain(this::write, DRAIN_BATCH) > 0) {
+            // 종료 전 남은 이벤트 기록
+        }
+        idle();
+        try {
+            fileWriter.close();
+        } catch (IOException e) {
+            log.warn("감사 로그 파일 닫기 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 버퍼가 비었을 때: 버린 건수 기록 + flush
+     */
+    private void idle() {
+        long drops = ring.droppedCount();
+        if (drops > reportedDrops) {
+            long count = drops - reportedDrops;
+            reportedDrops = drops;
+            writeLine(System.currentTimeMillis(), generator -> {
+                generator.writeStringField("type", "AUDIT_DROPPED");
+                generator.writeNumberField("count", count);
+            });
+        }
+        if (pendingFlush) {
+            try {
+                fileWriter.flush();
+                pendingFlush = false;
+            } catch (IOException e) {
+                onWriteError(e);
+            }
+        }
+    }
+
+    private void write(AuditEvent event) {
+        writeLine(event.epochMillis, generator -> {
+            generator.writeStringField("type", event.type.name());
+            generator.writeStringField("outcome", event.outcome.name());
+            writeOptional(generator, "account", event.account);
+            if (event.amount != null) {
+                generator.writeFieldName("amount");
+                generator.writeNumber(event.amount);
+            }
+            writeOptional(generator, "reference", event.reference);
+            writeOptional(generator, "tranId", event.tranId);
+            generator.writeNumberField("durationMicros", event.durationNanos / 1_000);
+            writeOptional(generator, "reason", event.reason);
+        });
+    }
+
+    private void writeLine(long epochMillis, FieldWriter fields) {
+        Instant instant = Instant.ofEpochMilli(epochMillis);
+        OffsetDateTime timestamp = OffsetDateTime.ofInstant(instant, zone);
+        line.reset();
+        try {
+            try (JsonGenerator generator = jsonFactory.createGenerator(line)) {
+                generator.writeStartObject();
+                generator.writeStringField("ts", TIMESTAMP.format(timestamp));
+                fields.write(generator);
+                generator.writeEndObject();
+            }
+            line.write('\n');
+            fileWriter.write(timestamp.toLocalDate(), line.array(), line.size());
+            written.incrementAndGet();
+            pendingFlush = true;
+            failing = false;
+        } catch (IOException e) {
+            onWriteError(e);
+        }
+    }
+
+    private static void writeOptional(JsonGenerator generator, String field, Object value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(field, value.toString());
+        }
+    }
+
+    /**
+     * 기록 실패는 건수만 누적하고 경고는 연속 실패 구간마다 한 번만 출력
+     */
+    private void onWriteError(IOException e) {
+        writeErrors.incrementAndGet();
+        if (!failing) {
+            failing = true;
+            log.warn("감사 로그 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface FieldWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * 내부 배열을 복사 없이 넘기기 위한 재사용 버퍼
+     */
+    private static final class LineBuffer extends ByteArrayOutputStream {
+        LineBuffer() {
+            super(512);
+        }
+
+        byte[] array() {
+            return buf;
+        }
+    }
+
+    @Getter
+    @Builder
+    @ToString
+    public static class Stats {
+        private final boolean enabled;
+        private final int capacity;
+        private final long published;
+        private final long written;
+        private final long dropped;
+        private final long pending;
+        private final long writeErrors;
+    }
+}
@@ -0,0 +1,27 @@
+package com.kopo_team4.kbbank_backend.global.audit;
+
+import com.kopo_team4.kbbank_backend.global.exception.InsufficientBalanceException;
+
+/**
+ * 감사 이벤트 처리 결과
+ */
+public enum AuditOutcome {
+    SUCCESS,
+    // 멱등 재요청 (기록된 첫 응답 반환, 잔액 변경 없음)
+    REPLAYED,
+    // 요청 오류 / 업무 규칙 위반 (잔액 부족, 없는 계좌 등)
+    REJECTED,
+    // 시스템 오류
+    FAILED,
+    SKIPPED;
+
+    /**
+     * 예외로 끝난 처리의 결과 구분
+     */
+    public static AuditOutcome of(Throwable failure) {
+        if (failure instanceof IllegalArgumentException || failure instanceof InsufficientBalanceException) {
+            return REJECTED;
+        }
+        return FAILED;
+    }
+}
@@ -0,0 +1,102 @@
+package com.kopo_team4.kbbank_backend.global.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 다중 발행 / 단일 소비 링 버퍼 (락 없음)
+ *
+ * 기능: 발행 스레드는 CAS로 순번을 선점해 슬롯을 채우고 순번을 게시, 소비 스레드는 게시된 순번까지 순서대로 읽음
+ * 기준: 버퍼가 가득 차면 대기하지 않고 이벤트를 버린 뒤 건수만 누적 (업무 스레드가 기록 때문에 멈추지 않도록)
+ *       - 슬롯은 소비자가 읽고 소비 순번을 올린 뒤에만 다시 선점될 수 있음
+ */
+final class AuditRingBuffer {
+
+    private final AuditEvent[] slots;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param capacity 슬롯 수 (2의 거듭제곱)
+     */
+    AuditRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("감사 로그 버퍼 크기는 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.slots = new AuditEvent[capacity];
+        this.published = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new AuditEvent();
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * 순번 선점 (가득 차면 -1, 버린 건수 증가)
+     */
+    long tryClaim() {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed.get() >= slots.length) {
+                dropped.increment();
+                return -1;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+        return sequence;
+    }
+
+    AuditEvent slot(long sequence) {
+        return slots[(int) sequence & mask];
+    }
+
+    /**
+     * 슬롯 기록 완료 게시 (이후 소비자에게 보임)
+     */
+    void publish(long sequence) {
+        published.setRelease((int) sequence & mask, sequence);
+    }
+
+    /**
+     * 게시된 이벤트를 순서대로 최대 maxEvents건 처리 (소비 스레드 전용)
+     *
+     * @return 처리 건수
+     */
+    int drain(Consumer<AuditEvent> handler, int maxEvents) {
+        long next = consumed.get();
+        int count = 0;
+        while (count < maxEvents && published.getAcquire((int) next & mask) == next) {
+            AuditEvent event = slots[(int) next & mask];
+            try {
+                handler.accept(event);
+            } finally {
+                event.clear();
+                consumed.setRelease(++next);
+            }
+            count++;
+        }
+        return count;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    long publishedCount() {
+        return claimed.get();
+    }
+
+    long consumedCount() {
+        return consumed.get();
+    }
+
+    long droppedCount() {
+        return dropped.sum();
+    }
+}
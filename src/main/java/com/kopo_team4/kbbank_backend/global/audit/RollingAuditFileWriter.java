@@ -0,0 +1,132 @@
+package com.kopo_team4.kbbank_backend.global.audit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 일자/크기 기준 롤링 JSON Lines 파일 (기록 스레드 전용, 스레드 안전하지 않음)
+ *
+ * 파일명: audit-yyyy-MM-dd.jsonl, 크기를 넘으면 audit-yyyy-MM-dd.1.jsonl, .2.jsonl ...
+ * 일자가 바뀌면 보존 기간이 지난 파일을 삭제
+ */
+@Slf4j
+final class RollingAuditFileWriter implements AutoCloseable {
+
+    private static final String PREFIX = "audit-";
+    private static final String SUFFIX = ".jsonl";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private final long maxFileBytes;
+    private final int maxHistoryDays;
+
+    private OutputStream out;
+    private LocalDate currentDay;
+    private int currentIndex;
+    private long currentBytes;
+
+    RollingAuditFileWriter(Path directory, long maxFileBytes, int maxHistoryDays) {
+        this.directory = directory;
+        this.maxFileBytes = maxFileBytes;
+        this.maxHistoryDays = maxHistoryDays;
+    }
+
+    /**
+     * 한 줄 기록 (line은 줄바꿈 포함)
+     */
+    void write(LocalDate day, byte[] line, int length) throws IOException {
+        if (out == null || !day.equals(currentDay)) {
+            open(day);
+        } else if (currentBytes > 0 && currentBytes + length > maxFileBytes) {
+            roll();
+        }
+        out.write(line, 0, length);
+        currentBytes += length;
+    }
+
+    void flush() throws IOException {
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+    /**
+     * 일자 파일 열기 (재기동 시 크기가 남은 마지막 인덱스 파일에 이어서 기록)
+     * 기동 시와 일자가 바뀔 때만 호출되므로 이때 만료 파일도 정리
+     */
+    private void open(LocalDate day) throws IOException {
+        close();
+        Files.createDirectories(directory);
+        int index = 0;
+        while (Files.exists(fileOf(day, index + 1))) {
+            index++;
+        }
+        if (Files.exists(fileOf(day, index)) && Files.size(fileOf(day, index)) >= maxFileBytes) {
+            index++;
+        }
+        openIndex(day, index);
+        purgeExpired(day);
+    }
+
+    private void roll() throws IOException {
+        close();
+        openIndex(currentDay, currentIndex + 1);
+    }
+
+    private void openIndex(LocalDate day, int index) throws IOException {
+        Path file = fileOf(day, index);
+        out = new BufferedOutputStream(Files.newOutputStream(file,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND), BUFFER_SIZE);
+        currentDay = day;
+        currentIndex = index;
+        currentBytes = Files.size(file);
+    }
+
+    private Path fileOf(LocalDate day, int index) {
+        return directory.resolve(PREFIX + day + (index == 0 ? "" : "." + index) + SUFFIX);
+    }
+
+    private void purgeExpired(LocalDate today) {
+        LocalDate cutoff = today.minusDays(maxHistoryDays);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            for (Path file : files) {
+                LocalDate fileDay = dayOf(file.getFileName().toString());
+                if (fileDay != null && fileDay.isBefore(cutoff)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("만료된 감사 로그 파일 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private static LocalDate dayOf(String fileName) {
+        int start = PREFIX.length();
+        int end = start + "yyyy-MM-dd".length();
+        if (fileName.length() < end) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(fileName.substring(start, end));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
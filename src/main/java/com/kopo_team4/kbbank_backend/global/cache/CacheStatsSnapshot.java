@@ -0,0 +1,34 @@
+package com.kopo_team4.kbbank_backend.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 인메모리(Caffeine) 캐시 통계 스냅샷 (/api/health/cache)
+ *
+ * 기준: recordStats()로 생성한 캐시만 적중/미적중 수가 집계됨
+ */
+@Getter
+@Builder
+@ToString
+public class CacheStatsSnapshot {
+    private final long size;
+    private final long hitCount;
+    private final long missCount;
+    private final double hitRate;
+    private final long evictionCount;
+
+    public static CacheStatsSnapshot of(Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return CacheStatsSnapshot.builder()
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+}
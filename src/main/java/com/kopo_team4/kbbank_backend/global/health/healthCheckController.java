@@ -1,6 +1,12 @@
 package com.kopo_team4.kbbank_backend.global.health;
 
+import com.kopo_team4.kbbank_backend.domain.account.service.AccountHolderNameCache;
+import com.kopo_team4.kbbank_backend.domain.product.service.ProductCatalog;
+import com.kopo_team4.kbbank_backend.domain.transaction.service.IdempotencyStore;
+import com.kopo_team4.kbbank_backend.domain.user.service.UserCache;
+import com.kopo_team4.kbbank_backend.global.audit.AuditLog;
 import com.kopo_team4.kbbank_backend.global.dto.ApiResponse;
+import com.kopo_team4.kbbank_backend.global.metrics.MetricsRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +27,12 @@ import java.util.Map;
 public class healthCheckController {
 
     private final DataSource dataSource;
+    private final UserCache userCache;
+    private final ProductCatalog productCatalog;
+    private final AccountHolderNameCache accountHolderNameCache;
+    private final IdempotencyStore idempotencyStore;
+    private final AuditLog auditLog;
+    private final MetricsRegistry metricsRegistry;
 
     @GetMapping("/status")
     public ResponseEntity<ApiResponse<Map<String, Object>>> checkStatus() {
@@ -57,6 +69,30 @@ public class healthCheckController {
         }
     }
     
+    @GetMapping("/cache")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> checkCache() {
+        Map<String, Object> caches = new HashMap<>();
+        caches.put("user", userCache.getStats());
+        caches.put("productCatalog", productCatalog.getStats());
+        caches.put("accountHolder", accountHolderNameCache.getStats());
+        caches.put("accountHolderNegative", accountHolderNameCache.getNegativeStats());
+        caches.put("idempotency", idempotencyStore.getStats());
+        return ResponseEntity.ok(ApiResponse.success("캐시 통계 조회 성공", caches));
+    }
+
+    @GetMapping("/audit")
+    public ResponseEntity<ApiResponse<AuditLog.Stats>> checkAudit() {
+        return ResponseEntity.ok(ApiResponse.success("감사 로그 통계 조회 성공", auditLog.getStats()));
+    }
+    
+    /**
+     * 지연 시간 지표 (Prometheus 텍스트 형식, 수집기가 주기적으로 조회)
+     */
+    @GetMapping(value = "/metrics", produces = "text/plain; version=0.0.4; charset=utf-8")
+    public ResponseEntity<String> metrics() {
+        return ResponseEntity.ok(metricsRegistry.scrape());
+    }
+    
     // 간단한 헬스체크 엔드포인트 (기존 API 테스트와 호환성 유지)
     @GetMapping
     public ResponseEntity<String> simpleHealthCheck() {
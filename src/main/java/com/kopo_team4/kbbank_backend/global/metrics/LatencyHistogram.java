@@ -0,0 +1,179 @@
+package com.kopo_team4.kbbank_backend.global.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 히스토그램 (HdrHistogram 방식의 로그-선형 버킷, 나노초 단위)
+ *
+ * 기능: 처리 시간을 기록하고 백분위수/최대값/건수/합계를 조회
+ * 기준: 2의 거듭제곱 구간마다 32개 선형 버킷 (상대 오차 1/32 이하), 약 137초 이상은 마지막 버킷에 기록
+ *       - 기록은 버킷 카운터 증가와 누적 건수/합계 갱신만 수행 (락, 객체 생성 없음)
+ *       - 건수/합계는 기동 후 누적, 백분위수/최대값은 최근 1~2개 구간(windowNanos)만 반영
+ *       - 구간 교체 중 기록된 값은 누락될 수 있음 (근사치)
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int MAX_MAGNITUDE = 36;
+    static final long MAX_TRACKABLE_NANOS = (1L << (MAX_MAGNITUDE + 1)) - 1;
+    static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_MAGNITUDE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final long windowNanos;
+    private final AtomicLongArray[] windows = {new AtomicLongArray(BUCKET_COUNT), new AtomicLongArray(BUCKET_COUNT)};
+    private final AtomicLong[] windowMax = {new AtomicLong(), new AtomicLong()};
+    private final AtomicLong windowEnd;
+    private volatile int current;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    public LatencyHistogram(long windowNanos) {
+        this.windowNanos = windowNanos;
+        this.windowEnd = new AtomicLong(System.nanoTime() + windowNanos);
+    }
+
+    /**
+     * 처리 시간 기록
+     *
+     * @param durationNanos 처리 시간 (음수는 0으로 기록)
+     */
+    public void record(long durationNanos) {
+        long value = Math.max(durationNanos, 0);
+        rotateIfDue(System.nanoTime());
+        int window = current;
+        windows[window].incrementAndGet(bucketOf(value));
+        updateMax(windowMax[window], value);
+        count.increment();
+        totalNanos.add(value);
+    }
+
+    /**
+     * 기동 후 누적 건수
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * 조회 시점 스냅샷 (백분위수는 최근 구간 기준)
+     */
+    public Snapshot snapshot() {
+        rotateIfDue(System.nanoTime());
+        long[] merged = new long[BUCKET_COUNT];
+        long total = 0;
+        for (AtomicLongArray window : windows) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                long bucket = window.get(i);
+                merged[i] += bucket;
+                total += bucket;
+            }
+        }
+        long max = Math.max(windowMax[0].get(), windowMax[1].get());
+        return new Snapshot(count.sum(), totalNanos.sum(), total, max, merged);
+    }
+
+    /**
+     * 구간 교체 (교체 스레드 하나만 수행, 한 구간 이상 기록이 없었으면 이전 구간도 비움)
+     */
+    private void rotateIfDue(long now) {
+        long end = windowEnd.get();
+        if (now - end < 0 || !windowEnd.compareAndSet(end, now + windowNanos)) {
+            return;
+        }
+        int next = current ^ 1;
+        clear(next);
+        if (now - end >= windowNanos) {
+            clear(current);
+        }
+        current = next;
+    }
+
+    private void clear(int window) {
+        AtomicLongArray buckets = windows[window];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        windowMax[window].set(0);
+    }
+
+    private static void updateMax(AtomicLong max, long value) {
+        long observed = max.get();
+        while (value > observed && !max.compareAndSet(observed, value)) {
+            observed = max.get();
+        }
+    }
+
+    static int bucketOf(long value) {
+        long clamped = Math.min(value, MAX_TRACKABLE_NANOS);
+        if (clamped < SUB_BUCKET_COUNT) {
+            return (int) clamped;
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(clamped)) - SUB_BUCKET_BITS;
+        int subBucket = (int) (clamped >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * 버킷에 속하는 최대값 (HdrHistogram의 highestEquivalentValue)
+     */
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        int subBucket = (bucket - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        long lowest = (long) (SUB_BUCKET_COUNT + subBucket) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    public static final class Snapshot {
+        private final long count;
+        private final long totalNanos;
+        private final long windowCount;
+        private final long maxNanos;
+        private final long[] buckets;
+
+        private Snapshot(long count, long totalNanos, long windowCount, long maxNanos, long[] buckets) {
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.windowCount = windowCount;
+            this.maxNanos = maxNanos;
+            this.buckets = buckets;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public long totalNanos() {
+            return totalNanos;
+        }
+
+        public long maxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * 최근 구간 백분위수 (기록이 없으면 0)
+         *
+         * @param quantile 0.0 ~ 1.0
+         */
+        public long valueAtQuantile(double quantile) {
+            if (windowCount == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(quantile * windowCount));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return Math.min(highestValueOf(i), maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.kopo_team4.kbbank_backend.global.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 지연 시간 지표 연결 설정
+ *
+ * 기능: 컨트롤러(인터셉터), 리포지토리(호출 리스너), Hikari 풀(MetricsTrackerFactory), @Scheduled(Observation)를
+ *       MetricsRegistry에 연결
+ * 기준: 스케줄 작업용 ObservationRegistry는 빈으로 등록하지 않음 (다른 자동 설정이 관측을 시작하지 않도록)
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer, SchedulingConfigurer {
+
+    private final MetricsRegistry metricsRegistry;
+
+    public MetricsConfig(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestMetricsInterceptor(metricsRegistry));
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new ScheduledTaskMetricsHandler(metricsRegistry));
+        taskRegistrar.setObservationRegistry(observationRegistry);
+    }
+
+    /**
+     * 리포지토리 생성 전에 호출 리스너 등록
+     */
+    @Bean
+    static BeanPostProcessor repositoryMetricsPostProcessor(ObjectProvider<MetricsRegistry> metricsRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory ->
+                            factory.addInvocationListener(new RepositoryMetricsListener(metricsRegistry.getObject())));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 메인 커넥션 풀에 지표 수집기 설정 (풀은 첫 커넥션 요청 시 시작)
+     */
+    @Bean
+    static BeanPostProcessor hikariMetricsPostProcessor(ObjectProvider<MetricsRegistry> metricsRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource
+                        && dataSource.getMetricsTrackerFactory() == null
+                        && dataSource.getMetricRegistry() == null) {
+                    dataSource.setMetricsTrackerFactory(metricsRegistry.getObject().hikariTrackerFactory());
+                }
+                return bean;
+            }
+        };
+    }
+}
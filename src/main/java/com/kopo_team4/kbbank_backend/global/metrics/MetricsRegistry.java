@@ -0,0 +1,209 @@
+package com.kopo_team4.kbbank_backend.global.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 지표 저장소
+ *
+ * 기능: HTTP 경로별, 리포지토리 메서드별, 커넥션 풀별, 스케줄 작업별 히스토그램을 보관하고 Prometheus 텍스트로 출력
+ * 기준: 외부 수집기/라이브러리 없이 메모리에만 보관 (재기동 시 초기화)
+ *       - 지표 키는 경로 패턴/메서드 단위로 제한 (요청 값이 레이블에 들어가지 않음)
+ *       - 백분위수 집계 구간은 metrics.window-seconds
+ */
+@Component
+public class MetricsRegistry {
+
+    static final String HTTP_REQUESTS = "kbbank_http_server_requests_seconds";
+    static final String REPOSITORY_INVOCATIONS = "kbbank_repository_invocations_seconds";
+    static final String POOL_ACQUIRE = "kbbank_hikari_connection_acquire_seconds";
+    static final String POOL_USAGE = "kbbank_hikari_connection_usage_seconds";
+    static final String POOL_TIMEOUTS = "kbbank_hikari_connection_timeouts_total";
+    static final String POOL_CONNECTIONS = "kbbank_hikari_connections";
+    static final String SCHEDULED_TASKS = "kbbank_scheduled_task_seconds";
+
+    private final long windowNanos;
+    private final Map<RouteKey, LatencyHistogram> requests = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<String, RepositoryMethod>> repositories = new ConcurrentHashMap<>();
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+    private final Map<TaskKey, LatencyHistogram> tasks = new ConcurrentHashMap<>();
+
+    record RouteKey(String method, String route, String outcome) {
+    }
+
+    record TaskKey(String task, String outcome) {
+    }
+
+    public MetricsRegistry(@Value("${metrics.window-seconds:60}") long windowSeconds) {
+        this.windowNanos = TimeUnit.SECONDS.toNanos(windowSeconds);
+    }
+
+    /**
+     * HTTP 요청 처리 시간 기록
+     *
+     * @param method HTTP 메서드
+     * @param route 매핑된 경로 패턴 (예: /api/v1/accounts/{accountNum})
+     * @param outcome 응답 상태 분류 (SUCCESS, CLIENT_ERROR, SERVER_ERROR ...)
+     */
+    public void recordRequest(String method, String route, String outcome, long durationNanos) {
+        requests.computeIfAbsent(new RouteKey(method, route, outcome), key -> newHistogram())
+                .record(durationNanos);
+    }
+
+    /**
+     * 리포지토리 메서드 호출 시간 기록
+     *
+     * @param repository 리포지토리 인터페이스
+     * @param method 호출된 메서드 (상속 메서드는 리포지토리마다 따로, 오버로드는 이름 기준으로 합산)
+     * @param success 예외 없이 끝났는지
+     */
+    public void recordRepository(Class<?> repository, Method method, boolean success, long durationNanos) {
+        repositories.computeIfAbsent(repository, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method.getName(), name -> new RepositoryMethod(repository.getSimpleName(), name))
+                .histogram(success)
+                .record(durationNanos);
+    }
+
+    /**
+     * 스케줄 작업 실행 시간 기록
+     *
+     * @param task 작업명 (클래스명.메서드명)
+     * @param outcome SUCCESS / ERROR
+     */
+    public void recordTask(String task, String outcome, long durationNanos) {
+        tasks.computeIfAbsent(new TaskKey(task, outcome), key -> newHistogram())
+                .record(durationNanos);
+    }
+
+    /**
+     * Hikari 풀 지표 수집기 (풀 생성 전 HikariDataSource에 설정)
+     */
+    public MetricsTrackerFactory hikariTrackerFactory() {
+        return (poolName, poolStats) -> pools.computeIfAbsent(poolName, name -> new Pool(poolStats));
+    }
+
+    /**
+     * Prometheus 텍스트 형식 (text/plain; version=0.0.4)
+     */
+    public String scrape() {
+        PrometheusTextWriter writer = new PrometheusTextWriter();
+
+        List<PrometheusTextWriter.Summary> routes = new ArrayList<>();
+        requests.forEach((key, histogram) -> routes.add(new PrometheusTextWriter.Summary(histogram.snapshot(),
+                "method", key.method(), "route", key.route(), "outcome", key.outcome())));
+        writer.summaries(HTTP_REQUESTS, "HTTP request latency by route and outcome", routes);
+
+        List<PrometheusTextWriter.Summary> invocations = new ArrayList<>();
+        repositories.values().forEach(methods -> methods.values().forEach(method -> {
+            addIfRecorded(invocations, method.success, "repository", method.repository, "method", method.method, "outcome", "SUCCESS");
+            addIfRecorded(invocations, method.error, "repository", method.repository, "method", method.method, "outcome", "ERROR");
+        }));
+        writer.summaries(REPOSITORY_INVOCATIONS, "Spring Data repository method latency", invocations);
+
+        List<PrometheusTextWriter.Summary> acquires = new ArrayList<>();
+        List<PrometheusTextWriter.Summary> usages = new ArrayList<>();
+        pools.forEach((name, pool) -> {
+            acquires.add(new PrometheusTextWriter.Summary(pool.acquire.snapshot(), "pool", name));
+            usages.add(new PrometheusTextWriter.Summary(pool.usage.snapshot(), "pool", name));
+        });
+        writer.summaries(POOL_ACQUIRE, "Time spent waiting for a pooled connection", acquires);
+        writer.summaries(POOL_USAGE, "Time a connection was held before being returned", usages);
+        writer.header(POOL_TIMEOUTS, "counter", "Connection acquisitions that timed out");
+        pools.forEach((name, pool) -> writer.sample(POOL_TIMEOUTS, pool.timeouts.sum(), "pool", name));
+        writer.header(POOL_CONNECTIONS, "gauge", "Pool connections by state");
+        pools.forEach((name, pool) -> {
+            writer.sample(POOL_CONNECTIONS, pool.stats.getActiveConnections(), "pool", name, "state", "active");
+            writer.sample(POOL_CONNECTIONS, pool.stats.getIdleConnections(), "pool", name, "state", "idle");
+            writer.sample(POOL_CONNECTIONS, pool.stats.getPendingThreads(), "pool", name, "state", "pending");
+        });
+
+        List<PrometheusTextWriter.Summary> runs = new ArrayList<>();
+        tasks.forEach((key, histogram) -> runs.add(new PrometheusTextWriter.Summary(histogram.snapshot(),
+                "task", key.task(), "outcome", key.outcome())));
+        writer.summaries(SCHEDULED_TASKS, "Scheduled task run duration", runs);
+
+        return writer.toString();
+    }
+
+    private static void addIfRecorded(List<PrometheusTextWriter.Summary> summaries, LatencyHistogram histogram,
+                                      String... labels) {
+        if (histogram != null && histogram.count() > 0) {
+            summaries.add(new PrometheusTextWriter.Summary(histogram.snapshot(), labels));
+        }
+    }
+
+    private LatencyHistogram newHistogram() {
+        return new LatencyHistogram(windowNanos);
+    }
+
+    private final class RepositoryMethod {
+        private final String repository;
+        private final String method;
+        private final LatencyHistogram success = newHistogram();
+        private volatile LatencyHistogram error;
+
+        private RepositoryMethod(String repository, String method) {
+            this.repository = repository;
+            this.method = method;
+        }
+
+        /**
+         * 실패 히스토그램은 첫 실패 시 생성 (대부분의 메서드는 실패 기록이 없음)
+         */
+        private LatencyHistogram histogram(boolean succeeded) {
+            if (succeeded) {
+                return success;
+            }
+            LatencyHistogram current = error;
+            if (current == null) {
+                synchronized (this) {
+                    if (error == null) {
+                        error = newHistogram();
+                    }
+                    current = error;
+                }
+            }
+            return current;
+        }
+    }
+
+    /**
+     * 풀 하나의 지표 (Hikari가 커넥션 획득/반납/타임아웃마다 호출)
+     */
+    private final class Pool implements IMetricsTracker {
+        private final PoolStats stats;
+        private final LatencyHistogram acquire = newHistogram();
+        private final LatencyHistogram usage = newHistogram();
+        private final LongAdder timeouts = new LongAdder();
+
+        private Pool(PoolStats stats) {
+            this.stats = stats;
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquire.record(elapsedAcquiredNanos);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usage.record(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+        }
+    }
+}
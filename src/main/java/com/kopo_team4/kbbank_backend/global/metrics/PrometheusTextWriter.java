@@ -0,0 +1,95 @@
+package com.kopo_team4.kbbank_backend.global.metrics;
+
+import java.util.List;
+
+/**
+ * Prometheus 텍스트 형식(0.0.4) 출력
+ *
+ * 시간 지표는 초 단위 summary (백분위수 + _count + _sum)와 최근 구간 최대값 gauge(_max)로 출력
+ */
+final class PrometheusTextWriter {
+
+    static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final StringBuilder out = new StringBuilder(8 * 1024);
+
+    /**
+     * 레이블 값과 스냅샷 한 쌍 (labels는 이름, 값 순서로 나열)
+     */
+    record Summary(LatencyHistogram.Snapshot snapshot, String... labels) {
+    }
+
+    void summaries(String name, String help, List<Summary> summaries) {
+        header(name, "summary", help);
+        for (Summary summary : summaries) {
+            LatencyHistogram.Snapshot snapshot = summary.snapshot();
+            for (double quantile : QUANTILES) {
+                line(name, summary.labels(), "quantile", Double.toString(quantile));
+                out.append(seconds(snapshot.valueAtQuantile(quantile))).append('\n');
+            }
+            sample(name + "_count", snapshot.count(), summary.labels());
+            line(name + "_sum", summary.labels(), null, null);
+            out.append(seconds(snapshot.totalNanos())).append('\n');
+        }
+        header(name + "_max", "gauge", help + " (maximum in the recent window)");
+        for (Summary summary : summaries) {
+            line(name + "_max", summary.labels(), null, null);
+            out.append(seconds(summary.snapshot().maxNanos())).append('\n');
+        }
+    }
+
+    void header(String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    void sample(String name, long value, String... labels) {
+        line(name, labels, null, null);
+        out.append(value).append('\n');
+    }
+
+    /**
+     * 지표명과 레이블까지 출력 (값은 호출자가 이어서 출력)
+     */
+    private void line(String name, String[] labels, String extraName, String extraValue) {
+        out.append(name);
+        if (labels.length > 0 || extraName != null) {
+            out.append('{');
+            for (int i = 0; i < labels.length; i += 2) {
+                label(labels[i], labels[i + 1], i > 0);
+            }
+            if (extraName != null) {
+                label(extraName, extraValue, labels.length > 0);
+            }
+            out.append('}');
+        }
+        out.append(' ');
+    }
+
+    private void label(String name, String value, boolean separator) {
+        if (separator) {
+            out.append(',');
+        }
+        out.append(name).append("=\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case '"' -> out.append("\\\"");
+                case '\n' -> out.append("\\n");
+                default -> out.append(c);
+            }
+        }
+        out.append('"');
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / NANOS_PER_SECOND;
+    }
+
+    @Override
+    public String toString() {
+        return out.toString();
+    }
+}
@@ -0,0 +1,25 @@
+package com.kopo_team4.kbbank_backend.global.metrics;
+
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리포지토리 메서드 호출 시간 기록 (Spring Data가 호출마다 측정한 시간을 전달)
+ */
+final class RepositoryMetricsListener implements RepositoryMethodInvocationListener {
+
+    private final MetricsRegistry metricsRegistry;
+
+    RepositoryMetricsListener(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public void afterInvocation(RepositoryMethodInvocation invocation) {
+        RepositoryMethodInvocationResult result = invocation.getResult();
+        boolean success = result == null || result.getState() == RepositoryMethodInvocationResult.State.SUCCESS;
+        metricsRegistry.recordRepository(invocation.getRepositoryInterface(), invocation.getMethod(), success,
+                invocation.getDuration(TimeUnit.NANOSECONDS));
+    }
+}
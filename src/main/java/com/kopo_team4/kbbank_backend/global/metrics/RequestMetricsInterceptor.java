@@ -0,0 +1,57 @@
+package com.kopo_team4.kbbank_backend.global.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 컨트롤러 요청 처리 시간 기록
+ *
+ * 경로는 매핑된 패턴(/api/v1/accounts/{accountNum})으로 집계하고,
+ * 비동기 요청은 재디스패치가 끝날 때 최초 진입 시각부터 기록
+ */
+final class RequestMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".start";
+    private static final String UNMATCHED = "UNMATCHED";
+
+    private final MetricsRegistry metricsRegistry;
+
+    RequestMetricsInterceptor(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(START_ATTRIBUTE) == null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        metricsRegistry.recordRequest(request.getMethod(), pattern != null ? pattern.toString() : UNMATCHED,
+                outcomeOf(response.getStatus(), ex), System.nanoTime() - start);
+    }
+
+    static String outcomeOf(int status, Exception ex) {
+        if (ex != null && status < 400) {
+            return "SERVER_ERROR";
+        }
+        return switch (status / 100) {
+            case 1 -> "INFORMATIONAL";
+            case 2 -> "SUCCESS";
+            case 3 -> "REDIRECTION";
+            case 4 -> "CLIENT_ERROR";
+            case 5 -> "SERVER_ERROR";
+            default -> "UNKNOWN";
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.kopo_team4.kbbank_backend.global.metrics;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import org.springframework.scheduling.support.ScheduledTaskObservationContext;
+
+/**
+ * @Scheduled 메서드 실행 시간 기록 (스케줄러가 실행마다 시작/종료를 알림)
+ */
+final class ScheduledTaskMetricsHandler implements ObservationHandler<ScheduledTaskObservationContext> {
+
+    private static final String START_KEY = ScheduledTaskMetricsHandler.class.getName() + ".start";
+
+    private final MetricsRegistry metricsRegistry;
+
+    ScheduledTaskMetricsHandler(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public void onStart(ScheduledTaskObservationContext context) {
+        context.put(START_KEY, System.nanoTime());
+    }
+
+    @Override
+    public void onStop(ScheduledTaskObservationContext context) {
+        Long start = context.get(START_KEY);
+        if (start == null) {
+            return;
+        }
+        String task = context.getTargetClass().getSimpleName() + "." + context.getMethod().getName();
+        metricsRegistry.recordTask(task, context.getError() == null ? "SUCCESS" : "ERROR", System.nanoTime() - start);
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof ScheduledTaskObservationContext;
+    }
+}
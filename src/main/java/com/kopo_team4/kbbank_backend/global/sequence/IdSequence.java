@@ -0,0 +1,29 @@
+package com.kopo_team4.kbbank_backend.global.sequence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채번 테이블 (시퀀스별 다음 할당 시작값)
+ *
+ * 값 변경은 SequenceBlockAllocator가 전용 커넥션으로만 수행
+ */
+@Entity
+@Table(name = "kbbank_id_sequence")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdSequence {
+
+    @Id
+    @Column(name = "sequence_name", nullable = false, length = 50)
+    private String sequenceName;
+
+    @Column(name = "next_val", nullable = false)
+    private Long nextVal;
+}
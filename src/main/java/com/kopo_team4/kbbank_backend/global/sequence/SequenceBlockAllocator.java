@@ -0,0 +1,176 @@
+package com.kopo_team4.kbbank_backend.global.sequence;
+
+import com.kopo_team4.kbbank_backend.global.metrics.MetricsRegistry;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채번 블록 할당기 (kbbank_id_sequence)
+ *
+ * 기능: 시퀀스별로 blockSize 만큼의 번호 구간을 한 번에 예약하고 메모리에서 순차 발급
+ * 기준: 구간 예약은 업무 트랜잭션과 분리된 전용 소형 커넥션 풀에서 즉시 커밋
+ *       - 업무 트랜잭션이 커넥션을 쥔 채 메인 풀에서 두 번째 커넥션을 기다리지 않으므로
+ *         메인 풀이 포화되어도 채번 때문에 교착되지 않음
+ *       - 예약 후 사용하지 않은 번호(재기동, 롤백)는 결번으로 남음
+ */
+@Component
+@Slf4j
+public class SequenceBlockAllocator implements DisposableBean {
+
+    private static final String UPDATE_SQL =
+            "UPDATE kbbank_id_sequence SET next_val = next_val + ? WHERE sequence_name = ?";
+    private static final String SELECT_SQL =
+            "SELECT next_val FROM kbbank_id_sequence WHERE sequence_name = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO kbbank_id_sequence (sequence_name, next_val) VALUES (?, ?)";
+    private static final String RAISE_SQL =
+            "UPDATE kbbank_id_sequence SET next_val = ? WHERE sequence_name = ? AND next_val < ?";
+
+    private final DataSourceProperties dataSourceProperties;
+    private final MetricsRegistry metricsRegistry;
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+    private volatile HikariDataSource dataSource;
+
+    public SequenceBlockAllocator(DataSourceProperties dataSourceProperties, MetricsRegistry metricsRegistry) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    /**
+     * 다음 번호 발급
+     *
+     * @param sequenceName 시퀀스명 (kbbank_id_sequence.sequence_name)
+     * @param blockSize 소진 시 새로 예약할 구간 크기
+     * @return 해당 시퀀스에서 한 번도 발급되지 않은 번호
+     */
+    public long next(String sequenceName, int blockSize) {
+        Block block = blocks.computeIfAbsent(sequenceName, name -> new Block());
+        synchronized (block) {
+            if (block.next >= block.limit) {
+                long start = reserve(sequenceName, blockSize);
+                block.next = start;
+                block.limit = start + blockSize;
+            }
+            return block.next++;
+        }
+    }
+
+    /**
+     * 시퀀스 하한 보정 (없으면 생성)
+     * 기존 데이터의 최대 번호 이후부터 발급되도록 기동 시 호출
+     *
+     * @param sequenceName 시퀀스명
+     * @param floor 다음에 발급될 수 있는 최소 번호
+     */
+    public void ensureAtLeast(String sequenceName, long floor) {
+        execute(connection -> {
+            if (selectNextVal(connection, sequenceName) == null) {
+                try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+                    insert.setString(1, sequenceName);
+                    insert.setLong(2, floor);
+                    insert.executeUpdate();
+                    return null;
+                } catch (SQLException e) {
+                    // 다른 인스턴스가 먼저 생성한 경우 아래 보정으로 진행
+                    connection.rollback();
+                }
+            }
+            try (PreparedStatement raise = connection.prepareStatement(RAISE_SQL)) {
+                raise.setLong(1, floor);
+                raise.setString(2, sequenceName);
+                raise.setLong(3, floor);
+                raise.executeUpdate();
+            }
+            return null;
+        });
+        log.info("채번 시퀀스 보정 완료 - sequence: {}, floor: {}", sequenceName, floor);
+    }
+
+    private long reserve(String sequenceName, int blockSize) {
+        return execute(connection -> {
+            try (PreparedStatement update = connection.prepareStatement(UPDATE_SQL)) {
+                update.setLong(1, blockSize);
+                update.setString(2, sequenceName);
+                if (update.executeUpdate() != 1) {
+                    throw new IllegalStateException("채번 시퀀스가 초기화되지 않았습니다: " + sequenceName);
+                }
+            }
+            return selectNextVal(connection, sequenceName) - blockSize;
+        });
+    }
+
+    private Long selectNextVal(Connection connection, String sequenceName) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(SELECT_SQL)) {
+            select.setString(1, sequenceName);
+            try (ResultSet rs = select.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : null;
+            }
+        }
+    }
+
+    private <T> T execute(SqlWork<T> work) {
+        try (Connection connection = dataSource().getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                T result = work.run(connection);
+                connection.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("채번 처리 중 DB 오류가 발생했습니다.", e);
+        }
+    }
+
+    private HikariDataSource dataSource() {
+        HikariDataSource current = dataSource;
+        if (current == null) {
+            synchronized (this) {
+                current = dataSource;
+                if (current == null) {
+                    current = dataSourceProperties.initializeDataSourceBuilder()
+                            .type(HikariDataSource.class)
+                            .build();
+                    current.setPoolName("kbbank-sequence");
+                    current.setMaximumPoolSize(2);
+                    current.setMinimumIdle(0);
+                    current.setMetricsTrackerFactory(metricsRegistry.hikariTrackerFactory());
+                    dataSource = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public void destroy() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    /**
+     * 메모리에 보유 중인 예약 구간 [next, limit)
+     */
+    private static class Block {
+        private long next;
+        private long limit;
+    }
+
+    @FunctionalInterface
+    private interface SqlWork<T> {
+        T run(Connection connection) throws SQLException;
+    }
+}
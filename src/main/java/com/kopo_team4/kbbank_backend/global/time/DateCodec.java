@@ -0,0 +1,169 @@
+package com.kopo_team4.kbbank_backend.global.time;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 오픈뱅킹 날짜/시각 문자열 변환 (yyyyMMdd, HHmmss, yyyyMMddHHmmss)
+ *
+ * 기능: 포맷터를 한 번만 생성해 공유하고, 자주 쓰는 변환은 포맷터 없이 자릿수 계산으로 처리
+ * 기준: yyyyMMdd 정수 키(예: 20240131)는 날짜 순서와 정수 순서가 같으므로 그대로 비교 가능
+ *       - 형식이 잘못된 문자열의 정수 키는 INVALID (-1, 모든 날짜보다 이전)
+ *       - 연도가 1~9999 범위를 벗어나면 포맷터로 처리 (기존 출력과 동일)
+ */
+public final class DateCodec {
+
+    public static final DateTimeFormatter YYYYMMDD = DateTimeFormatter.ofPattern("yyyyMMdd");
+    public static final DateTimeFormatter HHMMSS = DateTimeFormatter.ofPattern("HHmmss");
+    public static final DateTimeFormatter YYYYMMDDHHMMSS = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    public static final int INVALID = -1;
+
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+
+    private DateCodec() {
+    }
+
+    /**
+     * LocalDate -> yyyyMMdd 문자열
+     */
+    public static String formatDate(LocalDate date) {
+        int year = date.getYear();
+        if (year < 1 || year > 9999) {
+            return date.format(YYYYMMDD);
+        }
+        char[] out = new char[8];
+        digits(out, 0, year, 4);
+        digits(out, 4, date.getMonthValue(), 2);
+        digits(out, 6, date.getDayOfMonth(), 2);
+        return new String(out);
+    }
+
+    /**
+     * LocalTime -> HHmmss 문자열
+     */
+    public static String formatTime(LocalTime time) {
+        char[] out = new char[6];
+        digits(out, 0, time.getHour(), 2);
+        digits(out, 2, time.getMinute(), 2);
+        digits(out, 4, time.getSecond(), 2);
+        return new String(out);
+    }
+
+    public static String formatTime(LocalDateTime dateTime) {
+        return formatTime(dateTime.toLocalTime());
+    }
+
+    /**
+     * LocalDateTime -> yyyyMMddHHmmss 문자열
+     */
+    public static String formatDateTime(LocalDateTime dateTime) {
+        int year = dateTime.getYear();
+        if (year < 1 || year > 9999) {
+            return dateTime.format(YYYYMMDDHHMMSS);
+        }
+        char[] out = new char[14];
+        digits(out, 0, year, 4);
+        digits(out, 4, dateTime.getMonthValue(), 2);
+        digits(out, 6, dateTime.getDayOfMonth(), 2);
+        digits(out, 8, dateTime.getHour(), 2);
+        digits(out, 10, dateTime.getMinute(), 2);
+        digits(out, 12, dateTime.getSecond(), 2);
+        return new String(out);
+    }
+
+    /**
+     * LocalDate -> yyyyMMdd 정수 키
+     */
+    public static int toInt(LocalDate date) {
+        return date.getYear() * 10_000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    /**
+     * yyyyMMdd 정수 키 -> LocalDate
+     *
+     * @throws DateTimeException 존재하지 않는 날짜인 경우
+     */
+    public static LocalDate toLocalDate(int yyyymmdd) {
+        return LocalDate.of(yyyymmdd / 10_000, yyyymmdd / 100 % 100, yyyymmdd % 100);
+    }
+
+    /**
+     * yyyyMMdd 정수 키 -> 1970-01-01 기준 일수 (LocalDate.toEpochDay와 같은 값, 객체 생성 없음)
+     *
+     * @throws DateTimeException 존재하지 않는 날짜인 경우
+     */
+    public static long toEpochDay(int yyyymmdd) {
+        int year = yyyymmdd / 10_000;
+        int month = yyyymmdd / 100 % 100;
+        int day = yyyymmdd % 100;
+        if (yyyymmdd < 0 || !isValid(year, month, day)) {
+            throw new DateTimeException("존재하지 않는 날짜입니다: " + yyyymmdd);
+        }
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400
+                + (367 * month - 362) / 12 + day - 1;
+        if (month > 2) {
+            total -= isLeapYear(year) ? 1 : 2;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * yyyyMMdd 문자열 -> 정수 키 (부분 문자열/예외 생성 없음)
+     *
+     * @return 8자리 숫자가 아니거나 존재하지 않는 날짜이면 INVALID
+     */
+    public static int parseInt(CharSequence text) {
+        if (text == null || text.length() != 8) {
+            return INVALID;
+        }
+        int value = 0;
+        for (int i = 0; i < 8; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID;
+            }
+            value = value * 10 + digit;
+        }
+        return isValid(value / 10_000, value / 100 % 100, value % 100) ? value : INVALID;
+    }
+
+    /**
+     * yyyyMMdd 문자열 -> LocalDate
+     *
+     * @throws DateTimeParseException 형식이 올바르지 않거나 존재하지 않는 날짜인 경우
+     */
+    public static LocalDate parseDate(CharSequence text) {
+        int value = parseInt(text);
+        if (value == INVALID) {
+            throw new DateTimeParseException("yyyyMMdd 형식이 아닙니다: " + text, text == null ? "" : text, 0);
+        }
+        return toLocalDate(value);
+    }
+
+    private static boolean isValid(int year, int month, int day) {
+        if (month < 1 || month > 12 || day < 1) {
+            return false;
+        }
+        return switch (month) {
+            case 2 -> day <= (isLeapYear(year) ? 29 : 28);
+            case 4, 6, 9, 11 -> day <= 30;
+            default -> day <= 31;
+        };
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static void digits(char[] out, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            out[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
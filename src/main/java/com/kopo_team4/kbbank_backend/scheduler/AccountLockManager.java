@@ -1,71 +1,225 @@
 package com.kopo_team4.kbbank_backend.scheduler;
 
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 /**
- * 계좌별 동시성 제어 매니저
- * 
- * 기능: 계좌별로 락을 관리하여 동시 자동이체 실행을 방지
+ * 계좌별 동시성 제어 매니저 (JVM 내부)
+ *
+ * 기능: 계좌 ID를 2의 거듭제곱 개의 락 스트라이프에 매핑하여 동시 자동이체 실행을 방지
+ * 기준: 락 개수가 스트라이프 수로 고정되어 처리한 계좌 수와 무관하게 메모리 사용량이 일정
+ *       - 서로 다른 계좌가 같은 스트라이프를 공유하면 순차 처리될 수 있음 (정확성에는 영향 없음)
+ *       - 스트라이프 락은 재진입을 지원하지 않으므로 락 안에서 다른 계좌 락을 잡지 않아야 함
+ *       - 대기자는 도착 순서대로 락을 넘겨받으며, 비동기 API는 대기 중 스레드를 점유하지 않음
+ *       - 인스턴스 간 중복 실행 방지는 AutoTransferCheckpointStore의 파티션 리스가 담당
  * 사용처: 자동이체 스케줄러에서 동일 계좌의 여러 자동이체 처리 시
  */
 @Component
 @Slf4j
 public class AccountLockManager {
-    
-    private final ConcurrentHashMap<Long, ReentrantLock> accountLocks = new ConcurrentHashMap<>();
-    
+
+    private static final long LOCK_TIMEOUT_SECONDS = 30;
+
+    private final Stripe[] stripes;
+    private final int shift;
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder contendedAcquisitions = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public AccountLockManager() {
+        this(1024);
+    }
+
+    @Autowired
+    public AccountLockManager(@Value("${scheduler.account-lock.stripes:1024}") int stripeCount) {
+        // 2의 거듭제곱으로 올림 (상위 비트로 스트라이프를 선택하기 위함)
+        int size = stripeCount <= 2 ? 2 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.shift = 64 - Integer.numberOfTrailingZeros(size);
+    }
+
     /**
-     * 계좌별 락을 사용하여 작업 실행
-     * 
+     * 계좌별 락을 사용하여 작업 실행 (호출 스레드에서 대기)
+     *
      * @param accountId 계좌 ID
      * @param task 실행할 작업
      */
     public void executeWithAccountLock(Long accountId, Runnable task) {
-        ReentrantLock lock = accountLocks.computeIfAbsent(accountId, k -> new ReentrantLock());
-        
+        Stripe stripe = stripeFor(accountId);
+        long startedAt = System.nanoTime();
+        CompletableFuture<Void> grant = stripe.acquire();
+
         try {
             log.debug("계좌 {} 락 획득 시도", accountId);
-            
-            if (lock.tryLock(30, TimeUnit.SECONDS)) {
-                log.debug("계좌 {} 락 획득 성공", accountId);
-                try {
-                    task.run();
-                } finally {
-                    lock.unlock();
-                    log.debug("계좌 {} 락 해제", accountId);
-                }
-            } else {
-                log.warn("계좌 {} 락 획득 실패 (30초 타임아웃)", accountId);
-                throw new RuntimeException("계좌 잠금 획득 실패: " + accountId);
-            }
+            grant.get(LOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            abandon(stripe, grant);
+            timeouts.increment();
+            log.warn("계좌 {} 락 획득 실패 ({}초 타임아웃)", accountId, LOCK_TIMEOUT_SECONDS);
+            throw new RuntimeException("계좌 잠금 획득 실패: " + accountId);
         } catch (InterruptedException e) {
+            abandon(stripe, grant);
             Thread.currentThread().interrupt();
             log.error("계좌 {} 락 대기 중 인터럽트 발생", accountId, e);
             throw new RuntimeException("계좌 잠금 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("계좌 잠금 획득 중 오류", e.getCause());
+        }
+
+        recordWait(startedAt, grant);
+        log.debug("계좌 {} 락 획득 성공", accountId);
+        try {
+            task.run();
+        } finally {
+            stripe.release();
+            log.debug("계좌 {} 락 해제", accountId);
         }
     }
-    
+
     /**
-     * 특정 계좌의 락 제거 (메모리 정리용)
-     * 
+     * 계좌별 락을 사용하여 작업 실행 (비동기)
+     * 락을 기다리는 동안 스레드를 점유하지 않으며, 락을 넘겨받으면 executor에서 작업을 실행
+     * (executor는 동기 API로 락을 기다리며 블로킹될 수 있는 스레드 풀과 분리해야 함)
+     *
      * @param accountId 계좌 ID
+     * @param task 실행할 작업
+     * @param executor 작업 실행 executor
+     * @return 작업 결과 (작업이 끝나면 락 해제)
+     */
+    public <T> CompletableFuture<T> executeWithAccountLockAsync(Long accountId, Supplier<T> task, Executor executor) {
+        Stripe stripe = stripeFor(accountId);
+        long startedAt = System.nanoTime();
+        CompletableFuture<Void> grant = stripe.acquire();
+
+        // 작업 실패나 executor 거부로 끝나더라도 락은 한 번만 해제
+        return grant.thenApplyAsync(granted -> {
+            recordWait(startedAt, grant);
+            return task.get();
+        }, executor).whenComplete((result, error) -> stripe.release());
+    }
+
+    /**
+     * 락 대기 통계 스냅샷
+     */
+    public LockStats getStats() {
+        long count = acquisitions.sum();
+        long waitNanos = totalWaitNanos.sum();
+        return LockStats.builder()
+                .stripes(stripes.length)
+                .acquisitions(count)
+                .contendedAcquisitions(contendedAcquisitions.sum())
+                .timeouts(timeouts.sum())
+                .averageWaitMicros(count == 0 ? 0 : waitNanos / count / 1_000)
+                .maxWaitMicros(maxWaitNanos.get() / 1_000)
+                .build();
+    }
+
+    /**
+     * 계좌 ID를 스트라이프로 매핑 (순차 ID가 여러 스트라이프에 고르게 퍼지도록 혼합 후 상위 비트 사용)
      */
-    public void removeLock(Long accountId) {
-        accountLocks.remove(accountId);
-        log.debug("계좌 {} 락 제거", accountId);
+    private Stripe stripeFor(Long accountId) {
+        long mixed = accountId * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (mixed >>> shift)];
     }
-    
+
+    private void recordWait(long startedAt, CompletableFuture<Void> grant) {
+        acquisitions.increment();
+        if (grant != Stripe.GRANTED) {
+            long waited = System.nanoTime() - startedAt;
+            contendedAcquisitions.increment();
+            totalWaitNanos.add(waited);
+            maxWaitNanos.accumulateAndGet(waited, Math::max);
+        }
+    }
+
+    /**
+     * 대기 포기 - 대기열에서 빠지기 전에 락을 넘겨받았다면 바로 다음 대기자에게 넘김
+     */
+    private void abandon(Stripe stripe, CompletableFuture<Void> grant) {
+        if (!stripe.cancel(grant)) {
+            stripe.release();
+        }
+    }
+
+    /**
+     * 스트라이프 락 (FIFO 인계)
+     * 보유자가 없으면 즉시 완료된 future를, 있으면 대기열에 넣은 future를 반환
+     */
+    private static class Stripe {
+
+        private static final CompletableFuture<Void> GRANTED = CompletableFuture.completedFuture(null);
+
+        private final ArrayDeque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+        private boolean held;
+
+        private CompletableFuture<Void> acquire() {
+            synchronized (this) {
+                if (!held) {
+                    held = true;
+                    return GRANTED;
+                }
+                CompletableFuture<Void> waiter = new CompletableFuture<>();
+                waiters.addLast(waiter);
+                return waiter;
+            }
+        }
+
+        private void release() {
+            CompletableFuture<Void> next;
+            synchronized (this) {
+                next = waiters.pollFirst();
+                if (next == null) {
+                    held = false;
+                    return;
+                }
+            }
+            // 보유 상태를 유지한 채 다음 대기자에게 인계 (잠금 밖에서 완료 처리)
+            next.complete(null);
+        }
+
+        /**
+         * @return 대기열에서 제거했으면 true, 이미 락을 넘겨받은 상태면 false
+         */
+        private boolean cancel(CompletableFuture<Void> waiter) {
+            synchronized (this) {
+                return waiters.remove(waiter);
+            }
+        }
+    }
+
     /**
-     * 모든 락 제거 (메모리 정리용)
+     * 락 대기 통계
      */
-    public void clearAllLocks() {
-        int size = accountLocks.size();
-        accountLocks.clear();
-        log.info("모든 계좌 락 제거 완료 ({}개)", size);
+    @Getter
+    @Builder
+    @ToString
+    public static class LockStats {
+        private final int stripes;
+        private final long acquisitions;
+        private final long contendedAcquisitions;
+        private final long timeouts;
+        private final long averageWaitMicros;
+        private final long maxWaitMicros;
     }
 }
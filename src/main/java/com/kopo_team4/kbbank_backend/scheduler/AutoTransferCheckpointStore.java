@@ -0,0 +1,171 @@
+package com.kopo_team4.kbbank_backend.scheduler;
+
+import com.kopo_team4.kbbank_backend.domain.autotransfer.entity.AutoTransfer;
+import com.kopo_team4.kbbank_backend.domain.autotransfer.entity.AutoTransferCheckpoint;
+import com.kopo_team4.kbbank_backend.domain.autotransfer.entity.AutoTransferCheckpointId;
+import com.kopo_team4.kbbank_backend.domain.autotransfer.repository.AutoTransferCheckpointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 자동이체 스케줄러 파티션 체크포인트/리스 저장소
+ *
+ * 기능: 실행일별 파티션 행을 준비하고, 조건부 UPDATE로 파티션 리스를 획득/연장하며,
+ *       청크 완료마다 마지막 처리 키와 누적 건수를 커밋
+ * 기준: 리스는 lease-seconds 동안 유효하며 청크마다 연장
+ *       - 연장에 실패하면(만료 후 다른 인스턴스가 가져감) 해당 파티션 처리를 중단
+ *       - 처리하던 인스턴스가 종료되어 리스가 만료된 파티션은 복구 실행에서 다른 인스턴스가 획득
+ */
+@Component
+@Slf4j
+@Transactional
+public class AutoTransferCheckpointStore {
+
+    static final String RUNNING = "RUNNING";
+    static final String COMPLETED = "COMPLETED";
+
+    private final AutoTransferCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long leaseSeconds;
+    private final String instanceId;
+
+    public AutoTransferCheckpointStore(AutoTransferCheckpointRepository checkpointRepository,
+                                       TransactionTemplate transactionTemplate,
+                                       @Value("${scheduler.auto-transfer.lease-seconds:300}") long leaseSeconds) {
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.leaseSeconds = leaseSeconds;
+        this.instanceId = resolveHostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 현재 인스턴스 식별자 (리스 보유자)
+     */
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * 실행일의 파티션 행 준비 (이미 있으면 유지)
+     * 여러 인스턴스가 동시에 생성해도 한 건만 남도록 파티션별로 커밋
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void preparePartitions(LocalDate runDate, int partitions) {
+        for (int partitionNo = 0; partitionNo < partitions; partitionNo++) {
+            AutoTransferCheckpointId id = new AutoTransferCheckpointId(runDate, partitionNo);
+            if (checkpointRepository.existsById(id)) {
+                continue;
+            }
+            int target = partitionNo;
+            try {
+                transactionTemplate.executeWithoutResult(status -> checkpointRepository.save(
+                        AutoTransferCheckpoint.builder()
+                                .runDate(runDate)
+                                .partitionNo(target)
+                                .lastFromAccountId(0L)
+                                .lastAutoTransferId(0L)
+                                .status(RUNNING)
+                                .processedCount(0L)
+                                .succeededCount(0L)
+                                .failedCount(0L)
+                                .skippedCount(0L)
+                                .build()));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("파티션 {} 체크포인트는 다른 인스턴스가 생성함 - 실행일: {}", partitionNo, runDate);
+            }
+        }
+    }
+
+    /**
+     * 중단된 파티션 조회 (진행 중인데 리스 보유자가 없거나 리스가 만료된 파티션)
+     */
+    @Transactional(readOnly = true)
+    public List<AutoTransferCheckpoint> findAbandoned(LocalDate fromDate, LocalDate toDate) {
+        return checkpointRepository.findAbandoned(fromDate, toDate, LocalDateTime.now());
+    }
+
+    /**
+     * 파티션 리스 획득 시도
+     *
+     * @return 획득한 파티션 체크포인트 (다른 인스턴스가 보유 중이거나 완료된 파티션이면 empty)
+     */
+    public Optional<AutoTransferCheckpoint> tryClaim(LocalDate runDate, int partitionNo) {
+        if (!renewLease(runDate, partitionNo)) {
+            return Optional.empty();
+        }
+        AutoTransferCheckpoint checkpoint = load(runDate, partitionNo);
+        if (checkpoint.getProcessedCount() > 0) {
+            log.info("자동이체 파티션 재개 - 실행일: {}, 파티션: {}, 마지막 키: ({}, {}), 누적 처리: {}",
+                    runDate, partitionNo, checkpoint.getLastFromAccountId(),
+                    checkpoint.getLastAutoTransferId(), checkpoint.getProcessedCount());
+        }
+        return Optional.of(checkpoint);
+    }
+
+    /**
+     * 청크 완료 기록 - 리스를 연장하고 마지막 처리 키로 이동하며 건수 누적
+     *
+     * @return 갱신된 체크포인트 (리스를 잃었으면 empty)
+     */
+    public Optional<AutoTransferCheckpoint> advance(AutoTransferCheckpoint checkpoint, AutoTransfer lastTransfer,
+                                                    AutoTransferRunSummary chunkSummary) {
+        if (!renewLease(checkpoint.getRunDate(), checkpoint.getPartitionNo())) {
+            log.warn("자동이체 파티션 리스 상실 - 실행일: {}, 파티션: {}",
+                    checkpoint.getRunDate(), checkpoint.getPartitionNo());
+            return Optional.empty();
+        }
+        AutoTransferCheckpoint current = load(checkpoint.getRunDate(), checkpoint.getPartitionNo());
+        current.setLastFromAccountId(lastTransfer.getFromAccountId());
+        current.setLastAutoTransferId(lastTransfer.getAutoTransferId());
+        current.setProcessedCount(current.getProcessedCount() + chunkSummary.getProcessed());
+        current.setSucceededCount(current.getSucceededCount() + chunkSummary.getSucceeded());
+        current.setFailedCount(current.getFailedCount() + chunkSummary.getFailed());
+        current.setSkippedCount(current.getSkippedCount() + chunkSummary.getSkipped());
+        return Optional.of(current);
+    }
+
+    /**
+     * 파티션 완료 기록 및 리스 반납
+     */
+    public void complete(AutoTransferCheckpoint checkpoint) {
+        if (!renewLease(checkpoint.getRunDate(), checkpoint.getPartitionNo())) {
+            return;
+        }
+        AutoTransferCheckpoint current = load(checkpoint.getRunDate(), checkpoint.getPartitionNo());
+        current.setStatus(COMPLETED);
+        current.setLeaseOwner(null);
+        current.setLeaseExpiresAt(null);
+    }
+
+    private boolean renewLease(LocalDate runDate, int partitionNo) {
+        LocalDateTime now = LocalDateTime.now();
+        return checkpointRepository.claimLease(runDate, partitionNo, instanceId,
+                now.plusSeconds(leaseSeconds), now) == 1;
+    }
+
+    private AutoTransferCheckpoint load(LocalDate runDate, int partitionNo) {
+        return checkpointRepository.findById(new AutoTransferCheckpointId(runDate, partitionNo))
+                .orElseThrow(() -> new IllegalStateException("자동이체 체크포인트가 존재하지 않습니다."));
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.kopo_team4.kbbank_backend.scheduler;
+
+import com.kopo_team4.kbbank_backend.domain.autotransfer.entity.AutoTransfer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 자동이체 계좌 그룹 분배기
+ *
+ * 기능: 출금계좌별로 묶인 자동이체를 고정 크기 작업 스레드 풀에 계좌 그룹 단위로 분배
+ * 기준: 같은 계좌의 자동이체는 한 작업자가 AccountLockManager 락 안에서 순서대로 처리하고,
+ *       서로 다른 계좌는 parallelism 개까지 동시에 처리 (1 이하이면 호출 스레드에서 순차 처리)
+ *       - 작업 스레드 풀은 기동 시 한 번 생성해 모든 청크가 공유하고 종료 시 정리
+ *       - parallelism은 DB 커넥션 풀 크기보다 작게 설정해야 요청 처리용 커넥션이 남음
+ */
+@Component
+@Slf4j
+public class AutoTransferDispatcher implements DisposableBean {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final AccountLockManager accountLockManager;
+    private final int parallelism;
+    private final ExecutorService executor;
+
+    public AutoTransferDispatcher(AccountLockManager accountLockManager,
+                                  @Value("${scheduler.auto-transfer.parallelism:4}") int parallelism) {
+        this.accountLockManager = accountLockManager;
+        this.parallelism = parallelism;
+        this.executor = parallelism > 1
+                ? Executors.newFixedThreadPool(parallelism, new WorkerThreadFactory())
+                : null;
+    }
+
+    /**
+     * 계좌 그룹별 자동이체 실행
+     *
+     * @param transfersByAccount 출금계좌 ID별 자동이체 목록
+     * @param transferExecutor 자동이체 1건 실행 함수 (예외 대신 결과를 반환해야 함)
+     * @return 실행 요약
+     */
+    public AutoTransferRunSummary dispatch(Map<Long, List<AutoTransfer>> transfersByAccount,
+                                           Function<AutoTransfer, AutoTransferOutcome> transferExecutor) {
+        long startedAt = System.nanoTime();
+        Counters counters = new Counters();
+
+        if (executor == null) {
+            transfersByAccount.forEach((accountId, transfers) ->
+                    executeGroup(accountId, transfers, transferExecutor, counters));
+        } else {
+            List<CompletableFuture<Void>> futures = new ArrayList<>(transfersByAccount.size());
+            transfersByAccount.forEach((accountId, transfers) ->
+                    futures.add(CompletableFuture.runAsync(
+                            () -> executeGroup(accountId, transfers, transferExecutor, counters), executor)));
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        }
+
+        return AutoTransferRunSummary.builder()
+                .accountGroups(transfersByAccount.size())
+                .processed(counters.succeeded.sum() + counters.failed.sum() + counters.skipped.sum())
+                .succeeded(counters.succeeded.sum())
+                .failed(counters.failed.sum())
+                .skipped(counters.skipped.sum())
+                .wallTimeMs((System.nanoTime() - startedAt) / 1_000_000)
+                .parallelism(Math.max(parallelism, 1))
+                .build();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("자동이체 작업 스레드 종료 대기 시간 초과 - 강제 종료");
+            executor.shutdownNow();
+        }
+    }
+
+    private void executeGroup(Long accountId, List<AutoTransfer> transfers,
+                              Function<AutoTransfer, AutoTransferOutcome> transferExecutor, Counters counters) {
+        int[] recorded = {0};
+        try {
+            accountLockManager.executeWithAccountLock(accountId, () -> {
+                for (AutoTransfer transfer : transfers) {
+                    counters.record(transferExecutor.apply(transfer));
+                    recorded[0]++;
+                }
+            });
+        } catch (RuntimeException e) {
+            // 락 획득 실패 등 그룹 단위 실패 - 결과가 집계되지 않은 건만 실패로 집계 (이미 집계된 건은 중복 집계하지 않음)
+            log.error("계좌 {} 자동이체 그룹 처리 실패", accountId, e);
+            counters.failed.add(transfers.size() - recorded[0]);
+        }
+    }
+
+    private static class Counters {
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+
+        private void record(AutoTransferOutcome outcome) {
+            switch (outcome) {
+                case SUCCEEDED -> succeeded.increment();
+                case SKIPPED -> skipped.increment();
+                default -> failed.increment();
+            }
+        }
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "auto-transfer-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.kopo_team4.kbbank_backend.scheduler;
+
+/**
+ * 자동이체 1건 실행 결과
+ */
+public enum AutoTransferOutcome {
+    SUCCEEDED,
+    FAILED,
+    SKIPPED
+}
@@ -0,0 +1,22 @@
+package com.kopo_team4.kbbank_backend.scheduler;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 자동이체 스케줄러 1회 실행 요약
+ */
+@Getter
+@Builder
+@ToString
+public class AutoTransferRunSummary {
+
+    private final int accountGroups;
+    private final long processed;
+    private final long succeeded;
+    private final long failed;
+    private final long skipped;
+    private final long wallTimeMs;
+    private final int parallelism;
+}
@@ -1,25 +1,34 @@
 package com.kopo_team4.kbbank_backend.scheduler;
 
 import com.kopo_team4.kbbank_backend.domain.account.entity.Account;
-import com.kopo_team4.kbbank_backend.domain.account.repository.AccountRepository;
+import com.kopo_team4.kbbank_backend.domain.account.service.AccountBalanceManager;
 import com.kopo_team4.kbbank_backend.domain.autotransfer.entity.AutoTransfer;
+import com.kopo_team4.kbbank_backend.domain.autotransfer.entity.AutoTransferCheckpoint;
 import com.kopo_team4.kbbank_backend.domain.autotransfer.repository.AutoTransferRepository;
 import com.kopo_team4.kbbank_backend.domain.autotransfer.service.InstallmentManager;
 import com.kopo_team4.kbbank_backend.domain.autotransfer.service.ScheduleParser;
 import com.kopo_team4.kbbank_backend.domain.transaction.entity.Transaction;
 import com.kopo_team4.kbbank_backend.domain.transaction.repository.TransactionRepository;
-import com.kopo_team4.kbbank_backend.global.exception.InsufficientBalanceException;
+import com.kopo_team4.kbbank_backend.global.audit.AuditEventType;
+import com.kopo_team4.kbbank_backend.global.audit.AuditLog;
+import com.kopo_team4.kbbank_backend.global.audit.AuditOutcome;
+import com.kopo_team4.kbbank_backend.global.time.DateCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 @Component
@@ -29,80 +38,225 @@ import java.util.stream.Collectors;
 public class AutoTransferScheduler {
     
     private final AutoTransferRepository autoTransferRepository;
-    private final AccountRepository accountRepository;
+    private final AccountBalanceManager accountBalanceManager;
     private final TransactionRepository transactionRepository;
     private final InstallmentManager installmentManager;
     private final ScheduleParser scheduleParser;
+    private final AutoTransferDispatcher autoTransferDispatcher;
     private final AccountLockManager accountLockManager;
+    private final AutoTransferCheckpointStore checkpointStore;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditLog auditLog;
     
+    @Value("${scheduler.auto-transfer.chunk-size:500}")
+    private int chunkSize;
+    
+    @Value("${scheduler.auto-transfer.partitions:8}")
+    private int partitions;
+    
+    // 자정 실행과 복구 실행이 같은 인스턴스에서 겹치지 않도록 (리스는 보유자 본인의 재획득을 허용하므로)
+    private final ReentrantLock runLock = new ReentrantLock();
+    
+    /**
+     * 자동이체 실행 (매일 자정)
+     * 실행 예정 자동이체를 출금계좌 ID 기준 파티션으로 나누고, 리스를 획득한 파티션만 처리
+     * (여러 인스턴스가 동시에 실행되면 파티션을 나눠 처리하며 같은 파티션을 중복 처리하지 않음)
+     * 파티션 안에서는 (출금계좌 ID, 자동이체 ID) 순 청크로 읽어 청크마다 체크포인트를 커밋
+     */
     @Scheduled(cron = "0 0 0 * * ?")
     public void executeScheduledTransfers() {
         LocalDate today = LocalDate.now();
-        log.info("자동이체 스케줄러 시작 - 실행일: {}", today);
+        log.info("자동이체 스케줄러 시작 - 실행일: {}, 인스턴스: {}", today, checkpointStore.getInstanceId());
         
+        runLock.lock();
         try {
-            List<AutoTransfer> scheduledTransfers = autoTransferRepository
-                .findScheduledTransfers("ACTIVE", today);
-            
-            if (scheduledTransfers.isEmpty()) {
-                log.info("실행 예정인 자동이체가 없습니다.");
-                return;
-            }
+            checkpointStore.preparePartitions(today, partitions);
             
-            Map<Long, List<AutoTransfer>> transfersByAccount = scheduledTransfers.stream()
-                .collect(Collectors.groupingBy(AutoTransfer::getFromAccountId));
+            long startedAt = System.nanoTime();
+            long[] totals = new long[4];
+            int claimedPartitions = claimAndExecutePartitions(today, totals);
             
-            transfersByAccount.forEach((accountId, transfers) -> {
-                executeTransfersForAccount(accountId, transfers);
-            });
+            log.info("자동이체 스케줄러 완료 - 처리 파티션: {}/{}, 처리: {}, 성공: {}, 실패: {}, 건너뜀: {}, 소요: {}ms",
+                claimedPartitions, partitions, totals[0], totals[1], totals[2], totals[3],
+                (System.nanoTime() - startedAt) / 1_000_000);
+            log.info("계좌 락 대기 통계 - {}", accountLockManager.getStats());
             
         } catch (Exception e) {
             log.error("자동이체 스케줄러 실행 중 오류 발생", e);
+        } finally {
+            runLock.unlock();
         }
     }
     
-    private void executeTransfersForAccount(Long accountId, List<AutoTransfer> transfers) {
-        accountLockManager.executeWithAccountLock(accountId, () -> {
-            transfers.forEach(this::executeSingleTransfer);
-        });
-    }
-    
-    private void executeSingleTransfer(AutoTransfer autoTransfer) {
+    /**
+     * 중단된 파티션 복구 (기동 후 한 번, 이후 주기적으로 실행)
+     * 처리하던 인스턴스가 종료되어 리스가 만료된 파티션이 있는 어제/오늘 실행일을 다시 실행하여
+     * 마지막 체크포인트 이후부터 처리 (중단된 파티션이 없으면 조회 1회로 종료)
+     */
+    @Scheduled(initialDelayString = "${scheduler.auto-transfer.recovery-initial-delay-ms:30000}",
+               fixedDelayString = "${scheduler.auto-transfer.recovery-interval-ms:60000}")
+    public void recoverAbandonedPartitions() {
+        if (!runLock.tryLock()) {
+            // 이 인스턴스에서 자정 실행이 진행 중 - 다음 주기에 확인
+            return;
+        }
         try {
-            // 중복 처리 방지: 이미 이번 달에 처리된 회차인지 확인
-            if (isAlreadyProcessedThisMonth(autoTransfer)) {
-                log.info("이미 이번 달에 처리된 자동이체입니다. 건너뜀 - ID: {}", autoTransfer.getAutoTransferId());
-                return;
-            }
-            
-            Account account = accountRepository.findByIdWithLock(autoTransfer.getFromAccountId())
-                .orElseThrow(() -> new IllegalArgumentException("계좌를 찾을 수 없습니다."));
+            LocalDate today = LocalDate.now();
+            List<LocalDate> runDates = checkpointStore.findAbandoned(today.minusDays(1), today).stream()
+                .map(AutoTransferCheckpoint::getRunDate)
+                .distinct()
+                .toList();
             
-            if (account.getBalanceAmt().compareTo(autoTransfer.getAmount()) < 0) {
-                throw new InsufficientBalanceException("잔액이 부족합니다.");
+            for (LocalDate runDate : runDates) {
+                long startedAt = System.nanoTime();
+                long[] totals = new long[4];
+                int recoveredPartitions = claimAndExecutePartitions(runDate, totals);
+                log.info("자동이체 파티션 복구 완료 - 실행일: {}, 복구 파티션: {}, 처리: {}, 성공: {}, 실패: {}, 건너뜀: {}, 소요: {}ms",
+                    runDate, recoveredPartitions, totals[0], totals[1], totals[2], totals[3],
+                    (System.nanoTime() - startedAt) / 1_000_000);
             }
             
-            Transaction successTransaction = createTransaction(autoTransfer, "AUTO_TRANSFER", "Plan1Q 자동이체");
-            transactionRepository.save(successTransaction);
-            
-            // 회차 정보 업데이트
-            installmentManager.updateInstallmentInfo(autoTransfer);
+        } catch (Exception e) {
+            log.error("자동이체 파티션 복구 중 오류 발생", e);
+        } finally {
+            runLock.unlock();
+        }
+    }
+    
+    /**
+     * 실행일의 파티션을 모두 완료되었거나 다른 인스턴스가 유효한 리스로 보유할 때까지 획득하여 처리
+     * 한 바퀴에서 하나라도 처리했으면 다시 확인하므로, 처리 도중 리스를 잃은 파티션이나
+     * 그 사이 다른 인스턴스의 리스가 만료된 파티션도 같은 실행에서 이어서 처리
+     * 
+     * @return 획득하여 처리한 파티션 수 (같은 파티션을 다시 획득하면 다시 셈)
+     */
+    private int claimAndExecutePartitions(LocalDate runDate, long[] totals) {
+        int claimedPartitions = 0;
+        // 인스턴스마다 다른 파티션부터 시도하여 리스 경합을 줄임
+        int offset = Math.floorMod(checkpointStore.getInstanceId().hashCode(), partitions);
+        boolean claimedAny;
+        do {
+            claimedAny = false;
+            for (int i = 0; i < partitions; i++) {
+                int partitionNo = (offset + i) % partitions;
+                Optional<AutoTransferCheckpoint> claimed = checkpointStore.tryClaim(runDate, partitionNo);
+                if (claimed.isEmpty()) {
+                    continue;
+                }
+                claimedAny = true;
+                claimedPartitions++;
+                executePartition(runDate, claimed.get(), totals);
+            }
+        } while (claimedAny);
+        return claimedPartitions;
+    }
+    
+    /**
+     * 파티션 1개 처리 - 마지막 체크포인트 이후부터 청크 단위로 실행
+     * 
+     * @param runDate 실행일 (복구 실행이면 체크포인트의 실행일)
+     * @param totals 이 인스턴스의 누적 건수 (처리, 성공, 실패, 건너뜀)
+     */
+    private void executePartition(LocalDate runDate, AutoTransferCheckpoint checkpoint, long[] totals) {
+        while (true) {
+            List<AutoTransfer> chunk = autoTransferRepository.findScheduledTransferChunk(
+                "ACTIVE", runDate, partitions, checkpoint.getPartitionNo(),
+                checkpoint.getLastFromAccountId(), checkpoint.getLastAutoTransferId(),
+                PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
             
-            autoTransfer.setLastExecutionDate(LocalDate.now());
-            autoTransfer.setLastExecutionStatus("SUCCESS");
+            // 계좌 그룹 단위 병렬 실행 (같은 계좌는 계좌 락 안에서 순차 처리, 정렬 순서 유지)
+            Map<Long, List<AutoTransfer>> transfersByAccount = chunk.stream()
+                .collect(Collectors.groupingBy(AutoTransfer::getFromAccountId, LinkedHashMap::new, Collectors.toList()));
+            AutoTransferRunSummary summary = autoTransferDispatcher.dispatch(
+                transfersByAccount, this::executeSingleTransfer);
+            totals[0] += summary.getProcessed();
+            totals[1] += summary.getSucceeded();
+            totals[2] += summary.getFailed();
+            totals[3] += summary.getSkipped();
             
-            LocalDate nextDate = scheduleParser.calculateNextTransferDate(autoTransfer.getSchedule(), LocalDate.now());
-            autoTransfer.setNextTransferDate(nextDate);
+            Optional<AutoTransferCheckpoint> advanced =
+                checkpointStore.advance(checkpoint, chunk.get(chunk.size() - 1), summary);
+            if (advanced.isEmpty()) {
+                // 리스를 잃음 - 이후 청크는 리스를 가져간 인스턴스가 처리 (그 인스턴스도 중단되면 리스 만료 후 다시 획득)
+                return;
+            }
+            checkpoint = advanced.get();
+            log.debug("자동이체 청크 완료 - 파티션: {}, {}건, 소요: {}ms",
+                checkpoint.getPartitionNo(), summary.getProcessed(), summary.getWallTimeMs());
             
-            autoTransferRepository.save(autoTransfer);
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+        }
+        checkpointStore.complete(checkpoint);
+    }
+    
+    /**
+     * 자동이체 1건 실행 - 원장 기록과 자동이체 상태 갱신을 하나의 트랜잭션으로 커밋
+     */
+    private AutoTransferOutcome executeSingleTransfer(AutoTransfer dueTransfer) {
+        long startedAt = System.nanoTime();
+        // 중복 처리 방지: 이미 이번 달에 처리된 회차인지 확인
+        if (isAlreadyProcessedThisMonth(dueTransfer)) {
+            audit(dueTransfer, AuditOutcome.SKIPPED, startedAt, null);
+            return AutoTransferOutcome.SKIPPED;
+        }
+        
+        try {
+            AutoTransferOutcome outcome = transactionTemplate.execute(status -> executeInTransaction(dueTransfer.getAutoTransferId()));
+            audit(dueTransfer, outcome == AutoTransferOutcome.SKIPPED ? AuditOutcome.SKIPPED : AuditOutcome.SUCCESS,
+                    startedAt, null);
+            return outcome;
             
         } catch (Exception e) {
-            autoTransfer.setLastExecutionDate(LocalDate.now());
-            autoTransfer.setLastExecutionStatus("FAILED");
-            autoTransferRepository.save(autoTransfer);
+            audit(dueTransfer, AuditOutcome.of(e), startedAt, e.getMessage());
+            log.warn("자동이체 실행 실패 - ID: {}, 사유: {}", dueTransfer.getAutoTransferId(), e.getMessage());
+            transactionTemplate.executeWithoutResult(status ->
+                autoTransferRepository.findById(dueTransfer.getAutoTransferId()).ifPresent(autoTransfer -> {
+                    autoTransfer.setLastExecutionDate(LocalDate.now());
+                    autoTransfer.setLastExecutionStatus("FAILED");
+                }));
+            return AutoTransferOutcome.FAILED;
         }
     }
     
+    private void audit(AutoTransfer transfer, AuditOutcome outcome, long startedAt, String reason) {
+        auditLog.record(AuditEventType.AUTO_TRANSFER, outcome, transfer.getFromAccountNumber(), transfer.getAmount(),
+                transfer.getAutoTransferId(), null, startedAt, reason);
+    }
+    
+    /**
+     * 청크 조회 이후 변경분을 반영하기 위해 트랜잭션 안에서 자동이체를 행 잠금으로 다시 읽어 갱신
+     * (체크포인트 재개나 리스 만료로 다른 인스턴스와 겹친 경우 이미 처리된 행은 여기서 다시 걸러짐)
+     */
+    private AutoTransferOutcome executeInTransaction(Long autoTransferId) {
+        AutoTransfer autoTransfer = autoTransferRepository.findByIdWithLock(autoTransferId)
+            .orElseThrow(() -> new IllegalArgumentException("자동이체를 찾을 수 없습니다."));
+        if (isAlreadyProcessedThisMonth(autoTransfer)) {
+            return AutoTransferOutcome.SKIPPED;
+        }
+        
+        // 잔액 부족 시 InsufficientBalanceException (차감은 조건부 UPDATE 한 번으로 반영)
+        Account account = accountBalanceManager.withdrawById(autoTransfer.getFromAccountId(), autoTransfer.getAmount());
+        
+        Transaction successTransaction = createTransaction(autoTransfer, account, "AUTO_TRF", "Plan1Q 자동이체");
+        transactionRepository.save(successTransaction);
+        
+        // 회차 정보 업데이트
+        installmentManager.updateInstallmentInfo(autoTransfer);
+        
+        autoTransfer.setLastExecutionDate(LocalDate.now());
+        autoTransfer.setLastExecutionStatus("SUCCESS");
+        
+        LocalDate nextDate = scheduleParser.calculateNextTransferDate(autoTransfer.getSchedule(), LocalDate.now());
+        autoTransfer.setNextTransferDate(nextDate);
+        
+        return AutoTransferOutcome.SUCCEEDED;
+    }
+    
     /**
      * 이번 달에 이미 처리된 회차인지 확인
      */
@@ -118,15 +272,16 @@ public class AutoTransferScheduler {
                "SUCCESS".equals(autoTransfer.getLastExecutionStatus());
     }
     
-    private Transaction createTransaction(AutoTransfer autoTransfer, String tranType, String memo) {
+    private Transaction createTransaction(AutoTransfer autoTransfer, Account account, String tranType, String memo) {
         return Transaction.builder()
             .accountId(autoTransfer.getFromAccountId())
             .tranDate(LocalDate.now())
-            .tranTime(LocalTime.now().format(DateTimeFormatter.ofPattern("HHmmss")))
+            .tranTime(DateCodec.formatTime(LocalTime.now()))
             .inoutType("WD")
             .tranType(tranType)
             .printContent(memo)
             .tranAmt(autoTransfer.getAmount())
+            .afterBalanceAmt(account.getBalanceAmt())
             .wdBankCodeStd("081")
             .wdAccountNum(autoTransfer.getFromAccountId().toString())
             .reqClientName("Plan1Q")
@@ -0,0 +1,48 @@
+package com.kopo_team4.kbbank_backend.scheduler;
+
+import com.kopo_team4.kbbank_backend.domain.transaction.service.IdempotencyStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 멱등성 키 정리 스케줄러
+ *
+ * 기능: 보존 기간(idempotency.retention-days)이 지난 멱등성 키를 일자 파티션 단위로 삭제
+ * 기준: 오래된 일자부터 파티션마다 별도 트랜잭션으로 삭제 (partition_day 인덱스 범위 삭제)
+ *       - 중단되면 남은 파티션은 다음 실행에서 처리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyCleanupScheduler {
+
+    private final IdempotencyStore idempotencyStore;
+
+    @Value("${idempotency.retention-days:3}")
+    private int retentionDays;
+
+    @Scheduled(initialDelayString = "${idempotency.cleanup-initial-delay-ms:60000}",
+               fixedDelayString = "${idempotency.cleanup-interval-ms:3600000}")
+    public void purgeExpired() {
+        LocalDate cutoff = LocalDate.now().minusDays(retentionDays);
+        int partitions = 0;
+        long deleted = 0;
+        try {
+            for (LocalDate partitionDay : idempotencyStore.findPartitionsBefore(cutoff)) {
+                deleted += idempotencyStore.purgePartition(partitionDay);
+                partitions++;
+            }
+        } catch (Exception e) {
+            log.warn("멱등성 키 정리 중단 - 삭제 파티션: {}개, 오류: {}", partitions, e.getMessage());
+            return;
+        }
+        if (partitions > 0) {
+            log.info("멱등성 키 정리 완료 - 파티션: {}개, 삭제: {}건 (기준일: {} 이전)", partitions, deleted, cutoff);
+        }
+    }
+}
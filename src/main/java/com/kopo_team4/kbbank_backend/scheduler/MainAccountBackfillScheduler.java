@@ -0,0 +1,47 @@
+package com.kopo_team4.kbbank_backend.scheduler;
+
+import com.kopo_team4.kbbank_backend.domain.account.service.MainAccountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주거래 계좌 백필 스케줄러
+ *
+ * 기능: 주거래 계좌 행이 없는 사용자(기존 사용자, 유지 로직 도입 전 생성된 계좌)를 배치 단위로 초기화
+ * 기준: 기동 후 한 번, 이후 주기적으로 실행 (대상이 없으면 조회 1회로 종료)
+ *       - 배치마다 별도 트랜잭션으로 커밋
+ *       - 계좌 생성과 동시에 같은 사용자를 초기화하여 충돌하면 해당 배치만 실패하고 다음 실행에서 다시 처리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MainAccountBackfillScheduler {
+
+    private final MainAccountService mainAccountService;
+
+    @Value("${account.main.backfill-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${account.main.backfill-initial-delay-ms:10000}",
+               fixedDelayString = "${account.main.backfill-interval-ms:3600000}")
+    public void backfill() {
+        long startedAt = System.currentTimeMillis();
+        int total = 0;
+        try {
+            int filled;
+            do {
+                filled = mainAccountService.backfill(batchSize);
+                total += filled;
+            } while (filled == batchSize);
+        } catch (Exception e) {
+            log.warn("주거래 계좌 백필 중단 - 처리 사용자: {}명, 오류: {}", total, e.getMessage());
+            return;
+        }
+        if (total > 0) {
+            log.info("주거래 계좌 백필 완료 - 사용자: {}명, 소요시간: {}ms", total, System.currentTimeMillis() - startedAt);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.kopo_team4.kbbank_backend.domain.account.service;
+
+import com.kopo_team4.kbbank_backend.domain.account.dto.AccountHolderNameRequest;
+import com.kopo_team4.kbbank_backend.domain.account.entity.Account;
+import com.kopo_team4.kbbank_backend.domain.account.repository.AccountRepository;
+import com.kopo_team4.kbbank_backend.domain.user.dto.UserUpdateRequest;
+import com.kopo_team4.kbbank_backend.domain.user.entity.User;
+import com.kopo_team4.kbbank_backend.domain.user.repository.UserRepository;
+import com.kopo_team4.kbbank_backend.domain.user.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.account;
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.randomAccountNum;
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.uniqueSuffix;
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 계좌주명 조회 캐시 검증 (조인 1회, negative 캐시, 무효화)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AccountHolderNameCacheTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountHolderNameCache accountHolderNameCache;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("계좌주명은 조인 쿼리 한 번으로 조회하고 이후 조회와 없는 계좌 재조회는 DB를 거치지 않는다")
+    void cachesHoldersAndMissingAccounts() {
+        User user = userRepository.save(user().build());
+        Account account = accountRepository.save(account(user).build());
+        String missing = randomAccountNum();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        assertThat(holderName("081", account.getAccountNum())).isEqualTo("홍길동");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThatThrownBy(() -> holderName("081", missing)).hasMessage("존재하지 않는 계좌입니다.");
+        assertThatThrownBy(() -> holderName("004", account.getAccountNum())).hasMessage("존재하지 않는 계좌입니다.");
+
+        statistics.clear();
+        assertThat(holderName("081", account.getAccountNum())).isEqualTo("홍길동");
+        assertThatThrownBy(() -> holderName("081", missing)).hasMessage("존재하지 않는 계좌입니다.");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("없는 계좌 대입 조회는 별도 캐시에 쌓여 실제 계좌주명 항목을 밀어내지 않는다")
+    void negativeProbesDoNotEvictHolders() {
+        AccountHolderNameCache cache = new AccountHolderNameCache(accountRepository, 1, 300, 10, 10);
+        Account account = accountRepository.save(account(userRepository.save(user().build())).build());
+        assertThat(cache.find("081", account.getAccountNum()).username()).isEqualTo("홍길동");
+
+        for (int i = 0; i < 200; i++) {
+            assertThat(cache.find("081", randomAccountNum()).accountExists()).isFalse();
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        assertThat(cache.find("081", account.getAccountNum()).username()).isEqualTo("홍길동");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(cache.getStats().getSize()).isEqualTo(1);
+        assertThat(cache.getStats().getHitCount()).isEqualTo(1);
+        assertThat(cache.getNegativeStats().getHitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("계좌 생성과 계좌주명 변경 시 캐시를 무효화한다")
+    void invalidatesOnAccountAndUserChanges() {
+        User user = userRepository.save(user().build());
+        String accountNum = randomAccountNum();
+        assertThatThrownBy(() -> holderName("081", accountNum)).hasMessage("존재하지 않는 계좌입니다.");
+
+        accountRepository.save(account(user, accountNum).build());
+        accountHolderNameCache.invalidateAccount(accountNum);
+        assertThat(holderName("081", accountNum)).isEqualTo("홍길동");
+
+        userService.updateUserByCi(UserUpdateRequest.builder().userCi(user.getUserCi()).username("김철수").build());
+        assertThat(holderName("081", accountNum)).isEqualTo("김철수");
+    }
+
+    @Test
+    @DisplayName("사용자가 없는 계좌는 계좌주명을 확인할 수 없다고 응답한다")
+    void rejectsAccountsWithoutHolder() {
+        User orphan = User.builder().userId("USER_GONE_" + uniqueSuffix()).build();
+        Account account = accountRepository.save(account(orphan).build());
+
+        assertThatThrownBy(() -> holderName("081", account.getAccountNum())).hasMessage("계좌주명을 확인할 수 없습니다.");
+    }
+
+    private String holderName(String bankCode, String accountNum) {
+        return accountService.getAccountHolderName(AccountHolderNameRequest.builder()
+                .bankCode(bankCode)
+                .accountNumber(accountNum)
+                .build()).getAccountHolderName();
+    }
+}
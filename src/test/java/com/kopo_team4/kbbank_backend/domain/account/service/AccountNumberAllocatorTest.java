@@ -0,0 +1,110 @@
+package com.kopo_team4.kbbank_backend.domain.account.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계좌번호 채번 검증 (임베디드 H2, 32개 동시 발급자)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AccountNumberAllocatorTest {
+
+    private static final int THREADS = 32;
+    private static final int PER_THREAD = 31_250;
+
+    @Autowired
+    private AccountNumberAllocator accountNumberAllocator;
+
+    @Test
+    @DisplayName("32개 스레드가 100만 개를 발급해도 중복이 없고 모두 검증 숫자가 맞다")
+    void concurrentAllocationHasNoDuplicates() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                long[] issued = new long[PER_THREAD];
+                start.await();
+                for (int i = 0; i < PER_THREAD; i++) {
+                    String accountNum = accountNumberAllocator.allocate("110");
+                    if (!AccountNumberAllocator.isValid(accountNum)) {
+                        throw new AssertionError("검증 숫자 불일치: " + accountNum);
+                    }
+                    issued[i] = Long.parseLong(accountNum.substring(4));
+                }
+                return issued;
+            }));
+        }
+        start.countDown();
+
+        long[] all = new long[THREADS * PER_THREAD];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] issued = future.get();
+            System.arraycopy(issued, 0, all, offset, issued.length);
+            offset += issued.length;
+        }
+        executor.shutdown();
+
+        Arrays.sort(all);
+        int duplicates = 0;
+        for (int i = 1; i < all.length; i++) {
+            if (all[i] == all[i - 1]) {
+                duplicates++;
+            }
+        }
+        assertThat(all).hasSize(1_000_000);
+        assertThat(duplicates).isZero();
+    }
+
+    @Test
+    @DisplayName("검증 숫자는 모든 한 자리 오입력과 인접 숫자 뒤바뀜(09 <-> 90 포함)을 검출한다")
+    void checkDigitDetectsTypos() {
+        String accountNum = accountNumberAllocator.allocate("081");
+
+        assertThat(accountNum).matches("081-\\d{13}");
+        for (String valid : List.of(accountNum, "110-0000000000013", withCheckDigit("110-000000000090"))) {
+            assertThat(AccountNumberAllocator.isValid(valid)).as(valid).isTrue();
+            char[] digits = valid.toCharArray();
+            for (int i = 4; i < digits.length; i++) {
+                char original = digits[i];
+                for (char typo = '0'; typo <= '9'; typo++) {
+                    if (typo != original) {
+                        digits[i] = typo;
+                        assertThat(AccountNumberAllocator.isValid(new String(digits))).as(new String(digits)).isFalse();
+                    }
+                }
+                digits[i] = original;
+                if (i + 1 < digits.length && digits[i] != digits[i + 1]) {
+                    swap(digits, i);
+                    assertThat(AccountNumberAllocator.isValid(new String(digits))).as(new String(digits)).isFalse();
+                    swap(digits, i);
+                }
+            }
+        }
+    }
+
+    private static String withCheckDigit(String serial) {
+        return serial + AccountNumberAllocator.checkDigit(serial.substring(4));
+    }
+
+    private static void swap(char[] digits, int i) {
+        char tmp = digits[i];
+        digits[i] = digits[i + 1];
+        digits[i + 1] = tmp;
+    }
+}
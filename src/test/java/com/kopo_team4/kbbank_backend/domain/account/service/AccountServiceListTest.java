@@ -0,0 +1,81 @@
+package com.kopo_team4.kbbank_backend.domain.account.service;
+
+import com.kopo_team4.kbbank_backend.domain.account.dto.AccountListResponse;
+import com.kopo_team4.kbbank_backend.domain.account.dto.AccountResponse;
+import com.kopo_team4.kbbank_backend.domain.account.dto.AccountSearchByUserNumRequest;
+import com.kopo_team4.kbbank_backend.domain.account.repository.AccountRepository;
+import com.kopo_team4.kbbank_backend.domain.user.entity.User;
+import com.kopo_team4.kbbank_backend.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.account;
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 계좌 목록 조회 검증 (사용자 조인 + 응답 프로젝션 단일 쿼리)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AccountServiceListTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("CI/사용자 번호로 계좌 목록을 한 번의 쿼리로 조회하고 listNum을 계좌 순서대로 부여한다")
+    void listsAccountsInSingleQuery() {
+        User user = userRepository.save(user().build());
+        List<String> accountNums = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            accountNums.add(accountRepository.save(account(user).build()).getAccountNum());
+        }
+        accountRepository.save(account(userRepository.save(user().build())).build());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        AccountListResponse byCi = accountService.getAccountsByUserCi(user.getUserCi());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(byCi.getTotalCount()).isEqualTo(4);
+        assertThat(byCi.getAccounts()).extracting(AccountResponse::getAccountNum).containsExactlyElementsOf(accountNums);
+        assertThat(byCi.getAccounts()).extracting(AccountResponse::getListNum).containsExactly(1, 2, 3, 4);
+        assertThat(byCi.getAccounts().get(0).getProductName()).isEqualTo("테스트 입출금");
+
+        AccountListResponse byUserNum = accountService.searchAccountsByUserNum(
+                AccountSearchByUserNumRequest.builder().userNum(user.getUserNum()).build());
+        assertThat(byUserNum.getAccounts()).extracting(AccountResponse::getListNum).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("계좌가 없는 사용자는 빈 목록, 존재하지 않는 사용자는 예외로 응답한다")
+    void distinguishesEmptyListFromUnknownUser() {
+        User user = userRepository.save(user().build());
+
+        assertThat(accountService.getAccountsByUserCi(user.getUserCi()).getAccounts()).isEmpty();
+        assertThatThrownBy(() -> accountService.getAccountsByUserCi("CI_UNKNOWN_" + UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 사용자입니다.");
+    }
+}
@@ -0,0 +1,183 @@
+package com.kopo_team4.kbbank_backend.domain.account.service;
+
+import com.kopo_team4.kbbank_backend.domain.account.entity.Account;
+import com.kopo_team4.kbbank_backend.domain.account.repository.AccountRepository;
+import com.kopo_team4.kbbank_backend.domain.account.repository.MainAccountRepository;
+import com.kopo_team4.kbbank_backend.domain.user.entity.User;
+import com.kopo_team4.kbbank_backend.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.account;
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주거래 계좌 유지(백필 / 계좌 생성·잔액 변경 시 갱신) 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MainAccountServiceTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private MainAccountService mainAccountService;
+
+    @Autowired
+    private AccountBalanceManager accountBalanceManager;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private MainAccountRepository mainAccountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("백필로 기존 사용자의 주거래 계좌를 초기화하고 조회는 한 번의 쿼리로 처리한다")
+    void backfillsExistingUsers() {
+        User user = userRepository.save(user().build());
+        createAccount(user, "1", "20240101", "500000");
+        Account recent = createAccount(user, "1", "20240301", "1000");
+        createAccount(user, "1", "20240201", "900000");
+
+        while (mainAccountService.backfill(500) > 0) {
+            // 대상 사용자가 남지 않을 때까지 반복
+        }
+
+        assertThat(mainAccountRepository.findById(user.getUserId()).orElseThrow().getAccountId())
+                .isEqualTo(recent.getAccountId());
+        accountService.getMainAccountByUserCi(user.getUserCi());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        assertThat(accountService.getMainAccountByUserCi(user.getUserCi()).getAccountNum())
+                .isEqualTo(recent.getAccountNum());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("계좌 생성/잔액 변경 시 변경된 계좌만 비교하여 주거래 계좌를 갱신한다")
+    void maintainsMainAccountIncrementally() {
+        User user = userRepository.save(user().build());
+        Account first = created(createAccount(user, "1", "20240101", "0"));
+        assertThat(mainAccountId(user)).isEqualTo(first.getAccountId());
+
+        Account older = created(createAccount(user, "1", "20231231", "0"));
+        assertThat(mainAccountId(user)).isEqualTo(first.getAccountId());
+
+        accountBalanceManager.deposit(older.getAccountNum(), new BigDecimal("100000"));
+        assertThat(mainAccountId(user)).isEqualTo(first.getAccountId());
+
+        Account checking = created(createAccount(user, "2", "20230101", "0"));
+        assertThat(mainAccountId(user)).isEqualTo(checking.getAccountId());
+        assertThat(accountService.getMainAccountByUserCi(user.getUserCi()).getAccountNum())
+                .isEqualTo(checking.getAccountNum());
+    }
+
+    @Test
+    @DisplayName("첫 계좌가 동시에 개설되어도 주거래 계좌 행 생성이 충돌 없이 하나로 합쳐진다")
+    void concurrentFirstAccountsShareOneMainAccountRow() throws Exception {
+        User user = userRepository.save(user().build());
+        Account saving = createAccount(user, "1", "20240101", "0");
+        Account checking = createAccount(user, "2", "20240101", "0");
+        CountDownLatch firstInserted = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> first = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                mainAccountService.onAccountCreated(saving);
+                firstInserted.countDown();
+                // 두 번째 트랜잭션이 미커밋 행과 부딪힐 때까지 커밋을 늦춤
+                sleep(500);
+            }));
+            assertThat(firstInserted.await(1, TimeUnit.MINUTES)).isTrue();
+            created(checking);
+            first.get(1, TimeUnit.MINUTES);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(mainAccountId(user)).isEqualTo(checking.getAccountId());
+    }
+
+    @Test
+    @DisplayName("주거래 계좌 순위는 당좌 > 최근 거래일 > 잔액 > 개설일 순으로 비교한다")
+    void ranksAccountsInLegacyOrder() {
+        Account noDate = rankOnly(1L, "1", null, "100", "20200101");
+        Account richer = rankOnly(2L, "1", null, "200", "20210101");
+        Account issuedOnly = rankOnly(3L, "1", null, null, "20190101");
+        Account recent = rankOnly(4L, "1", "20240101", "1", "20240101");
+        Account checking = rankOnly(5L, "2", "20200101", "0", "20200101");
+        Account secondChecking = rankOnly(6L, "2", "20250101", "0", "20250101");
+
+        assertThat(MainAccountRank.best(List.of(noDate, richer, issuedOnly))).isSameAs(richer);
+        assertThat(MainAccountRank.best(List.of(noDate, richer, recent))).isSameAs(recent);
+        assertThat(MainAccountRank.best(List.of(recent, secondChecking, checking))).isSameAs(checking);
+        assertThat(MainAccountRank.best(List.of(issuedOnly, rankOnly(7L, "1", null, null, "20180101"))).getAccountId())
+                .isEqualTo(7L);
+        assertThat(MainAccountRank.best(List.of(rankOnly(8L, "1", "2024XX01", null, null), recent))).isSameAs(recent);
+    }
+
+    private Account created(Account account) {
+        transactionTemplate.executeWithoutResult(status -> mainAccountService.onAccountCreated(account));
+        return account;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Long mainAccountId(User user) {
+        return mainAccountRepository.findById(user.getUserId()).orElseThrow().getAccountId();
+    }
+
+    private Account createAccount(User user, String accountType, String lastTranDate, String balance) {
+        return accountRepository.save(account(user)
+                .accountType(accountType)
+                .accountIssueDate("20200101")
+                .lastTranDate(lastTranDate)
+                .balanceAmt(new BigDecimal(balance))
+                .build());
+    }
+
+    private static Account rankOnly(Long accountId, String accountType, String lastTranDate,
+                                    String balance, String issueDate) {
+        return Account.builder()
+                .accountId(accountId)
+                .accountType(accountType)
+                .lastTranDate(lastTranDate)
+                .balanceAmt(balance != null ? new BigDecimal(balance) : null)
+                .accountIssueDate(issueDate)
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.kopo_team4.kbbank_backend.domain.autotransfer.service;
+
+import com.kopo_team4.kbbank_backend.domain.account.entity.Account;
+import com.kopo_team4.kbbank_backend.domain.account.repository.AccountRepository;
+import com.kopo_team4.kbbank_backend.domain.autotransfer.dto.AutoTransferDto;
+import com.kopo_team4.kbbank_backend.domain.autotransfer.entity.AutoTransfer;
+import com.kopo_team4.kbbank_backend.domain.autotransfer.repository.AutoTransferRepository;
+import com.kopo_team4.kbbank_backend.domain.user.entity.User;
+import com.kopo_team4.kbbank_backend.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.account;
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자동이체 목록 조회 쿼리 수 검증 (행 수와 무관하게 일정해야 함)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AutoTransferServiceQueryCountTest {
+
+    private static final int USERS = 5;
+    private static final int TRANSFERS = 20;
+
+    @Autowired
+    private AutoTransferService autoTransferService;
+
+    @Autowired
+    private AutoTransferRepository autoTransferRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("목록 조회는 사용자 CI를 한 번에 조회하여 행 수와 무관한 쿼리 수로 응답한다")
+    void listByUserResolvesUserCiInOneQuery() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(userRepository.save(user().build()));
+        }
+        Account account = accountRepository.save(account(users.get(0)).build());
+        for (int i = 0; i < TRANSFERS; i++) {
+            createTransfer(account, users.get(i % USERS));
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<AutoTransferDto.Response> responses = autoTransferService.listByUser(
+                AutoTransferDto.SearchRequest.builder().fromAccountNumber(account.getAccountNum()).build());
+
+        assertThat(responses).hasSize(TRANSFERS)
+                .allSatisfy(response -> assertThat(response.getUserCi()).isEqualTo("CI_" + response.getUserId()));
+        // 계좌 조회 + 자동이체 목록 + 사용자 IN 조회
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    private void createTransfer(Account account, User user) {
+        autoTransferRepository.save(AutoTransfer.builder()
+                .userId(user.getUserId())
+                .fromAccountId(account.getAccountId())
+                .fromAccountNumber(account.getAccountNum())
+                .toAccountNumber("081-0000000000")
+                .toAccountName("적금")
+                .toBankCode("081")
+                .amount(new BigDecimal("10000"))
+                .schedule("매월 1일")
+                .nextTransferDate(LocalDate.now().plusDays(1))
+                .status("ACTIVE")
+                .contractDate(LocalDate.now())
+                .totalInstallments(12)
+                .build());
+    }
+}
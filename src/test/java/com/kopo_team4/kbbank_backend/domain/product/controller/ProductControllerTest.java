@@ -0,0 +1,139 @@
+package com.kopo_team4.kbbank_backend.domain.product.controller;
+
+import com.kopo_team4.kbbank_backend.domain.product.entity.Product;
+import com.kopo_team4.kbbank_backend.domain.product.entity.ProductCategory;
+import com.kopo_team4.kbbank_backend.domain.product.repository.ProductCategoryRepository;
+import com.kopo_team4.kbbank_backend.domain.product.repository.ProductRepository;
+import com.kopo_team4.kbbank_backend.domain.product.service.ProductCatalog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 상품 조회 API 조건부 GET(ETag) / 응답 바이트 캐시 검증
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProductControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductCatalog productCatalog;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductCategoryRepository productCategoryRepository;
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 304, 카탈로그가 바뀌면 새 ETag로 200 응답한다")
+    void conditionalGetUsesCatalogETag() throws Exception {
+        productCatalog.refresh();
+
+        String eTag = mockMvc.perform(get("/api/v1/products/active"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, public"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).startsWith("\"").endsWith("\"");
+
+        mockMvc.perform(get("/api/v1/products/active").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/v1/categories").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        String productCode = createProduct();
+        productCatalog.refreshIfChanged();
+
+        MockHttpServletResponse changed = mockMvc.perform(get("/api/v1/products/active")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        assertThat(changed.getHeader(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+        assertThat(changed.getContentAsString(StandardCharsets.UTF_8)).contains(productCode);
+    }
+
+    @Test
+    @DisplayName("gzip을 허용하는 요청에는 캐시된 gzip 본문을 인코딩별 ETag로 응답한다")
+    void servesCachedGzipVariant() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            createProduct();
+        }
+        productCatalog.refresh();
+
+        byte[] identity = mockMvc.perform(get("/api/v1/products/active"))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn().getResponse().getContentAsByteArray();
+        MockHttpServletResponse gzipped = mockMvc.perform(get("/api/v1/products/active")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse();
+
+        assertThat(gzipped.getHeader(HttpHeaders.ETAG)).endsWith("-gzip\"");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(identity);
+        }
+        mockMvc.perform(get("/api/v1/products/active")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, gzipped.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("오류 응답에는 ETag/Cache-Control을 붙이지 않는다")
+    void errorResponseHasNoCacheHeaders() throws Exception {
+        productCatalog.refresh();
+
+        mockMvc.perform(get("/api/v1/products/{productId}", Long.MAX_VALUE))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(header().doesNotExist(HttpHeaders.CACHE_CONTROL));
+        mockMvc.perform(get("/api/v1/products/{productId}", Long.MAX_VALUE)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    private String createProduct() {
+        String code = UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        ProductCategory category = productCategoryRepository.save(ProductCategory.builder()
+                .categoryCode("C" + code.substring(0, 8))
+                .categoryName("테스트 카테고리")
+                .build());
+        productRepository.save(Product.builder()
+                .externalProductId("EXT_" + code)
+                .productCode(code)
+                .productName("테스트 상품 " + code)
+                .category(category)
+                .productType("DEPOSIT")
+                .riskLevel("LOW")
+                .productStatus("ACTIVE")
+                .build());
+        return code;
+    }
+}
@@ -0,0 +1,113 @@
+package com.kopo_team4.kbbank_backend.domain.product.repository;
+
+import com.kopo_team4.kbbank_backend.domain.product.dto.ProductResponse;
+import com.kopo_team4.kbbank_backend.domain.product.entity.Product;
+import com.kopo_team4.kbbank_backend.domain.product.entity.ProductCategory;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 목록 조회 시 카테고리 지연 로딩(N+1) 방지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductRepositoryTest {
+
+    private static final int PRODUCTS_PER_CATEGORY = 4;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductCategoryRepository productCategoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String productType;
+
+    @BeforeEach
+    void setUp() {
+        productType = "T" + UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+        for (int c = 0; c < 3; c++) {
+            ProductCategory category = productCategoryRepository.save(ProductCategory.builder()
+                    .categoryCode("C" + UUID.randomUUID().toString().replace("-", "").substring(0, 8))
+                    .categoryName("테스트 카테고리 " + c)
+                    .build());
+            for (int i = 0; i < PRODUCTS_PER_CATEGORY; i++) {
+                String code = UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+                productRepository.save(Product.builder()
+                        .externalProductId("EXT_" + code)
+                        .productCode(code)
+                        .productName("테스트 상품 " + code)
+                        .category(category)
+                        .productType(productType)
+                        .expectedReturnRate(new BigDecimal("3.00"))
+                        .riskLevel("LOW")
+                        .productStatus("ACTIVE")
+                        .build());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("목록 조회는 상품 수와 무관하게 한 번의 쿼리로 카테고리까지 조회한다")
+    void listQueriesFetchCategoryInSameStatement() {
+        assertSingleStatement(() -> productRepository.findByProductType(productType));
+        assertSingleStatement(() -> productRepository.findActiveProductsByType(productType));
+        assertSingleStatement(() -> productRepository.findAllActiveProducts());
+    }
+
+    @Test
+    @DisplayName("페이지 조회는 페이지 크기와 무관하게 조회 + 건수 두 번의 쿼리로 처리한다")
+    void pagedQueryUsesConstantStatementsPerPage() {
+        Statistics statistics = statistics();
+        for (int size : new int[]{2, 5}) {
+            statistics.clear();
+            Page<ProductResponse> page = transactionTemplate.execute(status -> productRepository
+                    .findProductsByConditions(null, null, productType, null, null, PageRequest.of(0, size))
+                    .map(ProductResponse::from));
+
+            assertThat(page.getContent()).hasSize(size)
+                    .allSatisfy(product -> assertThat(product.getCategory().getCategoryName()).isNotNull());
+            assertThat(page.getTotalElements()).isEqualTo(3L * PRODUCTS_PER_CATEGORY);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        }
+    }
+
+    private void assertSingleStatement(Supplier<List<Product>> query) {
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        List<ProductResponse> products = transactionTemplate.execute(status -> query.get().stream()
+                .map(ProductResponse::from)
+                .toList());
+
+        assertThat(products).hasSizeGreaterThanOrEqualTo(3 * PRODUCTS_PER_CATEGORY);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
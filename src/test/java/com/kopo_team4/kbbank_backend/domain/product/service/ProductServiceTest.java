@@ -0,0 +1,181 @@
+package com.kopo_team4.kbbank_backend.domain.product.service;
+
+import com.kopo_team4.kbbank_backend.domain.product.dto.ProductListResponse;
+import com.kopo_team4.kbbank_backend.domain.product.dto.ProductResponse;
+import com.kopo_team4.kbbank_backend.domain.product.dto.ProductSearchResponse;
+import com.kopo_team4.kbbank_backend.domain.product.entity.Product;
+import com.kopo_team4.kbbank_backend.domain.product.entity.ProductCategory;
+import com.kopo_team4.kbbank_backend.domain.product.repository.ProductCategoryRepository;
+import com.kopo_team4.kbbank_backend.domain.product.repository.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 카탈로그 스냅샷 조회 / 전문 검색 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductServiceTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductCatalog productCatalog;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductCategoryRepository productCategoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String categoryCode;
+    private Product stable;
+    private Product growth;
+
+    @BeforeEach
+    void setUp() {
+        categoryCode = "C" + UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+        ProductCategory category = productCategoryRepository.save(ProductCategory.builder()
+                .categoryCode(categoryCode)
+                .categoryName("테스트 카테고리")
+                .riskLevel("LOW")
+                .build());
+        stable = createProduct(category, "LOW", "2.50", "100000", "1000000", "ACTIVE");
+        growth = createProduct(category, "HIGH", "7.00", "500000", "5000000", "ACTIVE");
+        createProduct(category, "HIGH", "9.00", "100000", "5000000", "STOPPED");
+        productCatalog.refresh();
+    }
+
+    @Test
+    @DisplayName("조건별 상품 조회를 DB 조회 없이 스냅샷 인덱스로 처리한다")
+    void answersReadsFromSnapshotWithoutQueries() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        assertThat(productIds(productService.getProductsByCategory(categoryCode)))
+                .containsExactly(stable.getProductId(), growth.getProductId());
+        assertThat(productIds(productService.getProductsByMinReturnRate(new BigDecimal("7.00"))))
+                .contains(growth.getProductId())
+                .doesNotContain(stable.getProductId());
+        assertThat(productIds(productService.getProductsByInvestmentAmount(new BigDecimal("2000000"))))
+                .contains(growth.getProductId())
+                .doesNotContain(stable.getProductId());
+        assertThat(productService.getProductById(stable.getProductId()).getCategory().getCategoryCode())
+                .isEqualTo(categoryCode);
+
+        ProductListResponse page = productService.getAllProducts(categoryCode, null, null, null, null, 1, 1);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(productIds(page)).containsExactly(growth.getProductId());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌면 스냅샷을 다시 적재한다")
+    void reloadsWhenVersionChanges() {
+        ProductCategory category = productCategoryRepository.findByCategoryCode(categoryCode).orElseThrow();
+        Product added = createProduct(category, "LOW", "3.00", "100000", "1000000", "ACTIVE");
+        assertThat(productIds(productService.getProductsByCategory(categoryCode)))
+                .doesNotContain(added.getProductId());
+
+        productCatalog.refreshIfChanged();
+
+        assertThat(productIds(productService.getProductsByCategory(categoryCode)))
+                .containsExactly(stable.getProductId(), growth.getProductId(), added.getProductId());
+    }
+
+    @Test
+    @DisplayName("한글 부분 검색어로 전문 검색하고 카테고리/위험도/유형 패싯을 함께 반환한다")
+    void searchesTextWithFacets() {
+        String marker = "k" + UUID.randomUUID().toString().replace("-", "").substring(0, 10);
+        Product bond = createDescribedProduct("안정형 채권 펀드 " + marker, "국공채 위주 투자", "LOW");
+        Product mixed = createDescribedProduct("글로벌 혼합형 " + marker, "우량 회사채권과 해외 주식에 분산", "HIGH");
+        createDescribedProduct("성장주 펀드 " + marker, "국내 성장주 집중 투자", "HIGH");
+        productCatalog.refresh();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ProductSearchResponse all = productService.searchProducts("채권 " + marker, null, null, null, 0, 20);
+        assertThat(all.getProducts()).extracting(ProductResponse::getProductId)
+                .containsExactly(bond.getProductId(), mixed.getProductId());
+        assertThat(all.getRiskLevelFacets()).containsEntry("LOW", 1L).containsEntry("HIGH", 1L);
+        assertThat(all.getCategoryFacets()).containsEntry(categoryCode, 2L);
+        assertThat(all.getProductTypeFacets()).containsEntry("FUND", 2L);
+
+        ProductSearchResponse filtered = productService.searchProducts(marker, null, "HIGH", null, 0, 20);
+        assertThat(filtered.getTotalElements()).isEqualTo(2);
+        assertThat(filtered.getRiskLevelFacets()).containsEntry("LOW", 1L).containsEntry("HIGH", 2L);
+        assertThat(filtered.getCategoryFacets()).containsEntry(categoryCode, 2L);
+
+        assertThat(productService.searchProducts("존재하지않는" + marker, null, null, null, 0, 20).getProducts()).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("다시 적재할 때 바뀌지 않은 상품의 검색어 분해 결과를 재사용한다")
+    void rebuildsSearchIndexIncrementally() {
+        String marker = "k" + UUID.randomUUID().toString().replace("-", "").substring(0, 10);
+        createDescribedProduct("적립식 " + marker, "매월 자동 적립", "LOW");
+        productCatalog.refresh();
+        int activeCount = productCatalog.current().findAllActive().size();
+
+        productCatalog.refresh();
+
+        assertThat(productCatalog.current().searchReusedCount()).isEqualTo(activeCount);
+        assertThat(productService.searchProducts("적립 " + marker, null, null, null, 0, 20).getTotalElements())
+                .isEqualTo(1);
+    }
+
+    private Product createDescribedProduct(String name, String description, String riskLevel) {
+        ProductCategory category = productCategoryRepository.findByCategoryCode(categoryCode).orElseThrow();
+        String code = UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        return productRepository.save(Product.builder()
+                .externalProductId("EXT_" + code)
+                .productCode(code)
+                .productName(name)
+                .productDescription(description)
+                .category(category)
+                .productType("FUND")
+                .riskLevel(riskLevel)
+                .productStatus("ACTIVE")
+                .build());
+    }
+
+    private Iterable<Long> productIds(ProductListResponse response) {
+        return response.getProducts().stream().map(ProductResponse::getProductId).toList();
+    }
+
+    private Product createProduct(ProductCategory category, String riskLevel, String returnRate,
+                                  String minAmount, String maxAmount, String status) {
+        String code = UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        return productRepository.save(Product.builder()
+                .externalProductId("EXT_" + code)
+                .productCode(code)
+                .productName("테스트 상품 " + code)
+                .category(category)
+                .productType("FUND")
+                .expectedReturnRate(new BigDecimal(returnRate))
+                .minInvestmentAmount(new BigDecimal(minAmount))
+                .maxInvestmentAmount(new BigDecimal(maxAmount))
+                .riskLevel(riskLevel)
+                .productStatus(status)
+                .build());
+    }
+}
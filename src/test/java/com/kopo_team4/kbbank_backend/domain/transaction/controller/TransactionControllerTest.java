@@ -0,0 +1,141 @@
+package com.kopo_team4.kbbank_backend.domain.transaction.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kopo_team4.kbbank_backend.domain.account.entity.Account;
+import com.kopo_team4.kbbank_backend.domain.account.repository.AccountRepository;
+import com.kopo_team4.kbbank_backend.domain.transaction.dto.DepositRequest;
+import com.kopo_team4.kbbank_backend.domain.transaction.dto.WithdrawRequest;
+import com.kopo_team4.kbbank_backend.domain.user.entity.User;
+import com.kopo_team4.kbbank_backend.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.account;
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.uniqueSuffix;
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 출금/입금 API 감사 로그 검증 (멱등 재요청은 REPLAYED로 기록)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TransactionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${audit.directory}")
+    private Path auditDirectory;
+
+    @Test
+    @DisplayName("같은 bankTranId로 다시 출금하면 감사 로그에 SUCCESS 대신 REPLAYED로 남는다")
+    void replayIsAuditedAsReplayed() throws Exception {
+        User user = userRepository.save(user().build());
+        Account account = accountRepository.save(account(user).balanceAmt(new BigDecimal("1000")).build());
+        String bankTranId = "M202300001U" + uniqueSuffix().substring(0, 9);
+        String body = objectMapper.writeValueAsString(WithdrawRequest.builder()
+                .bankTranId(bankTranId)
+                .userCI(user.getUserCi())
+                .wdAccountNum(account.getAccountNum())
+                .tranAmt(new BigDecimal("300"))
+                .dpsPrintContent("감사출금")
+                .reqClientName("홍길동")
+                .build());
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/v1/transactions/withdraw")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk());
+        }
+
+        assertThat(auditOutcomes(bankTranId, 2)).containsExactly("SUCCESS", "REPLAYED");
+    }
+
+    @Test
+    @DisplayName("bankTranId 없이 tranNo로만 입금하면 감사 로그 reference에 멱등키로 쓰인 tranNo가 남는다")
+    void depositWithoutBankTranIdIsAuditedByTranNo() throws Exception {
+        Account account = accountRepository.save(account(userRepository.save(user().build())).build());
+        String tranNo = "TN" + uniqueSuffix();
+        String body = objectMapper.writeValueAsString(DepositRequest.builder()
+                .tranNo(tranNo)
+                .reqClientNum(account.getAccountNum())
+                .tranAmt(new BigDecimal("500"))
+                .printContent("감사입금")
+                .accountHolderName("홍길동")
+                .tranDtime("20240101120000")
+                .build());
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/v1/transactions/deposit")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk());
+        }
+
+        assertThat(auditOutcomes(tranNo, 2)).containsExactly("SUCCESS", "REPLAYED");
+    }
+
+    /**
+     * 기록 스레드가 파일에 쓸 때까지 대기 후 reference가 같은 이벤트의 결과 목록
+     */
+    private List<String> auditOutcomes(String reference, int expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        List<String> outcomes = List.of();
+        while (System.currentTimeMillis() < deadline) {
+            outcomes = readOutcomes(reference);
+            if (outcomes.size() >= expected) {
+                break;
+            }
+            Thread.sleep(50);
+        }
+        return outcomes;
+    }
+
+    private List<String> readOutcomes(String reference) throws Exception {
+        List<String> outcomes = new ArrayList<>();
+        if (!Files.isDirectory(auditDirectory)) {
+            return outcomes;
+        }
+        try (Stream<Path> files = Files.list(auditDirectory)) {
+            for (Path file : files.sorted().toList()) {
+                for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    JsonNode event = objectMapper.readTree(line);
+                    if (reference.equals(event.path("reference").asText(null))) {
+                        outcomes.add(event.get("outcome").asText());
+                    }
+                }
+            }
+        }
+        return outcomes;
+    }
+}
@@ -0,0 +1,122 @@
+package com.kopo_team4.kbbank_backend.domain.transaction.service;
+
+import com.kopo_team4.kbbank_backend.domain.account.entity.Account;
+import com.kopo_team4.kbbank_backend.domain.account.repository.AccountRepository;
+import com.kopo_team4.kbbank_backend.domain.transaction.dto.TransactionExportFormat;
+import com.kopo_team4.kbbank_backend.domain.transaction.dto.TransactionHistoryRequest;
+import com.kopo_team4.kbbank_backend.domain.transaction.entity.Transaction;
+import com.kopo_team4.kbbank_backend.domain.transaction.repository.TransactionRepository;
+import com.kopo_team4.kbbank_backend.domain.user.entity.User;
+import com.kopo_team4.kbbank_backend.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.account;
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래내역 스트리밍 내보내기 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TransactionExportServiceTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2024, 1, 1);
+
+    @Autowired
+    private TransactionExportService transactionExportService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String userCi;
+    private String accountNum;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(user().build());
+        Account account = accountRepository.save(account(user).build());
+        userCi = user.getUserCi();
+        accountNum = account.getAccountNum();
+
+        // 10일 x 일자별 3건 (같은 시각 2건 포함), 짝수 번째는 입금
+        List<Transaction> transactions = new ArrayList<>();
+        for (int day = 0; day < 10; day++) {
+            for (int n = 0; n < 3; n++) {
+                transactions.add(Transaction.builder()
+                        .accountId(account.getAccountId())
+                        .tranDate(BASE_DATE.plusDays(day))
+                        .tranTime(n < 2 ? "090000" : "180000")
+                        .inoutType((day * 3 + n) % 2 == 0 ? "DP" : "WD")
+                        .tranType("TRANSFER")
+                        .printContent(day == 0 && n == 0 ? "급여, \"1월\"" : "테스트")
+                        .tranAmt(BigDecimal.valueOf(day * 3 + n + 1))
+                        .afterBalanceAmt(BigDecimal.ZERO)
+                        .wdBankCodeStd("081")
+                        .wdAccountNum(account.getAccountNum())
+                        .reqClientName("홍길동")
+                        .build());
+            }
+        }
+        transactionRepository.saveAll(transactions);
+    }
+
+    @Test
+    @DisplayName("NDJSON 내보내기는 조건에 맞는 거래를 과거순으로 한 줄씩 기록한다")
+    void exportsNdjsonInChronologicalOrder() {
+        TransactionHistoryRequest request = request("O", "20240102", null);
+
+        String[] lines = export(request, TransactionExportFormat.NDJSON).split("\n");
+
+        assertThat(lines).hasSize(14);
+        assertThat(lines[0]).startsWith("{").contains("\"tranDate\":\"20240102\"", "\"tranAmt\":\"4\"");
+        assertThat(lines[13]).contains("\"tranDate\":\"20240110\"", "\"tranAmt\":\"30\"");
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기는 헤더와 이스케이프된 필드를 기록한다")
+    void exportsCsvWithHeaderAndEscaping() {
+        TransactionHistoryRequest request = request("A", null, "20240101");
+
+        String[] lines = export(request, TransactionExportFormat.CSV).split("\n");
+
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).isEqualTo("tranDate,tranTime,inoutType,tranType,printedContent,tranAmt,afterBalanceAmt,branchName");
+        assertThat(lines[1]).isEqualTo("20240101,090000,입금,이체,\"급여, \"\"1월\"\"\",1,0,");
+    }
+
+    private String export(TransactionHistoryRequest request, TransactionExportFormat format) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Long accountId = transactionExportService.resolveAccountId(request);
+        transactionExportService.exportHistory(accountId, request, format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private TransactionHistoryRequest request(String inquiryType, String fromDate, String toDate) {
+        TransactionHistoryRequest request = new TransactionHistoryRequest();
+        request.setUserCi(userCi);
+        request.setAccountNum(accountNum);
+        request.setInquiryType(inquiryType);
+        request.setFromDate(fromDate);
+        request.setToDate(toDate);
+        return request;
+    }
+}
@@ -0,0 +1,137 @@
+package com.kopo_team4.kbbank_backend.domain.transaction.service;
+
+import com.kopo_team4.kbbank_backend.domain.account.entity.Account;
+import com.kopo_team4.kbbank_backend.domain.account.repository.AccountRepository;
+import com.kopo_team4.kbbank_backend.domain.transaction.dto.TransactionHistoryItem;
+import com.kopo_team4.kbbank_backend.domain.transaction.dto.TransactionHistoryRequest;
+import com.kopo_team4.kbbank_backend.domain.transaction.dto.TransactionHistoryResponse;
+import com.kopo_team4.kbbank_backend.domain.transaction.entity.Transaction;
+import com.kopo_team4.kbbank_backend.domain.transaction.repository.TransactionRepository;
+import com.kopo_team4.kbbank_backend.domain.user.entity.User;
+import com.kopo_team4.kbbank_backend.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.account;
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래내역 키셋 페이지네이션 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TransactionHistoryPagingTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2024, 1, 1);
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private String userCi;
+    private String accountNum;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(user().build());
+        Account account = accountRepository.save(account(user).build());
+        userCi = user.getUserCi();
+        accountNum = account.getAccountNum();
+
+        // 10일 x 일자별 3건 (같은 시각 2건 포함), 짝수 번째는 입금
+        List<Transaction> transactions = new ArrayList<>();
+        for (int day = 0; day < 10; day++) {
+            for (int n = 0; n < 3; n++) {
+                transactions.add(Transaction.builder()
+                        .accountId(account.getAccountId())
+                        .tranDate(BASE_DATE.plusDays(day))
+                        .tranTime(n < 2 ? "090000" : "180000")
+                        .inoutType((day * 3 + n) % 2 == 0 ? "DP" : "WD")
+                        .tranType("TRANSFER")
+                        .printContent("테스트")
+                        .tranAmt(BigDecimal.valueOf(day * 3 + n + 1))
+                        .afterBalanceAmt(BigDecimal.ZERO)
+                        .wdBankCodeStd("081")
+                        .wdAccountNum(account.getAccountNum())
+                        .reqClientName("홍길동")
+                        .build());
+            }
+        }
+        transactionRepository.saveAll(transactions);
+    }
+
+    @Test
+    @DisplayName("커서로 끝까지 조회하면 최신순으로 중복/누락 없이 모든 거래가 반환된다")
+    void pagesThroughAllTransactionsNewestFirst() {
+        List<TransactionHistoryItem> collected = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        TransactionHistoryResponse page;
+        do {
+            page = transactionService.getTransactionHistory(request("A", "D", null, null, 7, cursor));
+            collected.addAll(page.getResList());
+            cursor = page.getBeforeInquiryTraceInfo();
+            pages++;
+        } while ("Y".equals(page.getNextPageYn()));
+
+        assertThat(pages).isEqualTo(5);
+        assertThat(collected).hasSize(30);
+        assertThat(collected).extracting(TransactionHistoryItem::getTranAmt).doesNotHaveDuplicates();
+        assertThat(collected.get(0).getTranDate()).isEqualTo("20240110");
+        assertThat(collected.get(29).getTranDate()).isEqualTo("20240101");
+        for (int i = 1; i < collected.size(); i++) {
+            String previous = collected.get(i - 1).getTranDate() + collected.get(i - 1).getTranTime();
+            String current = collected.get(i).getTranDate() + collected.get(i).getTranTime();
+            assertThat(previous.compareTo(current)).isGreaterThanOrEqualTo(0);
+        }
+    }
+
+    @Test
+    @DisplayName("기간/입출금 구분 필터와 오름차순 정렬이 DB 조회에 반영된다")
+    void appliesDateRangeInoutTypeAndAscendingOrder() {
+        TransactionHistoryResponse first = transactionService.getTransactionHistory(
+                request("I", "A", "20240103", "20240104", 2, null));
+        TransactionHistoryResponse second = transactionService.getTransactionHistory(
+                request("I", "A", "20240103", "20240104", 2, first.getBeforeInquiryTraceInfo()));
+
+        assertThat(first.getNextPageYn()).isEqualTo("Y");
+        assertThat(second.getNextPageYn()).isEqualTo("N");
+        List<TransactionHistoryItem> items = new ArrayList<>(first.getResList());
+        items.addAll(second.getResList());
+        assertThat(items).hasSize(3);
+        assertThat(items).extracting(TransactionHistoryItem::getInoutType).containsOnly("입금");
+        assertThat(items).extracting(TransactionHistoryItem::getTranAmt).containsExactly("7", "9", "11");
+    }
+
+    private TransactionHistoryRequest request(String inquiryType, String sortOrder, String fromDate,
+                                              String toDate, int pageSize, String cursor) {
+        TransactionHistoryRequest request = new TransactionHistoryRequest();
+        request.setUserCi(userCi);
+        request.setAccountNum(accountNum);
+        request.setInquiryType(inquiryType);
+        request.setSortOrder(sortOrder);
+        request.setFromDate(fromDate);
+        request.setToDate(toDate);
+        request.setPageSize(pageSize);
+        request.setBeforeInquiryTraceInfo(cursor);
+        return request;
+    }
+}
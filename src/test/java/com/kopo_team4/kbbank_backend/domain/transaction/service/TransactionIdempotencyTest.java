@@ -0,0 +1,237 @@
+package com.kopo_team4.kbbank_backend.domain.transaction.service;
+
+import com.kopo_team4.kbbank_backend.domain.account.entity.Account;
+import com.kopo_team4.kbbank_backend.domain.account.repository.AccountRepository;
+import com.kopo_team4.kbbank_backend.domain.transaction.dto.DepositRequest;
+import com.kopo_team4.kbbank_backend.domain.transaction.dto.DepositResponse;
+import com.kopo_team4.kbbank_backend.domain.transaction.dto.WithdrawRequest;
+import com.kopo_team4.kbbank_backend.domain.transaction.dto.WithdrawResponse;
+import com.kopo_team4.kbbank_backend.domain.transaction.repository.TransactionRepository;
+import com.kopo_team4.kbbank_backend.domain.user.entity.User;
+import com.kopo_team4.kbbank_backend.domain.user.repository.UserRepository;
+import com.kopo_team4.kbbank_backend.scheduler.IdempotencyCleanupScheduler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.account;
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 출금/입금 멱등성 검증 (bankTranId 재요청, 동시 중복 요청, 만료 키 정리)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TransactionIdempotencyTest {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private IdempotencyCleanupScheduler idempotencyCleanupScheduler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("같은 bankTranId의 재요청은 다시 실행하지 않고 첫 응답을 반환하며, 실패한 요청은 재시도할 수 있다")
+    void replayReturnsFirstResponse() {
+        Account account = createAccount(new BigDecimal("1000"));
+        String userCi = userCiOf(account);
+        String bankTranId = newBankTranId();
+
+        assertThatThrownBy(() -> transactionService.processWithdraw(
+                withdrawRequest(bankTranId, userCi, account.getAccountNum(), 5000)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잔액이 부족합니다.");
+
+        IdempotentResult<WithdrawResponse> first = transactionService.processWithdraw(
+                withdrawRequest(bankTranId, userCi, account.getAccountNum(), 300));
+        IdempotentResult<WithdrawResponse> replay = transactionService.processWithdraw(
+                withdrawRequest(bankTranId, userCi, account.getAccountNum(), 300));
+
+        assertThat(first.replayed()).isFalse();
+        assertThat(replay.replayed()).isTrue();
+        assertThat(replay.response().getBankTranId()).isEqualTo(first.response().getBankTranId());
+        assertThat(replay.response().getWdLimitRemainAmt()).isEqualByComparingTo("700");
+        assertThat(accountRepository.findById(account.getAccountId()).orElseThrow().getBalanceAmt())
+                .isEqualByComparingTo("700");
+        assertThat(transactionRepository.findByAccountId(account.getAccountId())).hasSize(1);
+
+        assertThatThrownBy(() -> transactionService.processWithdraw(
+                withdrawRequest(bankTranId, userCi, account.getAccountNum(), 400)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        IdempotentResult<DepositResponse> deposit =
+                transactionService.processDeposit(depositRequest(bankTranId, account.getAccountNum(), 50));
+        IdempotentResult<DepositResponse> depositReplay =
+                transactionService.processDeposit(depositRequest(bankTranId, account.getAccountNum(), 50));
+        assertThat(depositReplay.replayed()).isTrue();
+        assertThat(depositReplay.response().getBankTranId()).isEqualTo(deposit.response().getBankTranId());
+        assertThat(accountRepository.findById(account.getAccountId()).orElseThrow().getBalanceAmt())
+                .isEqualByComparingTo("750");
+    }
+
+    @Test
+    @DisplayName("금액 표기만 다른 재요청(1000 / 1000.00)은 같은 요청으로 보고 첫 응답을 반환한다")
+    void replayIgnoresAmountScale() {
+        Account account = createAccount(new BigDecimal("5000"));
+        String userCi = userCiOf(account);
+        String bankTranId = newBankTranId();
+
+        WithdrawRequest first = withdrawRequest(bankTranId, userCi, account.getAccountNum(), new BigDecimal("1000"));
+        WithdrawRequest retry = withdrawRequest(bankTranId, userCi, account.getAccountNum(), new BigDecimal("1000.00"));
+
+        WithdrawResponse response = transactionService.processWithdraw(first).response();
+        IdempotentResult<WithdrawResponse> replay = transactionService.processWithdraw(retry);
+        assertThat(replay.replayed()).isTrue();
+        assertThat(replay.response().getBankTranId()).isEqualTo(response.getBankTranId());
+        assertThat(accountRepository.findById(account.getAccountId()).orElseThrow().getBalanceAmt())
+                .isEqualByComparingTo("4000");
+
+        DepositRequest deposit = depositRequest(bankTranId, account.getAccountNum(), new BigDecimal("10"));
+        DepositRequest depositRetry = depositRequest(bankTranId, account.getAccountNum(), new BigDecimal("10.0"));
+        transactionService.processDeposit(deposit);
+        transactionService.processDeposit(depositRetry);
+        assertThat(accountRepository.findById(account.getAccountId()).orElseThrow().getBalanceAmt())
+                .isEqualByComparingTo("4010");
+    }
+
+    @Test
+    @DisplayName("같은 bankTranId가 동시에 들어와도 한 번만 출금된다")
+    void concurrentDuplicatesDebitOnce() throws Exception {
+        int threads = 16;
+        Account account = createAccount(new BigDecimal("10000"));
+        String userCi = userCiOf(account);
+        String bankTranId = newBankTranId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    return transactionService.processWithdraw(
+                            withdrawRequest(bankTranId, userCi, account.getAccountNum(), 100)).response().getBankTranId();
+                } catch (IllegalStateException e) {
+                    // 첫 요청이 아직 처리 중 (재시도 대상)
+                    return null;
+                }
+            }));
+        }
+        start.countDown();
+        List<String> tranIds = new ArrayList<>();
+        for (Future<String> future : futures) {
+            String tranId = future.get(1, TimeUnit.MINUTES);
+            if (tranId != null) {
+                tranIds.add(tranId);
+            }
+        }
+        executor.shutdown();
+
+        assertThat(tranIds).isNotEmpty();
+        assertThat(tranIds).containsOnly(tranIds.get(0));
+        assertThat(accountRepository.findById(account.getAccountId()).orElseThrow().getBalanceAmt())
+                .isEqualByComparingTo("9900");
+        assertThat(transactionRepository.findByAccountId(account.getAccountId())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 일자 파티션의 키만 삭제된다")
+    void cleanupPurgesExpiredPartitions() {
+        String expiredKey = newBankTranId();
+        String recentKey = newBankTranId();
+        insertKey(expiredKey, LocalDate.now().minusDays(10));
+        insertKey(recentKey, LocalDate.now());
+
+        idempotencyCleanupScheduler.purgeExpired();
+
+        assertThat(countKeys(expiredKey)).isZero();
+        assertThat(countKeys(recentKey)).isOne();
+    }
+
+    private void insertKey(String key, LocalDate partitionDay) {
+        jdbcTemplate.update("INSERT INTO kbbank_idempotency_key"
+                        + " (idempotency_key, operation, request_hash, response_body, partition_day, created_at)"
+                        + " VALUES (?, 'WITHDRAW', 'hash', '{}', ?, ?)",
+                key, Date.valueOf(partitionDay), Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private int countKeys(String key) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM kbbank_idempotency_key WHERE idempotency_key = ?", Integer.class, key);
+    }
+
+    private String newBankTranId() {
+        return "M202300001U" + UUID.randomUUID().toString().replace("-", "").substring(0, 9);
+    }
+
+    private Account createAccount(BigDecimal balance) {
+        User user = userRepository.save(user().build());
+        return accountRepository.save(account(user).balanceAmt(balance).build());
+    }
+
+    private String userCiOf(Account account) {
+        return userRepository.findById(account.getUserId()).orElseThrow().getUserCi();
+    }
+
+    private WithdrawRequest withdrawRequest(String bankTranId, String userCi, String accountNum, long amount) {
+        return withdrawRequest(bankTranId, userCi, accountNum, BigDecimal.valueOf(amount));
+    }
+
+    private WithdrawRequest withdrawRequest(String bankTranId, String userCi, String accountNum, BigDecimal amount) {
+        return WithdrawRequest.builder()
+                .bankTranId(bankTranId)
+                .userCI(userCi)
+                .wdAccountNum(accountNum)
+                .tranAmt(amount)
+                .dpsPrintContent("멱등출금")
+                .reqClientName("홍길동")
+                .build();
+    }
+
+    private DepositRequest depositRequest(String bankTranId, String accountNum, long amount) {
+        return depositRequest(bankTranId, accountNum, BigDecimal.valueOf(amount));
+    }
+
+    private DepositRequest depositRequest(String bankTranId, String accountNum, BigDecimal amount) {
+        return DepositRequest.builder()
+                .bankTranId(bankTranId)
+                .tranNo("1")
+                .reqClientNum(accountNum)
+                .tranAmt(amount)
+                .printContent("멱등입금")
+                .accountHolderName("홍길동")
+                .tranDtime("20240101120000")
+                .build();
+    }
+}
@@ -0,0 +1,154 @@
+package com.kopo_team4.kbbank_backend.domain.transaction.service;
+
+import com.kopo_team4.kbbank_backend.domain.account.entity.Account;
+import com.kopo_team4.kbbank_backend.domain.account.repository.AccountRepository;
+import com.kopo_team4.kbbank_backend.domain.transaction.dto.DepositRequest;
+import com.kopo_team4.kbbank_backend.domain.transaction.dto.WithdrawRequest;
+import com.kopo_team4.kbbank_backend.domain.transaction.repository.TransactionRepository;
+import com.kopo_team4.kbbank_backend.domain.user.entity.User;
+import com.kopo_team4.kbbank_backend.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.account;
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 출금/입금 동시성 검증 (임베디드 H2, 64개 동시 작성자)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TransactionServiceConcurrencyTest {
+
+    private static final int WRITERS = 64;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Test
+    @DisplayName("64개 스레드가 동시에 출금/입금해도 갱신 유실이 없다")
+    void concurrentWithdrawAndDepositLoseNoUpdates() throws Exception {
+        int iterations = 20;
+        Account account = createAccount(new BigDecimal("1000000"));
+        String userCi = userCiOf(account);
+
+        runWriters(writer -> {
+            for (int i = 0; i < iterations; i++) {
+                transactionService.processWithdraw(withdrawRequest(userCi, account.getAccountNum(), 300));
+                transactionService.processDeposit(depositRequest(account.getAccountNum(), 200));
+            }
+        });
+
+        Account reloaded = accountRepository.findById(account.getAccountId()).orElseThrow();
+        BigDecimal expected = new BigDecimal("1000000")
+                .subtract(BigDecimal.valueOf(100L * WRITERS * iterations));
+        assertThat(reloaded.getBalanceAmt()).isEqualByComparingTo(expected);
+        assertThat(transactionRepository.findByAccountId(account.getAccountId()))
+                .hasSize(WRITERS * iterations * 2);
+    }
+
+    @Test
+    @DisplayName("잔액을 초과하는 동시 출금은 정확히 잔액만큼만 성공한다")
+    void concurrentWithdrawNeverOverdraws() throws Exception {
+        Account account = createAccount(BigDecimal.valueOf(100L * WRITERS));
+        String userCi = userCiOf(account);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        runWriters(writer -> {
+            for (int i = 0; i < 3; i++) {
+                try {
+                    transactionService.processWithdraw(withdrawRequest(userCi, account.getAccountNum(), 100));
+                    succeeded.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    assertThat(e.getMessage()).isEqualTo("잔액이 부족합니다.");
+                    rejected.incrementAndGet();
+                }
+            }
+        });
+
+        Account reloaded = accountRepository.findById(account.getAccountId()).orElseThrow();
+        assertThat(reloaded.getBalanceAmt()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(succeeded.get()).isEqualTo(WRITERS);
+        assertThat(rejected.get()).isEqualTo(WRITERS * 2);
+        assertThat(transactionRepository.findByAccountId(account.getAccountId())).hasSize(WRITERS);
+    }
+
+    private void runWriters(WriterTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int w = 0; w < WRITERS; w++) {
+                int writer = w;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(writer);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Account createAccount(BigDecimal balance) {
+        User user = userRepository.save(user().build());
+        return accountRepository.save(account(user).balanceAmt(balance).build());
+    }
+
+    private String userCiOf(Account account) {
+        return userRepository.findById(account.getUserId()).orElseThrow().getUserCi();
+    }
+
+    private WithdrawRequest withdrawRequest(String userCi, String accountNum, long amount) {
+        return WithdrawRequest.builder()
+                .userCI(userCi)
+                .wdAccountNum(accountNum)
+                .tranAmt(BigDecimal.valueOf(amount))
+                .dpsPrintContent("동시성출금")
+                .reqClientName("홍길동")
+                .build();
+    }
+
+    private DepositRequest depositRequest(String accountNum, long amount) {
+        return DepositRequest.builder()
+                .reqClientNum(accountNum)
+                .tranAmt(BigDecimal.valueOf(amount))
+                .printContent("동시성입금")
+                .accountHolderName("홍길동")
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface WriterTask {
+        void run(int writer) throws Exception;
+    }
+}
@@ -0,0 +1,70 @@
+package com.kopo_team4.kbbank_backend.domain.user.service;
+
+import com.kopo_team4.kbbank_backend.domain.user.dto.UserCreateRequest;
+import com.kopo_team4.kbbank_backend.domain.user.dto.UserDeleteRequest;
+import com.kopo_team4.kbbank_backend.domain.user.dto.UserUpdateRequest;
+import com.kopo_team4.kbbank_backend.domain.user.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 조회 캐시 적재/무효화 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserCacheTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Test
+    @DisplayName("한 번 조회한 사용자는 CI/userId/userNum 어느 키로든 캐시에서 반환된다")
+    void cachesUserUnderAllKeys() {
+        String userCi = createUser();
+
+        User user = userCache.findByUserCi(userCi).orElseThrow();
+        long hitsBefore = userCache.getStats().getHitCount();
+
+        assertThat(userCache.findByUserCi(userCi)).containsSame(user);
+        assertThat(userCache.findByUserId(user.getUserId())).containsSame(user);
+        assertThat(userCache.findByUserNum(user.getUserNum())).containsSame(user);
+        assertThat(userCache.getStats().getHitCount() - hitsBefore).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("사용자 수정/삭제 시 캐시가 무효화되어 변경 내용이 바로 조회된다")
+    void invalidatesOnUpdateAndDelete() {
+        String userCi = createUser();
+        String userId = userCache.findByUserCi(userCi).orElseThrow().getUserId();
+
+        userService.updateUserByCi(UserUpdateRequest.builder()
+                .userCi(userCi)
+                .username("김철수")
+                .build());
+        assertThat(userCache.findByUserId(userId).orElseThrow().getUsername()).isEqualTo("김철수");
+
+        userService.deleteUserByRequest(UserDeleteRequest.builder().userCi(userCi).build());
+        assertThat(userCache.findByUserCi(userCi)).isEmpty();
+        assertThat(userCache.findByUserId(userId)).isEmpty();
+    }
+
+    private String createUser() {
+        String suffix = UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        return userService.createUser(UserCreateRequest.builder()
+                .userCi("CI_" + suffix)
+                .userNum(suffix)
+                .username("홍길동")
+                .phoneNumber("010-0000-0000")
+                .build()).getUserCi();
+    }
+}
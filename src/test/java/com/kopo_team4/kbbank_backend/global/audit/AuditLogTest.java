@@ -0,0 +1,128 @@
+package com.kopo_team4.kbbank_backend.global.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 감사 로그 링 버퍼 / 기록 스레드 / 롤링 파일 검증
+ */
+class AuditLogTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발행해도 발행된 이벤트는 모두 기록되고 버려진 건수는 AUDIT_DROPPED로 남는다")
+    void concurrentPublishersAreWrittenOrCounted() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        AuditLog auditLog = new AuditLog(true, 1024, directory.toString(), 100, 30);
+        auditLog.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String account = "110-000000000" + t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                int accepted = 0;
+                for (int i = 0; i < perThread; i++) {
+                    if (auditLog.record(AuditEventType.WITHDRAW, AuditOutcome.SUCCESS, account,
+                            BigDecimal.TEN, i, null, System.nanoTime(), null)) {
+                        accepted++;
+                    }
+                }
+                return accepted;
+            }));
+        }
+        start.countDown();
+        int accepted = 0;
+        for (Future<Integer> future : futures) {
+            accepted += future.get();
+        }
+        executor.shutdown();
+        auditLog.destroy();
+
+        AuditLog.Stats stats = auditLog.getStats();
+        assertThat(stats.getPublished()).isEqualTo(accepted);
+        assertThat(stats.getPublished() + stats.getDropped()).isEqualTo((long) threads * perThread);
+        assertThat(stats.getPending()).isZero();
+
+        List<JsonNode> lines = readLines();
+        long events = lines.stream().filter(line -> "WITHDRAW".equals(line.get("type").asText())).count();
+        long droppedReported = lines.stream()
+                .filter(line -> "AUDIT_DROPPED".equals(line.get("type").asText()))
+                .mapToLong(line -> line.get("count").asLong())
+                .sum();
+        assertThat(events).isEqualTo(accepted);
+        assertThat(droppedReported).isEqualTo(stats.getDropped());
+        assertThat(stats.getWritten()).isEqualTo(lines.size());
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 발행이 대기하지 않고 버려지며, 소비 후 다시 발행된다")
+    void fullBufferDropsInsteadOfBlocking() {
+        AuditRingBuffer ring = new AuditRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            long sequence = ring.tryClaim();
+            ring.slot(sequence).set(0, 0, AuditEventType.DEPOSIT, AuditOutcome.SUCCESS, null, null, i, null, null);
+            ring.publish(sequence);
+        }
+        assertThat(ring.tryClaim()).isEqualTo(-1);
+        assertThat(ring.droppedCount()).isOne();
+
+        List<Object> drained = new ArrayList<>();
+        assertThat(ring.drain(event -> drained.add(event.reference), 2)).isEqualTo(2);
+        assertThat(drained).containsExactly(0, 1);
+        assertThat(ring.tryClaim()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("파일 크기를 넘으면 같은 일자의 다음 인덱스 파일로 롤링한다")
+    void rollsBySize() throws Exception {
+        LocalDate day = LocalDate.of(2026, 1, 2);
+        byte[] line = "{\"type\":\"DEPOSIT\"}\n".getBytes(StandardCharsets.UTF_8);
+        try (RollingAuditFileWriter writer = new RollingAuditFileWriter(directory, line.length * 3L, 30)) {
+            for (int i = 0; i < 7; i++) {
+                writer.write(day, line, line.length);
+            }
+        }
+
+        assertThat(directory.resolve("audit-2026-01-02.jsonl")).hasSize(line.length * 3L);
+        assertThat(directory.resolve("audit-2026-01-02.1.jsonl")).hasSize(line.length * 3L);
+        assertThat(directory.resolve("audit-2026-01-02.2.jsonl")).hasSize(line.length);
+    }
+
+    private List<JsonNode> readLines() throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    lines.add(objectMapper.readTree(line));
+                }
+            }
+        }
+        return lines;
+    }
+}
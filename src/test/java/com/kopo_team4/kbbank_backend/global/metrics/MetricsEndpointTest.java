@@ -0,0 +1,81 @@
+package com.kopo_team4.kbbank_backend.global.metrics;
+
+import com.kopo_team4.kbbank_backend.scheduler.IdempotencyCleanupScheduler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 지연 시간 지표 검증 (히스토그램 정확도, /api/health/metrics 출력)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ScheduledTaskHolder scheduledTaskHolder;
+
+    @Test
+    @DisplayName("백분위수는 상대 오차 1/32 이내로 계산되고, 구간이 지나면 최근 값만 반영된다")
+    void histogramQuantilesWithinRelativeError() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram(TimeUnit.MILLISECONDS.toNanos(200));
+        for (long micros = 1; micros <= 10_000; micros++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.count()).isEqualTo(10_000);
+        assertThat(snapshot.maxNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+        assertThat((double) snapshot.valueAtQuantile(0.5)).isBetween(5_000_000d, 5_000_000d * (1 + 1 / 32d));
+        assertThat((double) snapshot.valueAtQuantile(0.99)).isBetween(9_900_000d, 9_900_000d * (1 + 1 / 32d));
+        assertThat(snapshot.valueAtQuantile(1.0)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+
+        Thread.sleep(450);
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(3));
+        LatencyHistogram.Snapshot recent = histogram.snapshot();
+        assertThat(recent.count()).isEqualTo(10_001);
+        assertThat(recent.maxNanos()).isEqualTo(3_000);
+        assertThat(recent.valueAtQuantile(0.99)).isEqualTo(3_000);
+    }
+
+    @Test
+    @DisplayName("컨트롤러 경로, 리포지토리 메서드, 커넥션 풀 대기, 스케줄 작업 시간이 Prometheus 형식으로 노출된다")
+    void endpointExposesPrometheusText() throws Exception {
+        mockMvc.perform(get("/api/v1/products/active")).andExpect(status().isOk());
+        scheduledTaskHolder.getScheduledTasks().stream()
+                .filter(task -> task.toString().endsWith(IdempotencyCleanupScheduler.class.getSimpleName() + ".purgeExpired"))
+                .findFirst()
+                .orElseThrow()
+                .getTask().getRunnable().run();
+
+        String body = mockMvc.perform(get("/api/health/metrics"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body).contains("# TYPE kbbank_http_server_requests_seconds summary");
+        assertThat(body).contains("kbbank_http_server_requests_seconds_count{method=\"GET\","
+                + "route=\"/api/v1/products/active\",outcome=\"SUCCESS\"}");
+        assertThat(body).contains("kbbank_http_server_requests_seconds{method=\"GET\","
+                + "route=\"/api/v1/products/active\",outcome=\"SUCCESS\",quantile=\"0.99\"}");
+        assertThat(body).containsPattern("kbbank_repository_invocations_seconds_count\\{repository=\"\\w+Repository\"");
+        assertThat(body).containsPattern("kbbank_hikari_connection_acquire_seconds_count\\{pool=\"[^\"]+\"} [1-9]");
+        assertThat(body).contains("kbbank_hikari_connections{pool=");
+        assertThat(body).containsPattern("kbbank_scheduled_task_seconds_count"
+                + "\\{task=\"IdempotencyCleanupScheduler.purgeExpired\",outcome=\"SUCCESS\"} [1-9]");
+    }
+}
@@ -0,0 +1,53 @@
+package com.kopo_team4.kbbank_backend.global.time;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 날짜 변환 결과가 DateTimeFormatter / LocalDate와 같은지 검증
+ */
+class DateCodecTest {
+
+    @Test
+    @DisplayName("1900~2100년 모든 날짜의 문자열/정수 키/epoch day 변환이 포맷터와 LocalDate 결과와 같다")
+    void matchesFormatterForEveryDay() {
+        for (LocalDate day = LocalDate.of(1900, 1, 1); day.getYear() <= 2100; day = day.plusDays(1)) {
+            String text = day.format(DateCodec.YYYYMMDD);
+            int key = DateCodec.parseInt(text);
+
+            assertThat(DateCodec.formatDate(day)).isEqualTo(text);
+            assertThat(key).isEqualTo(DateCodec.toInt(day)).isEqualTo(Integer.parseInt(text));
+            assertThat(DateCodec.toEpochDay(key)).isEqualTo(day.toEpochDay());
+            assertThat(DateCodec.parseDate(text)).isEqualTo(day);
+        }
+    }
+
+    @Test
+    @DisplayName("시각은 HHmmss / yyyyMMddHHmmss 포맷터와 같은 문자열로 변환한다")
+    void formatsTimeLikeFormatter() {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 3, 5, 7, 8, 9, 123_000_000);
+
+        assertThat(DateCodec.formatTime(dateTime)).isEqualTo(dateTime.format(DateCodec.HHMMSS)).isEqualTo("070809");
+        assertThat(DateCodec.formatDateTime(dateTime)).isEqualTo(dateTime.format(DateCodec.YYYYMMDDHHMMSS));
+    }
+
+    @Test
+    @DisplayName("8자리 숫자가 아니거나 존재하지 않는 날짜는 INVALID, LocalDate 변환은 예외")
+    void rejectsMalformedDates() {
+        for (String text : new String[]{null, "", "2024010", "202401011", "2024XX01", "2024-1-1", "20241301",
+                "20240230", "20230229", "20240431", "20240100"}) {
+            assertThat(DateCodec.parseInt(text)).as(text).isEqualTo(DateCodec.INVALID);
+        }
+        assertThat(DateCodec.parseInt("20240229")).isEqualTo(20240229);
+        assertThatThrownBy(() -> DateCodec.parseDate("20230229")).isInstanceOf(DateTimeParseException.class);
+        assertThatThrownBy(() -> DateCodec.toEpochDay(DateCodec.INVALID)).isInstanceOf(DateTimeException.class);
+    }
+}
@@ -0,0 +1,85 @@
+package com.kopo_team4.kbbank_backend.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 스트라이프 계좌 락 검증
+ */
+class AccountLockManagerTest {
+
+    @Test
+    @DisplayName("동기/비동기 획득이 섞여도 같은 계좌 작업은 동시에 실행되지 않는다")
+    void mixedSyncAndAsyncAcquisitionsAreMutuallyExclusive() throws Exception {
+        AccountLockManager lockManager = new AccountLockManager(4);
+        ExecutorService blockingExecutor = Executors.newFixedThreadPool(8);
+        ExecutorService asyncExecutor = Executors.newFixedThreadPool(2);
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+        Runnable criticalSection = () -> {
+            maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+            Thread.onSpinWait();
+            inside.decrementAndGet();
+            completed.incrementAndGet();
+        };
+
+        try {
+            List<CompletableFuture<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                if (i % 2 == 0) {
+                    futures.add(CompletableFuture.runAsync(
+                            () -> lockManager.executeWithAccountLock(7L, criticalSection), blockingExecutor));
+                } else {
+                    futures.add(lockManager.executeWithAccountLockAsync(7L, () -> {
+                        criticalSection.run();
+                        return null;
+                    }, asyncExecutor));
+                }
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+        } finally {
+            blockingExecutor.shutdownNow();
+            asyncExecutor.shutdownNow();
+        }
+
+        assertThat(maxInside.get()).isEqualTo(1);
+        assertThat(completed.get()).isEqualTo(2_000);
+        AccountLockManager.LockStats stats = lockManager.getStats();
+        assertThat(stats.getStripes()).isEqualTo(4);
+        assertThat(stats.getAcquisitions()).isEqualTo(2_000);
+    }
+
+    @Test
+    @DisplayName("비동기 작업이 실패해도 락이 해제되어 다음 대기자가 실행된다")
+    void asyncFailureReleasesLock() throws Exception {
+        AccountLockManager lockManager = new AccountLockManager();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch ran = new CountDownLatch(1);
+
+        try {
+            CompletableFuture<Object> failed = lockManager.executeWithAccountLockAsync(1L, () -> {
+                throw new IllegalStateException("실패");
+            }, executor);
+
+            assertThatThrownBy(() -> failed.get(1, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            lockManager.executeWithAccountLock(1L, ran::countDown);
+            assertThat(ran.await(1, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.kopo_team4.kbbank_backend.scheduler;
+
+import com.kopo_team4.kbbank_backend.domain.autotransfer.entity.AutoTransfer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계좌 그룹 분배 / 집계 검증
+ */
+class AutoTransferDispatcherTest {
+
+    @Test
+    @DisplayName("그룹 처리 도중 예외가 나면 이미 집계된 건은 그대로 두고 남은 건만 실패로 집계한다")
+    void countsOnlyUnrecordedTransfersWhenGroupFails() throws Exception {
+        AutoTransferDispatcher dispatcher = new AutoTransferDispatcher(new AccountLockManager(4), 1);
+        Map<Long, List<AutoTransfer>> groups = new LinkedHashMap<>();
+        groups.put(1L, List.of(transfer(1L, 1L), transfer(1L, 2L), transfer(1L, 3L), transfer(1L, 4L)));
+        groups.put(2L, List.of(transfer(2L, 5L)));
+
+        AutoTransferRunSummary summary = dispatcher.dispatch(groups, transfer -> {
+            if (transfer.getAutoTransferId() == 3L) {
+                throw new IllegalStateException("실행 함수 오류");
+            }
+            return AutoTransferOutcome.SUCCEEDED;
+        });
+        dispatcher.destroy();
+
+        assertThat(summary.getProcessed()).isEqualTo(5);
+        assertThat(summary.getSucceeded()).isEqualTo(3);
+        assertThat(summary.getFailed()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여러 청크를 분배해도 같은 작업 스레드 풀을 재사용한다")
+    void reusesWorkerPoolAcrossChunks() throws Exception {
+        AutoTransferDispatcher dispatcher = new AutoTransferDispatcher(new AccountLockManager(4), 2);
+        Set<String> workerThreads = ConcurrentHashMap.newKeySet();
+        try {
+            for (int chunk = 0; chunk < 20; chunk++) {
+                Map<Long, List<AutoTransfer>> groups = new LinkedHashMap<>();
+                for (long account = 0; account < 4; account++) {
+                    groups.put(account, List.of(transfer(account, chunk * 4L + account)));
+                }
+                AutoTransferRunSummary summary = dispatcher.dispatch(groups, transfer -> {
+                    workerThreads.add(Thread.currentThread().getName());
+                    return AutoTransferOutcome.SUCCEEDED;
+                });
+                assertThat(summary.getSucceeded()).isEqualTo(4);
+            }
+        } finally {
+            dispatcher.destroy();
+        }
+
+        assertThat(workerThreads).hasSizeLessThanOrEqualTo(2)
+                .allSatisfy(name -> assertThat(name).startsWith("auto-transfer-worker-"));
+    }
+
+    private AutoTransfer transfer(Long fromAccountId, Long autoTransferId) {
+        return AutoTransfer.builder()
+                .autoTransferId(autoTransferId)
+                .fromAccountId(fromAccountId)
+                .build();
+    }
+}
@@ -0,0 +1,381 @@
+package com.kopo_team4.kbbank_backend.scheduler;
+
+import com.kopo_team4.kbbank_backend.domain.account.entity.Account;
+import com.kopo_team4.kbbank_backend.domain.account.repository.AccountRepository;
+import com.kopo_team4.kbbank_backend.domain.account.service.AccountBalanceManager;
+import com.kopo_team4.kbbank_backend.domain.autotransfer.entity.AutoTransfer;
+import com.kopo_team4.kbbank_backend.domain.autotransfer.entity.AutoTransferCheckpoint;
+import com.kopo_team4.kbbank_backend.domain.autotransfer.entity.AutoTransferCheckpointId;
+import com.kopo_team4.kbbank_backend.domain.autotransfer.repository.AutoTransferCheckpointRepository;
+import com.kopo_team4.kbbank_backend.domain.autotransfer.repository.AutoTransferRepository;
+import com.kopo_team4.kbbank_backend.domain.autotransfer.service.InstallmentManager;
+import com.kopo_team4.kbbank_backend.domain.autotransfer.service.ScheduleParser;
+import com.kopo_team4.kbbank_backend.domain.transaction.dto.TransactionHistoryItem;
+import com.kopo_team4.kbbank_backend.domain.transaction.dto.TransactionHistoryRequest;
+import com.kopo_team4.kbbank_backend.domain.transaction.dto.TransactionHistoryResponse;
+import com.kopo_team4.kbbank_backend.domain.transaction.repository.TransactionRepository;
+import com.kopo_team4.kbbank_backend.domain.transaction.service.TransactionService;
+import com.kopo_team4.kbbank_backend.domain.user.entity.User;
+import com.kopo_team4.kbbank_backend.domain.user.repository.UserRepository;
+import com.kopo_team4.kbbank_backend.global.audit.AuditLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.account;
+import static com.kopo_team4.kbbank_backend.support.TestFixtures.user;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자동이체 스케줄러 청크/체크포인트/파티션 리스 처리 검증 (청크 크기 2, 파티션 2개)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "scheduler.auto-transfer.chunk-size=2",
+        "scheduler.auto-transfer.parallelism=2",
+        "scheduler.auto-transfer.partitions=2"
+})
+class AutoTransferSchedulerTest {
+
+    @Autowired
+    private AutoTransferScheduler autoTransferScheduler;
+
+    @Autowired
+    private AutoTransferRepository autoTransferRepository;
+
+    @Autowired
+    private AutoTransferCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private Account richAccount;
+    private Account emptyAccount;
+
+    @BeforeEach
+    void setUp() {
+        autoTransferRepository.deleteAll();
+        checkpointRepository.deleteAll();
+        richAccount = createAccount(new BigDecimal("1000000"));
+        emptyAccount = createAccount(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("실행 예정 자동이체를 청크 단위로 모두 처리하고 체크포인트를 완료 처리한다")
+    void processesAllChunksAndCompletesCheckpoint() {
+        for (int i = 0; i < 3; i++) {
+            createDueTransfer(richAccount);
+        }
+        createDueTransfer(emptyAccount);
+        createDueTransfer(emptyAccount);
+
+        autoTransferScheduler.executeScheduledTransfers();
+
+        List<AutoTransferCheckpoint> checkpoints = checkpointRepository.findByRunDate(LocalDate.now());
+        assertThat(checkpoints).hasSize(2)
+                .allSatisfy(checkpoint -> {
+                    assertThat(checkpoint.getStatus()).isEqualTo("COMPLETED");
+                    assertThat(checkpoint.getLeaseOwner()).isNull();
+                });
+        assertThat(checkpoints.stream().mapToLong(AutoTransferCheckpoint::getProcessedCount).sum()).isEqualTo(5);
+        assertThat(checkpoints.stream().mapToLong(AutoTransferCheckpoint::getSucceededCount).sum()).isEqualTo(3);
+        assertThat(checkpoints.stream().mapToLong(AutoTransferCheckpoint::getFailedCount).sum()).isEqualTo(2);
+        assertThat(transactionRepository.findByAccountId(richAccount.getAccountId())).hasSize(3);
+        assertThat(transactionRepository.findByAccountId(emptyAccount.getAccountId())).isEmpty();
+        assertThat(balanceOf(richAccount)).isEqualByComparingTo("970000");
+        assertThat(balanceOf(emptyAccount)).isEqualByComparingTo("0");
+        assertThat(autoTransferRepository.findByFromAccountId(emptyAccount.getAccountId()))
+                .extracting(AutoTransfer::getLastExecutionStatus)
+                .containsOnly("FAILED");
+
+        // 같은 날 다시 실행해도 재처리하지 않음
+        autoTransferScheduler.executeScheduledTransfers();
+        assertThat(transactionRepository.findByAccountId(richAccount.getAccountId())).hasSize(3);
+        assertThat(balanceOf(richAccount)).isEqualByComparingTo("970000");
+    }
+
+    @Test
+    @DisplayName("자동이체 출금 거래는 차감 후 잔액과 함께 기록되어 거래내역 조회에 포함된다")
+    void autoTransferLedgerRowAppearsInHistory() {
+        createDueTransfer(richAccount);
+        createDueTransfer(richAccount);
+
+        autoTransferScheduler.executeScheduledTransfers();
+
+        TransactionHistoryRequest request = new TransactionHistoryRequest();
+        request.setUserCi(userRepository.findById(richAccount.getUserId()).orElseThrow().getUserCi());
+        request.setAccountNum(richAccount.getAccountNum());
+        request.setInquiryType("A");
+        request.setSortOrder("D");
+        request.setPageSize(10);
+        TransactionHistoryResponse history = transactionService.getTransactionHistory(request);
+
+        assertThat(history.getResList())
+                .extracting(TransactionHistoryItem::getAfterBalanceAmt)
+                .map(BigDecimal::new)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactlyInAnyOrder(new BigDecimal("990000"), new BigDecimal("980000"));
+        assertThat(balanceOf(richAccount)).isEqualByComparingTo("980000");
+    }
+
+    @Test
+    @DisplayName("진행 중 체크포인트가 있으면 마지막 처리 키 이후부터 재개한다")
+    void resumesAfterLastCheckpointedKey() {
+        List<AutoTransfer> transfers = List.of(
+                createDueTransfer(richAccount), createDueTransfer(richAccount), createDueTransfer(richAccount));
+        AutoTransfer lastCheckpointed = transfers.get(1);
+        checkpointRepository.save(AutoTransferCheckpoint.builder()
+                .runDate(LocalDate.now())
+                .partitionNo(partitionOf(richAccount))
+                .lastFromAccountId(lastCheckpointed.getFromAccountId())
+                .lastAutoTransferId(lastCheckpointed.getAutoTransferId())
+                .status("RUNNING")
+                .processedCount(2L)
+                .succeededCount(2L)
+                .failedCount(0L)
+                .skippedCount(0L)
+                .build());
+
+        autoTransferScheduler.executeScheduledTransfers();
+
+        AutoTransferCheckpoint checkpoint = checkpointRepository.findById(
+                new AutoTransferCheckpointId(LocalDate.now(), partitionOf(richAccount))).orElseThrow();
+        assertThat(checkpoint.getStatus()).isEqualTo("COMPLETED");
+        assertThat(checkpoint.getProcessedCount()).isEqualTo(3);
+        assertThat(transactionRepository.findByAccountId(richAccount.getAccountId())).hasSize(1);
+        assertThat(autoTransferRepository.findById(transfers.get(2).getAutoTransferId()).orElseThrow()
+                .getLastExecutionStatus()).isEqualTo("SUCCESS");
+        assertThat(autoTransferRepository.findById(transfers.get(0).getAutoTransferId()).orElseThrow()
+                .getLastExecutionStatus()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 리스를 보유한 파티션은 처리하지 않는다")
+    void skipsPartitionLeasedByAnotherInstance() {
+        createDueTransfer(richAccount);
+        checkpointRepository.save(AutoTransferCheckpoint.builder()
+                .runDate(LocalDate.now())
+                .partitionNo(partitionOf(richAccount))
+                .lastFromAccountId(0L)
+                .lastAutoTransferId(0L)
+                .status("RUNNING")
+                .leaseOwner("other-instance")
+                .leaseExpiresAt(LocalDateTime.now().plusMinutes(5))
+                .processedCount(0L)
+                .succeededCount(0L)
+                .failedCount(0L)
+                .skippedCount(0L)
+                .build());
+
+        autoTransferScheduler.executeScheduledTransfers();
+
+        assertThat(transactionRepository.findByAccountId(richAccount.getAccountId())).isEmpty();
+        AutoTransferCheckpoint leased = checkpointRepository.findById(
+                new AutoTransferCheckpointId(LocalDate.now(), partitionOf(richAccount))).orElseThrow();
+        assertThat(leased.getStatus()).isEqualTo("RUNNING");
+        assertThat(leased.getLeaseOwner()).isEqualTo("other-instance");
+    }
+
+    @Test
+    @DisplayName("청크 처리 도중 종료된 인스턴스의 파티션은 리스 만료 후 복구 실행에서 다른 인스턴스가 이어서 완료한다")
+    void anotherInstanceFinishesPartitionAbandonedMidChunk() {
+        List<AutoTransfer> transfers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            transfers.add(createDueTransfer(richAccount));
+        }
+        AutoTransferCheckpointId partition = new AutoTransferCheckpointId(LocalDate.now(), partitionOf(richAccount));
+
+        // 두 번째 청크(3, 4번째 이체)의 4번째 이체 도중 프로세스 종료 - 3번째는 커밋, 체크포인트는 2번째에 머묾
+        otherInstance(new HookedInstallmentManager(4, () -> {
+            throw new SimulatedCrash();
+        })).executeScheduledTransfers();
+
+        AutoTransferCheckpoint abandoned = checkpointRepository.findById(partition).orElseThrow();
+        assertThat(abandoned.getStatus()).isEqualTo("RUNNING");
+        assertThat(abandoned.getLastAutoTransferId()).isEqualTo(transfers.get(1).getAutoTransferId());
+        assertThat(transactionRepository.findByAccountId(richAccount.getAccountId())).hasSize(3);
+
+        // 리스가 유효한 동안에는 다른 인스턴스가 처리하지 않음
+        autoTransferScheduler.executeScheduledTransfers();
+        autoTransferScheduler.recoverAbandonedPartitions();
+        assertThat(transactionRepository.findByAccountId(richAccount.getAccountId())).hasSize(3);
+
+        expireLease(partition);
+        autoTransferScheduler.recoverAbandonedPartitions();
+
+        AutoTransferCheckpoint recovered = checkpointRepository.findById(partition).orElseThrow();
+        assertThat(recovered.getStatus()).isEqualTo("COMPLETED");
+        assertThat(recovered.getLeaseOwner()).isNull();
+        assertThat(transactionRepository.findByAccountId(richAccount.getAccountId())).hasSize(5);
+        assertThat(autoTransferRepository.findByFromAccountId(richAccount.getAccountId()))
+                .extracting(AutoTransfer::getLastExecutionStatus)
+                .containsOnly("SUCCESS");
+    }
+
+    @Test
+    @DisplayName("실행 도중 다른 인스턴스의 리스가 만료되면 지나친 파티션도 같은 실행에서 다시 획득하여 처리한다")
+    void reclaimsPartitionWhoseLeaseExpiresDuringRun() {
+        AutoTransferCheckpointStore checkpointStore = applicationContext.getBean(AutoTransferCheckpointStore.class);
+        // 이 인스턴스가 먼저 시도하는 파티션을 다른 인스턴스가 보유 중
+        int firstTried = Math.floorMod(checkpointStore.getInstanceId().hashCode(), 2);
+        Account heldAccount = createAccountInPartition(firstTried);
+        Account freeAccount = createAccountInPartition(1 - firstTried);
+        createDueTransfer(heldAccount);
+        createDueTransfer(freeAccount);
+        AutoTransferCheckpointId held = new AutoTransferCheckpointId(LocalDate.now(), firstTried);
+        checkpointRepository.save(AutoTransferCheckpoint.builder()
+                .runDate(LocalDate.now())
+                .partitionNo(firstTried)
+                .lastFromAccountId(0L)
+                .lastAutoTransferId(0L)
+                .status("RUNNING")
+                .leaseOwner("other-instance")
+                .leaseExpiresAt(LocalDateTime.now().plusMinutes(5))
+                .processedCount(0L)
+                .succeededCount(0L)
+                .failedCount(0L)
+                .skippedCount(0L)
+                .build());
+
+        // 두 번째 파티션을 처리하는 동안 보유 인스턴스가 종료되어 리스가 만료됨
+        instance(checkpointStore, new HookedInstallmentManager(1, () -> expireLease(held)))
+                .executeScheduledTransfers();
+
+        assertThat(checkpointRepository.findByRunDate(LocalDate.now()))
+                .hasSize(2)
+                .allSatisfy(checkpoint -> {
+                    assertThat(checkpoint.getStatus()).isEqualTo("COMPLETED");
+                    assertThat(checkpoint.getLeaseOwner()).isNull();
+                });
+        assertThat(transactionRepository.findByAccountId(heldAccount.getAccountId())).hasSize(1);
+        assertThat(transactionRepository.findByAccountId(freeAccount.getAccountId())).hasSize(1);
+    }
+
+    /**
+     * 별도 인스턴스 식별자로 리스를 잡는 스케줄러
+     */
+    private AutoTransferScheduler otherInstance(InstallmentManager installmentManager) {
+        return instance(applicationContext.getAutowireCapableBeanFactory().createBean(AutoTransferCheckpointStore.class),
+                installmentManager);
+    }
+
+    /**
+     * 회차 갱신 시점에 동작을 끼워 넣은 스케줄러 (청크 크기 2, 파티션 2개)
+     */
+    private AutoTransferScheduler instance(AutoTransferCheckpointStore checkpointStore,
+                                           InstallmentManager installmentManager) {
+        AutoTransferScheduler instance = new AutoTransferScheduler(
+                autoTransferRepository, applicationContext.getBean(AccountBalanceManager.class),
+                transactionRepository,
+                installmentManager, applicationContext.getBean(ScheduleParser.class),
+                applicationContext.getBean(AutoTransferDispatcher.class),
+                applicationContext.getBean(AccountLockManager.class), checkpointStore,
+                applicationContext.getBean(TransactionTemplate.class), applicationContext.getBean(AuditLog.class));
+        ReflectionTestUtils.setField(instance, "chunkSize", 2);
+        ReflectionTestUtils.setField(instance, "partitions", 2);
+        return instance;
+    }
+
+    /**
+     * 리스 유효 시간 경과
+     */
+    private void expireLease(AutoTransferCheckpointId partition) {
+        AutoTransferCheckpoint checkpoint = checkpointRepository.findById(partition).orElseThrow();
+        checkpoint.setLeaseExpiresAt(LocalDateTime.now().minusSeconds(1));
+        checkpointRepository.save(checkpoint);
+    }
+
+    private int partitionOf(Account account) {
+        return (int) (account.getAccountId() % 2);
+    }
+
+    private Account createAccountInPartition(int partitionNo) {
+        Account account = createAccount(new BigDecimal("1000000"));
+        while (partitionOf(account) != partitionNo) {
+            account = createAccount(new BigDecimal("1000000"));
+        }
+        return account;
+    }
+
+    private AutoTransfer createDueTransfer(Account account) {
+        LocalDate today = LocalDate.now();
+        return autoTransferRepository.save(AutoTransfer.builder()
+                .userId(account.getUserId())
+                .fromAccountId(account.getAccountId())
+                .fromAccountNumber(account.getAccountNum())
+                .toAccountNumber("081-0000000000")
+                .toAccountName("적금")
+                .toBankCode("081")
+                .amount(new BigDecimal("10000"))
+                .schedule("매월 " + today.getDayOfMonth() + "일")
+                .nextTransferDate(today)
+                .status("ACTIVE")
+                .contractDate(today.minusMonths(1))
+                .totalInstallments(12)
+                .build());
+    }
+
+    private BigDecimal balanceOf(Account account) {
+        return accountRepository.findById(account.getAccountId()).orElseThrow().getBalanceAmt();
+    }
+
+    private Account createAccount(BigDecimal balance) {
+        User owner = userRepository.save(user().build());
+        return accountRepository.save(account(owner).balanceAmt(balance).build());
+    }
+
+    /**
+     * triggerOn 번째 회차 갱신 직전에 action 실행
+     */
+    private static class HookedInstallmentManager extends InstallmentManager {
+
+        private final int triggerOn;
+        private final Runnable action;
+        private int calls;
+
+        private HookedInstallmentManager(int triggerOn, Runnable action) {
+            this.triggerOn = triggerOn;
+            this.action = action;
+        }
+
+        @Override
+        public void updateInstallmentInfo(AutoTransfer autoTransfer) {
+            if (++calls == triggerOn) {
+                action.run();
+            }
+            super.updateInstallmentInfo(autoTransfer);
+        }
+    }
+
+    /**
+     * 프로세스 종료 대용 (업무 예외가 아니므로 실패 처리 없이 실행이 중단됨)
+     */
+    private static class SimulatedCrash extends Error {
+    }
+}
@@ -0,0 +1,69 @@
+package com.kopo_team4.kbbank_backend.support;
+
+import com.kopo_team4.kbbank_backend.domain.account.entity.Account;
+import com.kopo_team4.kbbank_backend.domain.user.entity.User;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 테스트용 사용자/계좌 엔티티 빌더
+ *
+ * 기능: 테스트끼리 겹치지 않는 식별자와 기본 필드를 채운 빌더를 반환 (저장은 각 테스트의 리포지토리로)
+ * 기준: 사용자 ID는 USER_ + 12자리 난수, CI/사용자 번호는 사용자 ID에서 파생
+ *       계좌 번호는 110- + 12자리 난수, 마스킹 번호는 뒤 4자리만 노출
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    /**
+     * 12자리 난수 문자열
+     */
+    public static String uniqueSuffix() {
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+    }
+
+    public static String randomAccountNum() {
+        return "110-" + uniqueSuffix();
+    }
+
+    /**
+     * 사용자 빌더 (이름: 홍길동)
+     */
+    public static User.UserBuilder user() {
+        String userId = "USER_" + uniqueSuffix();
+        return User.builder()
+                .userId(userId)
+                .userCi("CI_" + userId)
+                .userNum(userId.substring(5))
+                .username("홍길동")
+                .phoneNumber("010-0000-0000");
+    }
+
+    /**
+     * 입출금 계좌 빌더 (잔액 0, 개설/최종 거래일 2024-01-01)
+     */
+    public static Account.AccountBuilder account(User user) {
+        return account(user, randomAccountNum());
+    }
+
+    public static Account.AccountBuilder account(User user, String accountNum) {
+        return Account.builder()
+                .accountNum(accountNum)
+                .userId(user.getUserId())
+                .bankCodeStd("081")
+                .activityType("1")
+                .accountType("1")
+                .accountNumMasked("110-****" + accountNum.substring(accountNum.length() - 4))
+                .accountSeq("01")
+                .accountLocalCode("0000001")
+                .accountIssueDate("20240101")
+                .lastTranDate("20240101")
+                .productName("테스트 입출금")
+                .dormancyYn("N")
+                .balanceAmt(BigDecimal.ZERO)
+                .productId(1L);
+    }
+}